@@ -0,0 +1,45 @@
+#!/usr/bin/env bash
+# 같은 부하에서 플랫폼 스레드(Tomcat threads.max)와 가상 스레드(virtual-threads.enabled) 설정의 처리량과 p99 를 비교합니다.
+# DATABASE_URL, DATABASE_USERNAME, DATABASE_PASSWORD, JWT_* 환경 변수가 설정되어 있어야 하며 k6 와 jq 가 필요합니다.
+# 사용법: load-test/compare-thread-modes.sh [VUS] [DURATION]
+set -euo pipefail
+
+VUS="${1:-200}"
+DURATION="${2:-60s}"
+PORT="${PORT:-9001}"
+RESULT_DIR="build/load-test"
+ROOT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+
+cd "$ROOT_DIR"
+./gradlew -q bootJar
+JAR="$(ls build/libs/*.jar | grep -v plain | head -n 1)"
+mkdir -p "$RESULT_DIR"
+
+run_mode() {
+  local mode="$1" enabled="$2"
+  java -jar "$JAR" --server.port="$PORT" --virtual-threads.enabled="$enabled" \
+    --spring.jpa.show-sql=false > "$RESULT_DIR/app-$mode.log" 2>&1 &
+  local pid=$!
+  trap 'kill $pid 2>/dev/null || true' RETURN
+
+  for _ in $(seq 1 60); do
+    if curl -s -o /dev/null "http://localhost:$PORT/api/v1/categories"; then break; fi
+    sleep 1
+  done
+
+  k6 run --quiet -e BASE_URL="http://localhost:$PORT" -e VUS="$VUS" -e DURATION="$DURATION" -e RUN_ID="$mode$$" \
+    --summary-export "$RESULT_DIR/summary-$mode.json" load-test/expenses.js
+}
+
+run_mode platform false
+run_mode virtual true
+
+printf '\n%-10s %12s %10s %10s %10s\n' mode "req/s" "p50(ms)" "p99(ms)" "failed"
+for mode in platform virtual; do
+  jq -r --arg mode "$mode" '[$mode,
+      (.metrics.http_reqs.rate | floor),
+      (.metrics.http_req_duration.med * 100 | round / 100),
+      (.metrics.http_req_duration["p(99)"] * 100 | round / 100),
+      (.metrics.http_req_failed.value)] | @tsv' "$RESULT_DIR/summary-$mode.json" |
+    awk -F'\t' '{ printf "%-10s %12s %10s %10s %10s\n", $1, $2, $3, $4, $5 }'
+done
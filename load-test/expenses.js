@@ -0,0 +1,79 @@
+// 지출 조회 API 부하 테스트 (k6)
+// 실행: k6 run -e BASE_URL=http://localhost:9001 -e VUS=200 -e DURATION=60s load-test/expenses.js
+// 플랫폼 스레드와 가상 스레드 설정의 처리량과 p99 비교는 load-test/compare-thread-modes.sh 를 사용합니다.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:9001';
+const USER_COUNT = parseInt(__ENV.USER_COUNT || '20');
+const EXPENSES_PER_USER = parseInt(__ENV.EXPENSES_PER_USER || '50');
+const RUN_ID = __ENV.RUN_ID || `${Date.now() % 1000000}`;
+
+export const options = {
+    scenarios: {
+        read: {
+            executor: 'constant-vus',
+            vus: parseInt(__ENV.VUS || '200'),
+            duration: __ENV.DURATION || '60s',
+        },
+    },
+    summaryTrendStats: ['avg', 'med', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+function jsonParams(token) {
+    const headers = { 'Content-Type': 'application/json' };
+    if (token) headers['Authorization'] = `Bearer ${token}`;
+    return { headers };
+}
+
+function today() {
+    return new Date().toISOString().slice(0, 10);
+}
+
+export function setup() {
+    const now = new Date();
+    const tokens = [];
+    for (let i = 0; i < USER_COUNT; i++) {
+        const username = `load${RUN_ID}u${i}`;
+        const password = 'load-test-password';
+        http.post(`${BASE_URL}/api/v1/users/signup`, JSON.stringify({
+            username, email: `${username}@load.test`, password, minimumDailyExpense: 10000, agreeAlarm: false,
+        }), jsonParams());
+        const signin = http.post(`${BASE_URL}/api/v1/users/signin`,
+            JSON.stringify({ username, password }), jsonParams());
+        const token = signin.json('accessToken');
+
+        const budgetPlans = [];
+        for (let categoryId = 1; categoryId <= 12; categoryId++) {
+            budgetPlans.push({ categoryId, amount: 300000 });
+        }
+        http.post(`${BASE_URL}/api/v1/budget-plans?year=${now.getFullYear()}&month=${now.getMonth() + 1}`,
+            JSON.stringify({ budgetPlans }), jsonParams(token));
+
+        for (let e = 0; e < EXPENSES_PER_USER; e++) {
+            const datetime = new Date(now.getFullYear(), now.getMonth(), 1 + e % now.getDate(), 12, e % 60);
+            http.post(`${BASE_URL}/api/v1/expenses`, JSON.stringify({
+                datetime: datetime.toISOString().slice(0, 19), categoryId: 1 + e % 12,
+                amount: 1000 + e * 100, memo: `load ${e}`, excluded: false,
+            }), jsonParams(token));
+        }
+        tokens.push(token);
+    }
+    return { tokens };
+}
+
+export default function (data) {
+    const token = data.tokens[(__VU - 1) % data.tokens.length];
+    const params = jsonParams(token);
+    const monthStart = today().slice(0, 8) + '01';
+    const responses = http.batch([
+        ['GET', `${BASE_URL}/api/v1/expenses?startDate=${monthStart}&endDate=${today()}&categoryId=${1 + __ITER % 12}&size=20`, null, params],
+        ['GET', `${BASE_URL}/api/v1/expenses/today`, null, params],
+        ['GET', `${BASE_URL}/api/v1/expenses/recommendations`, null, params],
+        ['GET', `${BASE_URL}/api/v1/expenses/stat`, null, params],
+    ]);
+    responses.forEach(response => check(response, { 'status is 200': r => r.status === 200 }));
+}
@@ -0,0 +1,110 @@
+#!/usr/bin/env bash
+# 애플리케이션을 여러 번 시작하여 프로세스 시작부터 첫 요청에 응답할 때까지의 시간(time-to-first-request)을 측정합니다.
+# jar: bootJar 를 java -jar 로 실행, image: Dockerfile 로 만든 이미지(AppCDS 아카이브 포함)를 실행,
+# native: GraalVM 네이티브 실행 파일(./gradlew -Pnative nativeCompile)을 실행
+# 첫 요청 직후의 RSS(Resident Set Size)도 함께 측정합니다.
+# DATABASE_URL, DATABASE_USERNAME, DATABASE_PASSWORD, JWT_* 환경 변수가 설정되어 있어야 하며 curl 과 jq 가 필요합니다.
+# 사용법: load-test/startup-time.sh [jar|image|native] [RUNS]
+set -euo pipefail
+
+MODE="${1:-jar}"
+RUNS="${2:-5}"
+PORT="${PORT:-9001}"
+MANAGEMENT_PORT="${MANAGEMENT_PORT:-9002}"
+IMAGE="${IMAGE:-econome:startup}"
+RESULT_DIR="build/startup"
+ROOT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+
+cd "$ROOT_DIR"
+NATIVE="build/native/nativeCompile/econome"
+if [ "$MODE" = native ]; then
+  ./gradlew -q -Pnative nativeCompile
+else
+  ./gradlew -q bootJar
+  JAR="$(ls build/libs/*.jar | grep -v plain | head -n 1)"
+fi
+if [ "$MODE" = image ]; then
+  docker build -q -t "$IMAGE" . > /dev/null
+fi
+mkdir -p "$RESULT_DIR"
+
+now_ms() {
+  echo $(( $(date +%s%N) / 1000000 ))
+}
+
+start_app() {
+  local log="$1"
+  if [ "$MODE" = image ]; then
+    docker run -d --rm --network host \
+      -e DATABASE_URL -e DATABASE_USERNAME -e DATABASE_PASSWORD -e JWT_ISSUER -e JWT_ACCESS_KEY -e JWT_REFRESH_KEY \
+      -e SERVER_PORT="$PORT" -e MANAGEMENT_PORT="$MANAGEMENT_PORT" "$IMAGE" > "$log.cid"
+  elif [ "$MODE" = native ]; then
+    "$NATIVE" --server.port="$PORT" --management.server.port="$MANAGEMENT_PORT" > "$log" 2>&1 &
+    echo $! > "$log.pid"
+  else
+    java -jar "$JAR" --server.port="$PORT" --management.server.port="$MANAGEMENT_PORT" > "$log" 2>&1 &
+    echo $! > "$log.pid"
+  fi
+}
+
+# 실행 중인 애플리케이션의 RSS(MB)
+rss_mb() {
+  local log="$1"
+  if [ "$MODE" = image ]; then
+    docker stats --no-stream --format '{{.MemUsage}}' "$(cat "$log.cid")" |
+      awk '{ v = $1; u = v; gsub(/[0-9.]/, "", u); gsub(/[^0-9.]/, "", v);
+             if (u == "GiB") v *= 1024; else if (u == "KiB") v /= 1024; printf "%d\n", v }'
+  else
+    echo $(( $(ps -o rss= -p "$(cat "$log.pid")") / 1024 ))
+  fi
+}
+
+stop_app() {
+  local log="$1"
+  if [ "$MODE" = image ]; then
+    docker logs "$(cat "$log.cid")" > "$log" 2>&1 || true
+    docker stop "$(cat "$log.cid")" > /dev/null 2>&1 || true
+  else
+    kill "$(cat "$log.pid")" 2>/dev/null || true
+    wait "$(cat "$log.pid")" 2>/dev/null || true
+  fi
+}
+
+results=()
+rss=()
+for run in $(seq 1 "$RUNS"); do
+  log="$RESULT_DIR/app-$MODE-$run.log"
+  start=$(now_ms)
+  start_app "$log"
+  # 인증이 필요한 API 이므로 401 도 요청을 처리한 것으로 봄
+  until curl -s -o /dev/null "http://localhost:$PORT/api/v1/categories"; do
+    if [ $(( $(now_ms) - start )) -gt 120000 ]; then
+      echo "run $run: 120초 안에 시작하지 못했습니다. $log 를 확인하세요." >&2
+      stop_app "$log"
+      exit 1
+    fi
+    sleep 0.05
+  done
+  elapsed=$(( $(now_ms) - start ))
+  results+=("$elapsed")
+  rss+=("$(rss_mb "$log")")
+  if [ "$run" -eq 1 ]; then
+    # 가장 오래 걸린 시작 단계(BufferingApplicationStartup)
+    curl -s "http://localhost:$MANAGEMENT_PORT/actuator/startup" |
+      jq -r '.timeline.events | sort_by(.duration | sub("PT"; "") | sub("S"; "") | tonumber) | reverse | .[:10][] |
+        "\(.duration)\t\(.startupStep.name)\t\((.startupStep.tags // []) | map(.value) | join(","))"' \
+      > "$RESULT_DIR/steps-$MODE.tsv" || true
+  fi
+  stop_app "$log"
+  echo "run $run: ${elapsed}ms, rss ${rss[-1]}MB"
+done
+
+sorted=($(printf '%s\n' "${results[@]}" | sort -n))
+sorted_rss=($(printf '%s\n' "${rss[@]}" | sort -n))
+printf '\n%-6s %6s %10s %10s %10s %12s\n' mode runs "min(ms)" "p50(ms)" "max(ms)" "p50 rss(MB)"
+printf '%-6s %6s %10s %10s %10s %12s\n' "$MODE" "$RUNS" "${sorted[0]}" "${sorted[$(( RUNS / 2 ))]}" \
+  "${sorted[$(( RUNS - 1 ))]}" "${sorted_rss[$(( RUNS / 2 ))]}"
+if [ -s "$RESULT_DIR/steps-$MODE.tsv" ]; then
+  printf '\n가장 오래 걸린 시작 단계 (%s)\n' "$RESULT_DIR/steps-$MODE.tsv"
+  cat "$RESULT_DIR/steps-$MODE.tsv"
+fi
@@ -0,0 +1,52 @@
+package com.limvik.econome.domain.budgetplan.service;
+
+import com.limvik.econome.domain.budgetplan.entity.BudgetPlan;
+import com.limvik.econome.domain.budgetplan.entity.BudgetPlanProjection;
+import com.limvik.econome.domain.category.enums.BudgetCategory;
+import com.limvik.econome.infrastructure.budgetplan.BudgetPlanRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메모리에 보관된 카테고리별 예산 비율로 {@link BudgetPlanService#getBudgetRecommendations(long)} 가 추천 예산 목록을 만드는 비용을 측정합니다.
+ * 비율은 집계 쿼리 대신 미리 만든 통계로 한 번 갱신해 둡니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class BudgetPlanServiceBenchmark {
+
+    BudgetPlanService budgetPlanService;
+
+    @Setup
+    public void setUp() {
+        List<BudgetPlanProjection.CategoryAmountStat> stats = new ArrayList<>();
+        for (long categoryId = 1; categoryId <= BudgetCategory.values().length; categoryId++) {
+            stats.add(new CategoryAmountStatRow(categoryId, 1_000_000L * categoryId, 100L));
+        }
+        var budgetPlanRepository = (BudgetPlanRepository) Proxy.newProxyInstance(
+                BudgetPlanRepository.class.getClassLoader(),
+                new Class<?>[]{BudgetPlanRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findAmountStatPerCategory")) return stats;
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        var budgetRatioService = new BudgetRatioService(budgetPlanRepository);
+        budgetRatioService.refresh();
+        budgetPlanService = new BudgetPlanService(null, null, budgetRatioService, null);
+    }
+
+    @Benchmark
+    public List<BudgetPlan> getBudgetRecommendations() {
+        return budgetPlanService.getBudgetRecommendations(3_000_000L);
+    }
+
+    private record CategoryAmountStatRow(Long getCategoryId, Long getAmount, Long getPlanCount)
+            implements BudgetPlanProjection.CategoryAmountStat {
+    }
+
+}
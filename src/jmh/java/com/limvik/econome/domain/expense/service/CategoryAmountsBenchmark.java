@@ -0,0 +1,115 @@
+package com.limvik.econome.domain.expense.service;
+
+import com.limvik.econome.domain.budgetplan.entity.BudgetPlanProjection;
+import com.limvik.econome.domain.expense.entity.ExpenseProjection;
+import com.limvik.econome.domain.expense.service.dto.CategoryAmounts;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 한 요청에서 조회한 카테고리별 합계로 오늘의 추천 금액과 지난 기간 대비 지출 비율을 계산하는 비용을
+ * 기존의 boxing 된 {@code HashMap<Long, Long>} 방식과 {@link CategoryAmounts} 방식으로 비교합니다.
+ * 요청당 할당량은 gc 프로파일러의 {@code gc.alloc.rate.norm} 으로 확인합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class CategoryAmountsBenchmark {
+
+    private static final int REST_DAYS_OF_MONTH = 17;
+    private static final long MINIMUM_DAILY_EXPENSE = 1_000L;
+
+    @Param({"6", "12"})
+    int budgetCategoryCount;
+
+    List<BudgetPlanProjection.SumCategory> budgetRows;
+    List<ExpenseProjection.SumCategory> thisExpenseRows;
+    List<ExpenseProjection.SumCategory> lastExpenseRows;
+
+    @Setup
+    public void setUp() {
+        budgetRows = new ArrayList<>();
+        for (long categoryId = 1; categoryId <= budgetCategoryCount; categoryId++) {
+            budgetRows.add(new BudgetRow(categoryId, 300_000L + categoryId * 10_000L));
+        }
+        thisExpenseRows = new ArrayList<>();
+        lastExpenseRows = new ArrayList<>();
+        for (long categoryId = 1; categoryId <= CategoryAmounts.SIZE; categoryId++) {
+            thisExpenseRows.add(new ExpenseRow(categoryId, 50_000L + categoryId * 1_000L));
+            if (categoryId % 3 != 0) lastExpenseRows.add(new ExpenseRow(categoryId, 40_000L + categoryId * 2_000L));
+        }
+    }
+
+    @Benchmark
+    public Map<Long, Long> recommendationWithMap() {
+        Map<Long, Long> monthlyBudgetMap = budgetRows.stream().collect(Collectors.toMap(
+                BudgetPlanProjection.SumCategory::getCategoryId, BudgetPlanProjection.SumCategory::getAmount));
+        Map<Long, Long> monthlyExpensesMap = thisExpenseRows.stream().collect(Collectors.toMap(
+                ExpenseProjection.SumCategory::getCategoryId, ExpenseProjection.SumCategory::getAmount));
+        AtomicLong sum = new AtomicLong(0L);
+        monthlyExpensesMap.forEach((categoryId, amount) -> {
+            if (!monthlyBudgetMap.containsKey(categoryId))
+                sum.addAndGet(monthlyExpensesMap.get(categoryId));
+        });
+        long penaltyPerCategory = sum.get() / monthlyBudgetMap.size();
+        monthlyBudgetMap.forEach((categoryId, budget) -> {
+            long amount = (budget - monthlyExpensesMap.getOrDefault(categoryId, 0L) - penaltyPerCategory)
+                    / REST_DAYS_OF_MONTH;
+            monthlyBudgetMap.put(categoryId, Math.max(amount, MINIMUM_DAILY_EXPENSE));
+        });
+        return monthlyBudgetMap;
+    }
+
+    @Benchmark
+    public CategoryAmounts recommendationWithCategoryAmounts() {
+        CategoryAmounts monthlyBudgets = CategoryAmounts.of(budgetRows,
+                BudgetPlanProjection.SumCategory::getCategoryId, BudgetPlanProjection.SumCategory::getAmount);
+        CategoryAmounts monthlyExpenses = CategoryAmounts.of(thisExpenseRows,
+                ExpenseProjection.SumCategory::getCategoryId, ExpenseProjection.SumCategory::getAmount);
+        long penaltyPerCategory = monthlyExpenses.totalNotIn(monthlyBudgets) / monthlyBudgets.size();
+        CategoryAmounts recommendations = new CategoryAmounts();
+        monthlyBudgets.forEach((categoryId, budget) -> {
+            long amount = (budget - monthlyExpenses.get(categoryId) - penaltyPerCategory) / REST_DAYS_OF_MONTH;
+            recommendations.put(categoryId, Math.max(amount, MINIMUM_DAILY_EXPENSE));
+        });
+        return recommendations;
+    }
+
+    @Benchmark
+    public void statWithNestedStream(Blackhole blackhole) {
+        thisExpenseRows.forEach(thisExpense -> {
+            AtomicLong lastExpense = new AtomicLong(0L);
+            lastExpenseRows.stream()
+                    .filter(sumCategory -> sumCategory.getCategoryId().equals(thisExpense.getCategoryId()))
+                    .findFirst().ifPresent(sumCategory -> lastExpense.set(sumCategory.getAmount()));
+            blackhole.consume(lastExpense.get() == 0L ? -1.0
+                    : (double) thisExpense.getAmount() / lastExpense.get() * 100);
+        });
+    }
+
+    @Benchmark
+    public void statWithCategoryAmounts(Blackhole blackhole) {
+        CategoryAmounts thisExpenses = CategoryAmounts.of(thisExpenseRows,
+                ExpenseProjection.SumCategory::getCategoryId, ExpenseProjection.SumCategory::getAmount);
+        CategoryAmounts lastExpenses = CategoryAmounts.of(lastExpenseRows,
+                ExpenseProjection.SumCategory::getCategoryId, ExpenseProjection.SumCategory::getAmount);
+        thisExpenses.forEach((categoryId, thisExpense) -> {
+            long lastExpense = lastExpenses.get(categoryId);
+            blackhole.consume(lastExpense == 0L ? -1.0 : (double) thisExpense / lastExpense * 100);
+        });
+    }
+
+    private record BudgetRow(Long getCategoryId, Long getAmount) implements BudgetPlanProjection.SumCategory {
+    }
+
+    private record ExpenseRow(Long getCategoryId, Long getAmount) implements ExpenseProjection.SumCategory {
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.limvik.econome.domain.expense.service;
+
+import com.limvik.econome.domain.expense.service.dto.CalendarStatDto;
+import com.limvik.econome.domain.expense.service.dto.CategoryAmounts;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 저장소 조회 결과를 미리 만들어 두고 {@link ExpenseService} 의 오늘의 추천 금액 계산과 지난 기간 대비 지출 비율 계산만 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ExpenseServiceBenchmark {
+
+    private static final int REST_DAYS_OF_MONTH = 17;
+    private static final long MINIMUM_DAILY_EXPENSE = 1_000L;
+
+    @Param({"6", "12"})
+    int budgetCategoryCount;
+
+    CategoryAmounts monthlyBudgets;
+    CategoryAmounts thisExpenses;
+    CategoryAmounts lastExpenses;
+
+    @Setup
+    public void setUp() {
+        monthlyBudgets = new CategoryAmounts();
+        for (long categoryId = 1; categoryId <= budgetCategoryCount; categoryId++) {
+            monthlyBudgets.put(categoryId, 300_000L + categoryId * 10_000L);
+        }
+        thisExpenses = new CategoryAmounts();
+        lastExpenses = new CategoryAmounts();
+        for (long categoryId = 1; categoryId <= CategoryAmounts.SIZE; categoryId++) {
+            thisExpenses.put(categoryId, 50_000L + categoryId * 1_000L);
+            if (categoryId % 3 != 0) lastExpenses.put(categoryId, 40_000L + categoryId * 2_000L);
+        }
+    }
+
+    @Benchmark
+    public CategoryAmounts calculateRecommendations() {
+        return ExpenseService.calculateRecommendations(
+                monthlyBudgets, thisExpenses, REST_DAYS_OF_MONTH, MINIMUM_DAILY_EXPENSE);
+    }
+
+    @Benchmark
+    public List<CalendarStatDto> getCalendarStatDtos() {
+        return ExpenseService.getCalendarStatDtos(lastExpenses, thisExpenses);
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.limvik.econome.global.security.converter;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 요청 본문에서 사용자 이름과 비밀번호를 추출하여 인증 요청 토큰을 만드는 비용을 측정합니다.
+ * 요청 본문은 한 번만 읽을 수 있으므로 요청 객체는 호출마다 새로 만듭니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class UsernamePasswordAuthenticationConverterBenchmark {
+
+    private static final byte[] BODY = "{\"username\":\"benchmark\",\"password\":\"benchmark-password\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    UsernamePasswordAuthenticationConverter converter;
+
+    @Setup
+    public void setUp() {
+        converter = new UsernamePasswordAuthenticationConverter();
+    }
+
+    @Benchmark
+    public UsernamePasswordAuthenticationToken convert() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/users/signin");
+        request.setContentType("application/json");
+        request.setContent(BODY);
+        return converter.convert(request);
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.limvik.econome.global.security.filter;
+
+import com.limvik.econome.domain.user.entity.User;
+import com.limvik.econome.global.config.JwtConfig;
+import com.limvik.econome.global.security.jwt.provider.JwtAuthenticationProvider;
+import com.limvik.econome.global.security.jwt.provider.JwtProvider;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 같은 Access Token으로 반복되는 요청에서 {@link JwtFilter}의 인증 처리량을 검증 캐시 사용 여부에 따라 측정합니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JwtFilterBenchmark {
+
+    @Param({"true", "false"})
+    boolean verificationCacheEnabled;
+
+    JwtFilter jwtFilter;
+
+    String authorizationHeader;
+
+    @Setup
+    public void setUp() {
+        JwtConfig jwtConfig = new JwtConfig();
+        jwtConfig.setIssuer("econome-benchmark");
+        jwtConfig.setAccessKey("benchmark-access-key-benchmark-access-key-0123456789");
+        jwtConfig.setRefreshKey("benchmark-refresh-key-benchmark-refresh-key-0123456789");
+        jwtConfig.setAccessTokenExpirationMinutes(10L);
+        jwtConfig.setRefreshTokenExpirationDays(30L);
+        jwtConfig.getVerificationCache().setEnabled(verificationCacheEnabled);
+
+        JwtProvider jwtProvider = new JwtProvider(jwtConfig);
+        jwtFilter = new JwtFilter(new ProviderManager(new JwtAuthenticationProvider(jwtProvider)));
+        authorizationHeader = "Bearer " + jwtProvider.generateAccessToken(User.builder().id(1L).build());
+    }
+
+    @Benchmark
+    public void authenticate(Blackhole blackhole) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/expenses");
+        request.addHeader("Authorization", authorizationHeader);
+        FilterChain filterChain = (req, res) ->
+                blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        jwtFilter.doFilter(request, new MockHttpServletResponse(), filterChain);
+        SecurityContextHolder.clearContext();
+    }
+
+}
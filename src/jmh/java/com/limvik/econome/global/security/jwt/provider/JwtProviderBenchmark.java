@@ -0,0 +1,53 @@
+package com.limvik.econome.global.security.jwt.provider;
+
+import com.limvik.econome.domain.user.entity.User;
+import com.limvik.econome.global.config.JwtConfig;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access Token 발급과 검증의 처리량을 검증 캐시 사용 여부에 따라 측정합니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JwtProviderBenchmark {
+
+    @Param({"true", "false"})
+    boolean verificationCacheEnabled;
+
+    JwtProvider jwtProvider;
+
+    User user;
+
+    String accessToken;
+
+    @Setup
+    public void setUp() {
+        JwtConfig jwtConfig = new JwtConfig();
+        jwtConfig.setIssuer("econome-benchmark");
+        jwtConfig.setAccessKey("benchmark-access-key-benchmark-access-key-0123456789");
+        jwtConfig.setRefreshKey("benchmark-refresh-key-benchmark-refresh-key-0123456789");
+        jwtConfig.setAccessTokenExpirationMinutes(10L);
+        jwtConfig.setRefreshTokenExpirationDays(30L);
+        jwtConfig.getVerificationCache().setEnabled(verificationCacheEnabled);
+
+        jwtProvider = new JwtProvider(jwtConfig);
+        user = User.builder().id(1L).build();
+        accessToken = jwtProvider.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtProvider.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public Jws<Claims> parseAccessToken() {
+        return jwtProvider.parse(accessToken, jwtProvider.getAccessKey());
+    }
+
+}
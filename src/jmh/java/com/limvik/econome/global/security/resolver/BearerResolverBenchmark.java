@@ -0,0 +1,36 @@
+package com.limvik.econome.global.security.resolver;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Authorization 헤더에서 JWT 를 추출하는 비용을 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class BearerResolverBenchmark {
+
+    private static final String TOKEN = "eyJ0eXAiOiJKV1QiLCJhbGciOiJIUzI1NiJ9"
+            + ".eyJpc3MiOiJlY29ub21lIiwiaWF0IjoxNzAwMDAwMDAwLCJleHAiOjE3MDAwMDA2MDAsInN1YiI6IjEifQ"
+            + ".c2lnbmF0dXJlLXNpZ25hdHVyZS1zaWduYXR1cmUtc2lnbmF0dXJl";
+
+    BearerResolver bearerResolver;
+
+    MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        bearerResolver = new BearerResolver();
+        request = new MockHttpServletRequest("GET", "/api/v1/expenses");
+        request.addHeader("Authorization", "Bearer " + TOKEN);
+    }
+
+    @Benchmark
+    public String resolve() {
+        return bearerResolver.resolve(request);
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.limvik.econome.web.expense.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.limvik.econome.domain.category.enums.BudgetCategory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지출 목록과 지출 통계 응답을 Spring Boot 와 같은 설정의 ObjectMapper 로 JSON 직렬화하는 비용을 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ExpenseResponseSerializationBenchmark {
+
+    @Param({"20", "100"})
+    int expenseCount;
+
+    ObjectMapper objectMapper;
+
+    ExpenseListResponse expenseListResponse;
+
+    ExpenseStatResponse expenseStatResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<ExpenseResponse> expenses = new ArrayList<>(expenseCount);
+        LocalDateTime datetime = LocalDateTime.of(2023, 11, 1, 12, 0);
+        long totalAmount = 0L;
+        for (int i = 0; i < expenseCount; i++) {
+            BudgetCategory category = BudgetCategory.ofId(i % BudgetCategory.values().length + 1);
+            long amount = 1_000L + i * 100L;
+            expenses.add(new ExpenseResponse((long) i + 1, datetime.plusMinutes(i), category.getId(),
+                    category.getCategory(), amount, "memo " + i, i % 10 == 0));
+            totalAmount += amount;
+        }
+        expenseListResponse = new ExpenseListResponse(expenses, totalAmount, totalAmount / 2, "bmV4dC1jdXJzb3I");
+
+        List<ExpenseStatCalendarCategoryResponse> details = new ArrayList<>();
+        for (BudgetCategory category : BudgetCategory.values()) {
+            details.add(new ExpenseStatCalendarCategoryResponse(category.getId(), category.getCategory(), "87.5%"));
+        }
+        expenseStatResponse = new ExpenseStatResponse(
+                new ExpenseStatCalendarResponse("92.3%", details),
+                new ExpenseStatCalendarResponse("104.1%", details),
+                new ExpenseStatUserResponse("120.0%"));
+    }
+
+    @Benchmark
+    public byte[] serializeExpenseList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(expenseListResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeExpenseStat() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(expenseStatResponse);
+    }
+
+}
@@ -1,15 +1,24 @@
 package com.limvik.econome;
 
+import com.limvik.econome.global.aot.EconomeRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableScheduling
 @SpringBootApplication
+@ImportRuntimeHints(EconomeRuntimeHints.class)
 public class EconomeApplication {
 
+	// 시작 단계 기록(/actuator/startup)의 최대 개수
+	private static final int STARTUP_STEP_CAPACITY = 4096;
+
 	public static void main(String[] args) {
-		SpringApplication.run(EconomeApplication.class, args);
+		SpringApplication application = new SpringApplication(EconomeApplication.class);
+		application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+		application.run(args);
 	}
 
 }
@@ -0,0 +1,6 @@
+package com.limvik.econome.domain.alarm.enums;
+
+public enum AlarmType {
+    RECOMMENDATION, // 오늘 추천 지출
+    TODAY_EXPENSE   // 오늘 지출 내역
+}
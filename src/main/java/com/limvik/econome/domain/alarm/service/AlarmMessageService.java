@@ -0,0 +1,83 @@
+package com.limvik.econome.domain.alarm.service;
+
+import com.limvik.econome.domain.alarm.enums.AlarmType;
+import com.limvik.econome.domain.alarm.service.dto.AlarmMessage;
+import com.limvik.econome.domain.expense.entity.ExpenseProjection;
+import com.limvik.econome.domain.expense.service.RecommendationBatchService;
+import com.limvik.econome.domain.user.entity.UserProjection;
+import com.limvik.econome.infrastructure.expense.DailyExpenseRollupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 한 페이지의 사용자에 대한 알림 내용을 사용자 수와 상관없이 고정된 수의 집계 쿼리로 계산합니다.
+ */
+@RequiredArgsConstructor
+@Service
+public class AlarmMessageService {
+
+    private final RecommendationBatchService recommendationBatchService;
+    private final DailyExpenseRollupRepository dailyExpenseRollupRepository;
+
+    /**
+     * @param type 알림 종류
+     * @param targets 알림 수신에 동의한 사용자
+     * @param today 알림 기준 일자
+     * @return 사용자 식별자 오름차순으로 정렬된 사용자별 알림 내용, 보낼 내용이 없는 사용자는 제외
+     */
+    @Transactional(readOnly = true)
+    public List<AlarmMessage> createMessages(AlarmType type, List<UserProjection.AlarmTarget> targets, LocalDate today) {
+        List<Long> userIds = targets.stream().map(UserProjection.AlarmTarget::getId).toList();
+        return switch (type) {
+            case RECOMMENDATION -> createRecommendationMessages(userIds, today);
+            case TODAY_EXPENSE -> createTodayExpenseMessages(userIds, today);
+        };
+    }
+
+    /**
+     * 페이지의 사용자 식별자 범위에 대해 오늘의 추천 금액을 한 번에 계산하고, 페이지에 포함된 사용자의 결과만 사용합니다.
+     * 예산을 설정하지 않은 사용자는 제외합니다.
+     */
+    private List<AlarmMessage> createRecommendationMessages(List<Long> userIds, LocalDate today) {
+        Set<Long> targetIds = new HashSet<>(userIds);
+        List<AlarmMessage> messages = new ArrayList<>(userIds.size());
+        recommendationBatchService.recommendBetween(userIds.get(0), userIds.get(userIds.size() - 1), today,
+                recommendation -> {
+                    if (targetIds.contains(recommendation.userId())) {
+                        messages.add(new AlarmMessage(recommendation.userId(),
+                                recommendation.amounts().total() / 1000 * 1000, recommendation.amounts().toMap()));
+                    }
+                });
+        return messages;
+    }
+
+    /**
+     * 사용자별 오늘의 카테고리별 지출 금액을 계산합니다. 지출이 없는 사용자도 총액 0 으로 포함합니다.
+     */
+    private List<AlarmMessage> createTodayExpenseMessages(List<Long> userIds, LocalDate today) {
+        Map<Long, Map<Long, Long>> expenses = groupByUser(
+                dailyExpenseRollupRepository.findExpensesPerUserCategoryBetween(userIds, today, today.plusDays(1)));
+
+        List<AlarmMessage> messages = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            Map<Long, Long> todayExpenses = expenses.getOrDefault(userId, Map.of());
+            long total = todayExpenses.values().stream().mapToLong(Long::longValue).sum();
+            messages.add(new AlarmMessage(userId, total, todayExpenses));
+        }
+        return messages;
+    }
+
+    private Map<Long, Map<Long, Long>> groupByUser(List<ExpenseProjection.UserSumCategory> expenses) {
+        Map<Long, Map<Long, Long>> grouped = new HashMap<>();
+        for (ExpenseProjection.UserSumCategory expense : expenses) {
+            grouped.computeIfAbsent(expense.getUserId(), id -> new TreeMap<>())
+                    .put(expense.getCategoryId(), expense.getAmount());
+        }
+        return grouped;
+    }
+
+}
@@ -0,0 +1,227 @@
+package com.limvik.econome.domain.alarm.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.limvik.econome.domain.alarm.enums.AlarmType;
+import com.limvik.econome.domain.alarm.service.dto.AlarmBatch;
+import com.limvik.econome.domain.alarm.service.dto.AlarmMessage;
+import com.limvik.econome.domain.alarm.service.dto.AlarmRunResult;
+import com.limvik.econome.domain.user.entity.UserProjection;
+import com.limvik.econome.global.config.AlarmConfig;
+import com.limvik.econome.global.config.VirtualThreadConfig;
+import com.limvik.econome.global.jfr.AlarmBatchEvent;
+import com.limvik.econome.infrastructure.alarm.AlarmDeadLetterRepository;
+import com.limvik.econome.infrastructure.user.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 알림 수신에 동의한 모든 사용자에게 알림을 보냅니다.
+ * 사용자를 식별자 순으로 한 페이지씩 읽어 알림 내용을 계산하고, 제한된 수의 전송 작업에 넘깁니다.
+ * 전송 중인 묶음이 최대 동시 전송 수에 이르면 다음 페이지를 읽지 않고 기다리므로, 사용자 수와 상관없이 메모리 사용량이 일정합니다.
+ * 지표를 등록하면 알림 종류별로 처리한 사용자 수(alarm.users), 결과별 알림 묶음 수(alarm.batches), 회차 소요 시간(alarm.run)을 기록합니다.
+ */
+@RequiredArgsConstructor
+@Slf4j
+@Service
+public class AlarmPipelineService implements MeterBinder {
+
+    private final UserRepository userRepository;
+    private final AlarmMessageService alarmMessageService;
+    private final AlarmSink alarmSink;
+    private final AlarmDeadLetterRepository alarmDeadLetterRepository;
+    private final AlarmConfig alarmConfig;
+    private final VirtualThreadConfig virtualThreadConfig;
+    private final ObjectMapper objectMapper;
+    private volatile MeterRegistry meterRegistry;
+
+    /**
+     * 알림 수신에 동의한 모든 사용자에게 기준 일자의 알림을 보냅니다.
+     * @param today 알림 기준 일자, 서버의 시간대와 상관없이 알림을 예약한 시간대의 날짜를 전달해야 함
+     */
+    public AlarmRunResult run(AlarmType type, LocalDate today) {
+        long startNanos = System.nanoTime();
+        long userCount = 0L;
+        long batchCount = 0L;
+        AtomicLong sentBatchCount = new AtomicLong();
+        AtomicLong deadLetterBatchCount = new AtomicLong();
+
+        int maxConcurrency = alarmConfig.getMaxConcurrency();
+        Semaphore inFlight = new Semaphore(maxConcurrency);
+        // 가상 스레드를 사용하더라도 동시 전송 수는 세마포어로 제한
+        ExecutorService executor = virtualThreadConfig.isEnabled()
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(maxConcurrency);
+        try {
+            long lastUserId = 0L;
+            while (true) {
+                var event = new AlarmBatchEvent();
+                event.begin();
+                List<UserProjection.AlarmTarget> targets = userRepository.findAlarmTargetsAfter(
+                        lastUserId, PageRequest.of(0, alarmConfig.getPageSize()));
+                if (targets.isEmpty()) break;
+                lastUserId = targets.get(targets.size() - 1).getId();
+                userCount += targets.size();
+
+                List<AlarmMessage> messages = alarmMessageService.createMessages(type, targets, today);
+                commitBatchEvent(event, type, targets, messages.size());
+                if (messages.isEmpty()) continue;
+                AlarmBatch batch = new AlarmBatch(type, today, messages);
+                batchCount++;
+
+                inFlight.acquireUninterruptibly();
+                executor.execute(() -> {
+                    try {
+                        if (deliver(batch)) {
+                            sentBatchCount.incrementAndGet();
+                        } else {
+                            deadLetterBatchCount.incrementAndGet();
+                        }
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        } finally {
+            awaitTermination(executor);
+        }
+
+        var result = new AlarmRunResult(type, userCount, batchCount, sentBatchCount.get(), deadLetterBatchCount.get(),
+                Duration.ofNanos(System.nanoTime() - startNanos));
+        log.info("{} 알림 발송 완료: users={}, batches={}, sent={}, deadLetter={}, elapsed={}ms, users/s={}",
+                type, result.userCount(), result.batchCount(), result.sentBatchCount(),
+                result.deadLetterBatchCount(), result.elapsed().toMillis(),
+                String.format("%.1f", result.usersPerSecond()));
+        record(result);
+        return result;
+    }
+
+    private void record(AlarmRunResult result) {
+        MeterRegistry registry = meterRegistry;
+        if (registry == null) return;
+        String type = result.type().name();
+        usersCounter(registry, type).increment(result.userCount());
+        batchCounter(registry, type, "sent").increment(result.sentBatchCount());
+        batchCounter(registry, type, "dead_letter").increment(result.deadLetterBatchCount());
+        runTimer(registry, type).record(result.elapsed());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (AlarmType type : AlarmType.values()) {
+            usersCounter(registry, type.name());
+            batchCounter(registry, type.name(), "sent");
+            batchCounter(registry, type.name(), "dead_letter");
+            runTimer(registry, type.name());
+        }
+        this.meterRegistry = registry;
+    }
+
+    private Counter usersCounter(MeterRegistry registry, String type) {
+        return Counter.builder("alarm.users")
+                .description("알림 내용을 계산한 알림 수신 동의 사용자 수")
+                .tag("type", type)
+                .register(registry);
+    }
+
+    private Counter batchCounter(MeterRegistry registry, String type, String result) {
+        return Counter.builder("alarm.batches")
+                .description("전송 결과별 알림 묶음 수, 재시도 후에도 실패한 묶음은 dead_letter")
+                .tag("type", type)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private Timer runTimer(MeterRegistry registry, String type) {
+        return Timer.builder("alarm.run")
+                .description("알림 발송 한 회차의 소요 시간")
+                .tag("type", type)
+                .register(registry);
+    }
+
+    /**
+     * 사용자 한 페이지를 읽고 알림 내용을 계산하는 데 걸린 시간을 JFR 이벤트로 남깁니다.
+     */
+    private void commitBatchEvent(AlarmBatchEvent event, AlarmType type,
+                                  List<UserProjection.AlarmTarget> targets, int messageCount) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.alarmType = type.name();
+            event.firstUserId = targets.get(0).getId();
+            event.lastUserId = targets.get(targets.size() - 1).getId();
+            event.userCount = targets.size();
+            event.messageCount = messageCount;
+            event.commit();
+        }
+    }
+
+    /**
+     * 알림 묶음을 전송하고, 실패하면 간격을 두 배씩 늘리며 최대 시도 횟수까지 재시도합니다.
+     * 모두 실패하면 dead letter 로 기록합니다.
+     * @return 전송에 성공하면 true
+     */
+    private boolean deliver(AlarmBatch batch) {
+        int maxAttempts = Math.max(1, alarmConfig.getMaxAttempts());
+        RuntimeException lastError = null;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                alarmSink.send(batch);
+                return true;
+            } catch (RuntimeException e) {
+                lastError = e;
+                log.warn("{} 알림 전송 실패({}/{}): {}", batch.type(), attempt, maxAttempts, e.getMessage());
+                if (attempt < maxAttempts && !sleep(alarmConfig.getRetryBackoffMs() << (attempt - 1))) break;
+            }
+        }
+        saveDeadLetter(batch, maxAttempts, lastError);
+        return false;
+    }
+
+    private void saveDeadLetter(AlarmBatch batch, int attempts, RuntimeException error) {
+        try {
+            alarmDeadLetterRepository.save(batch, objectMapper.writeValueAsString(batch), attempts,
+                    error != null ? error.toString() : null);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.error("{} 알림 dead letter 기록 실패: users {}~{}", batch.type(),
+                    batch.messages().get(0).userId(), batch.messages().get(batch.messages().size() - 1).userId(), e);
+        }
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void awaitTermination(ExecutorService executor) {
+        executor.shutdown();
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                log.warn("알림 전송 작업이 끝나기를 기다리는 중입니다.");
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.limvik.econome.domain.alarm.service;
+
+import com.limvik.econome.domain.alarm.service.dto.AlarmBatch;
+
+/**
+ * 알림 묶음을 외부로 전송하는 출구입니다.
+ * 전송에 실패하면 예외를 던지며, 재시도와 dead letter 기록은 호출하는 쪽에서 처리합니다.
+ */
+public interface AlarmSink {
+
+    void send(AlarmBatch batch);
+
+}
@@ -0,0 +1,18 @@
+package com.limvik.econome.domain.alarm.service.dto;
+
+import com.limvik.econome.domain.alarm.enums.AlarmType;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 한 번에 전송하는 알림 묶음입니다. 사용자 식별자 오름차순으로 조회한 한 페이지의 사용자에 대한 알림을 담습니다.
+ * @param type 알림 종류
+ * @param day 알림 기준 일자
+ * @param messages 사용자별 알림 내용
+ */
+public record AlarmBatch(
+        AlarmType type,
+        LocalDate day,
+        List<AlarmMessage> messages
+) { }
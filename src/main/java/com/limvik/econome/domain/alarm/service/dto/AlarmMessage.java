@@ -0,0 +1,15 @@
+package com.limvik.econome.domain.alarm.service.dto;
+
+import java.util.Map;
+
+/**
+ * 사용자 한 명에게 보낼 알림 내용입니다.
+ * @param userId 사용자 식별자
+ * @param totalAmount 알림에 표시할 총액
+ * @param amountPerCategory 카테고리 식별자별 금액
+ */
+public record AlarmMessage(
+        long userId,
+        long totalAmount,
+        Map<Long, Long> amountPerCategory
+) { }
@@ -0,0 +1,29 @@
+package com.limvik.econome.domain.alarm.service.dto;
+
+import com.limvik.econome.domain.alarm.enums.AlarmType;
+
+import java.time.Duration;
+
+/**
+ * 알림 발송 한 회차의 처리 결과입니다.
+ * @param type 알림 종류
+ * @param userCount 조회한 알림 수신 동의 사용자 수
+ * @param batchCount 전송을 시도한 알림 묶음 수
+ * @param sentBatchCount 전송에 성공한 알림 묶음 수
+ * @param deadLetterBatchCount 재시도 후에도 실패하여 dead letter 로 기록한 알림 묶음 수
+ * @param elapsed 처리 소요 시간
+ */
+public record AlarmRunResult(
+        AlarmType type,
+        long userCount,
+        long batchCount,
+        long sentBatchCount,
+        long deadLetterBatchCount,
+        Duration elapsed
+) {
+
+    public double usersPerSecond() {
+        long millis = Math.max(1L, elapsed.toMillis());
+        return userCount * 1000.0 / millis;
+    }
+}
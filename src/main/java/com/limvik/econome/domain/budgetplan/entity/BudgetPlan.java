@@ -12,10 +12,13 @@ import java.time.LocalDate;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Table(name = "budget_plan", uniqueConstraints = {
+        @UniqueConstraint(name = "user_id_date_category_id_UNIQUE",
+                columnNames = {"user_id", "date", "category_id"})})
 public class BudgetPlan {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @Column(nullable = false)
@@ -7,9 +7,16 @@ public class BudgetPlanProjection {
         Long getAmount();
     }
 
-    public interface RecommendedBudget {
+    public interface UserSumCategory {
+        Long getUserId();
         Long getCategoryId();
         Long getAmount();
     }
 
+    public interface CategoryAmountStat {
+        Long getCategoryId();
+        Long getAmount();
+        Long getPlanCount();
+    }
+
 }
@@ -1,17 +1,20 @@
 package com.limvik.econome.domain.budgetplan.service;
 
 import com.limvik.econome.domain.budgetplan.entity.BudgetPlan;
-import com.limvik.econome.domain.budgetplan.entity.BudgetPlanProjection;
 import com.limvik.econome.domain.category.entity.Category;
+import com.limvik.econome.domain.expense.service.TodayDashboardCache;
 import com.limvik.econome.domain.user.entity.User;
 import com.limvik.econome.global.exception.ErrorCode;
 import com.limvik.econome.global.exception.ErrorException;
+import com.limvik.econome.infrastructure.budgetplan.BudgetPlanJdbcRepository;
 import com.limvik.econome.infrastructure.budgetplan.BudgetPlanRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -24,49 +27,41 @@ import java.util.List;
 public class BudgetPlanService {
 
     private final BudgetPlanRepository budgetPlanRepository;
+    private final BudgetPlanJdbcRepository budgetPlanJdbcRepository;
+    private final BudgetRatioService budgetRatioService;
+    private final TodayDashboardCache todayDashboardCache;
 
     /**
-     * 사용자가 지정한 카테고리별 예산 설정을 반영하여 저장소에 저장합니다.
+     * 사용자가 지정한 카테고리별 예산 설정을 반영하여 하나의 INSERT 문으로 저장소에 저장합니다.
+     * 이미 존재하는 예산이 하나라도 있으면 유니크 인덱스 위반으로 아무것도 저장하지 않습니다.
      * @param budgetPlans 사용자가 예산 설정을 요청한 데이터
      * @throws ErrorException 사용자가 설정한 예산이 이미 존재하는 경우
      * @return 저장된 데이터를 반환합니다.
      */
     @Transactional
     public List<BudgetPlan> createBudgetPlans(List<BudgetPlan> budgetPlans) {
-        if (hasExistPlan(budgetPlans)) {
+        try {
+            budgetPlanJdbcRepository.insertAll(budgetPlans);
+        } catch (DuplicateKeyException e) {
             throw new ErrorException(ErrorCode.DUPLICATED_BUDGET_PLAN);
         }
 
-        return budgetPlanRepository.saveAll(budgetPlans);
+        todayDashboardCache.evictAfterCommit(budgetPlans.get(0).getUser().getId());
+        return budgetPlans;
     }
 
     /**
-     * 기존에 사용자가 설정해둔 예산의 금액을 사용자 요청에 의해 수정합니다.
+     * 기존에 사용자가 설정해둔 예산의 금액을 사용자 요청에 의해 하나의 UPDATE 문으로 수정합니다.
+     * 수정 요청한 예산 중 하나라도 존재하지 않으면 트랜잭션을 롤백하여 아무것도 수정하지 않습니다.
      * @param budgetPlans 금액이 수정된 기존 카테고리별 예산
      * @throws ErrorException 사용자가 수정 요청한 예산이 존재하지 않는 경우
      */
     @Transactional
     public void updateBudgetPlans(List<BudgetPlan> budgetPlans) {
-        if (hasNotExistPlan(budgetPlans)) {
+        if (budgetPlanJdbcRepository.updateAmounts(budgetPlans) != budgetPlans.size()) {
             throw new ErrorException(ErrorCode.NOT_EXIST_BUDGET_PLAN);
         }
-        budgetPlans.forEach(budgetPlan -> budgetPlanRepository.updateAmountByUserAndDateAndCategory(
-                budgetPlan.getUser().getId(),
-                budgetPlan.getCategory().getId(),
-                budgetPlan.getDate(),
-                budgetPlan.getAmount()));
-    }
-
-    private boolean hasExistPlan(List<BudgetPlan> budgetPlans) {
-        return budgetPlanRepository.countByUserAndDateAndCategories(
-                budgetPlans.get(0).getUser(), budgetPlans.get(0).getDate(),
-                budgetPlans.stream().map(BudgetPlan::getCategory).toList()) != 0;
-    }
-
-    private boolean hasNotExistPlan(List<BudgetPlan> budgetPlans) {
-        return budgetPlanRepository.countByUserAndDateAndCategories(
-                budgetPlans.get(0).getUser(), budgetPlans.get(0).getDate(),
-                budgetPlans.stream().map(BudgetPlan::getCategory).toList()) != budgetPlans.size();
+        todayDashboardCache.evictAfterCommit(budgetPlans.get(0).getUser().getId());
     }
 
     /**
@@ -83,30 +78,29 @@ public class BudgetPlanService {
 
     /**
      * 사용자의 전체 예산을 받아 카테고리별 추천 금액 목록을 반환합니다.
+     * 주기적으로 갱신되는 전체 서비스 이용자의 카테고리별 예산 비율을 사용하므로 저장소를 조회하지 않습니다.
      * @param amount 사용자의 총 예산
-     * @return 시스템이 추천하는 카테고리별 추천 금액 목록
+     * @return 시스템이 추천하는 카테고리별 추천 금액 목록, 비율이 아직 계산되지 않았다면 빈 목록
      */
-    @Transactional(readOnly = true)
     public List<BudgetPlan> getBudgetRecommendations(long amount) {
-        List<BudgetPlanProjection.RecommendedBudget> budgetPlans =
-                budgetPlanRepository.findRecommendedBudgetPlans(amount);
-
-        return convertProjectedBudgetPlansToEntity(budgetPlans, amount);
-    }
-
-    private List<BudgetPlan> convertProjectedBudgetPlansToEntity(List<BudgetPlanProjection.RecommendedBudget> projectedBudgetPlans,
-                                                                 long amount) {
-
-        List<BudgetPlan> budgetPlans = projectedBudgetPlans.stream().map(budgetPlan ->
-                BudgetPlan.builder()
-                        .category(Category.builder().id(budgetPlan.getCategoryId()).build())
-                        .amount(budgetPlan.getAmount() / 10 * 10)
-                        .build())
-                .toList();
+        BudgetRatioService.BudgetRatios budgetRatios = budgetRatioService.getBudgetRatios();
+
+        List<BudgetPlan> budgetPlans = new ArrayList<>(budgetRatios.size());
+        for (int ordinal = 0; ordinal < budgetRatios.size(); ordinal++) {
+            if (budgetRatios.hasRatio(ordinal)) {
+                budgetPlans.add(BudgetPlan.builder()
+                        .category(Category.builder().id(ordinal + 1L).build())
+                        .amount((long) (budgetRatios.ratioOf(ordinal) * amount) / 10 * 10)
+                        .build());
+            }
+        }
+        if (budgetPlans.isEmpty()) {
+            return budgetPlans;
+        }
 
         long totalAmount = budgetPlans.stream().mapToLong(BudgetPlan::getAmount).sum();
 
-        // 데이터베이스에서 불러올 때 소수점 연산으로 인해 총액과 차이나는 금액을 마지막 기타 카테고리에 반영
+        // 소수점 연산으로 인해 총액과 차이나는 금액을 마지막 카테고리에 반영
         budgetPlans.get(budgetPlans.size()-1).addAmount(amount - totalAmount);
         return budgetPlans;
     }
@@ -0,0 +1,83 @@
+package com.limvik.econome.domain.budgetplan.service;
+
+import com.limvik.econome.domain.budgetplan.entity.BudgetPlanProjection;
+import com.limvik.econome.domain.category.enums.BudgetCategory;
+import com.limvik.econome.infrastructure.budgetplan.BudgetPlanRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 전체 서비스 이용자의 예산 계획으로부터 계산한 카테고리별 예산 비율을 메모리에 보관합니다.
+ * 예산 추천 요청마다 전체 예산 계획을 집계하지 않도록 주기적으로 갱신되며, 추천 금액은 보관된 비율로 계산합니다.
+ */
+@RequiredArgsConstructor
+@Service
+public class BudgetRatioService {
+
+    private final BudgetPlanRepository budgetPlanRepository;
+
+    private volatile BudgetRatios budgetRatios = BudgetRatios.empty();
+
+    /**
+     * 카테고리별 평균 예산을 전체 예산 합계로 나눈 비율을 다시 계산하여 교체합니다.
+     */
+    @Transactional(readOnly = true)
+    public void refresh() {
+        List<BudgetPlanProjection.CategoryAmountStat> stats = budgetPlanRepository.findAmountStatPerCategory();
+        long totalAmount = stats.stream().mapToLong(BudgetPlanProjection.CategoryAmountStat::getAmount).sum();
+
+        double[] ratios = new double[BudgetCategory.values().length];
+        Arrays.fill(ratios, Double.NaN);
+        if (totalAmount > 0) {
+            stats.forEach(stat -> ratios[stat.getCategoryId().intValue() - 1] =
+                    (double) stat.getAmount() / stat.getPlanCount() / totalAmount);
+        }
+        this.budgetRatios = new BudgetRatios(ratios, Instant.now());
+    }
+
+    public BudgetRatios getBudgetRatios() {
+        return budgetRatios;
+    }
+
+    /**
+     * 카테고리별 예산 비율입니다. 배열은 {@link BudgetCategory} 의 순서를 인덱스로 사용하며,
+     * 예산 계획이 없는 카테고리는 NaN 입니다. 생성 후 변경되지 않습니다.
+     */
+    public static final class BudgetRatios {
+
+        private final double[] ratios;
+        private final Instant computedAt;
+
+        private BudgetRatios(double[] ratios, Instant computedAt) {
+            this.ratios = ratios;
+            this.computedAt = computedAt;
+        }
+
+        static BudgetRatios empty() {
+            double[] ratios = new double[BudgetCategory.values().length];
+            Arrays.fill(ratios, Double.NaN);
+            return new BudgetRatios(ratios, Instant.EPOCH);
+        }
+
+        public boolean hasRatio(int ordinal) {
+            return !Double.isNaN(ratios[ordinal]);
+        }
+
+        public double ratioOf(int ordinal) {
+            return ratios[ordinal];
+        }
+
+        public int size() {
+            return ratios.length;
+        }
+
+        public Instant getComputedAt() {
+            return computedAt;
+        }
+    }
+}
@@ -21,10 +21,35 @@ public enum BudgetCategory {
     FOOD_ACCOMMODATION("음식/숙박"), // 배달음식을 포함한 외식비, 숙박비
     OTHERS("기타 상품/서비스"); // 이미용 서비스, 위생 및 이미용 용품, 보험, 혼례 및 장제례비, 부동산 수수료 등등
 
+    // values() 는 호출할 때마다 배열을 복사하므로 식별자 조회용 배열을 한 번만 생성
+    private static final BudgetCategory[] BY_ID = values();
+
     private final String category;
 
     BudgetCategory(String category) {
         this.category = category;
     }
 
+    /**
+     * @return 카테고리 테이블의 식별자, 선언 순서에 따라 1부터 시작
+     */
+    public long getId() {
+        return ordinal() + 1L;
+    }
+
+    public static boolean isValidId(long id) {
+        return id >= 1 && id <= BY_ID.length;
+    }
+
+    /**
+     * 카테고리 테이블의 식별자에 해당하는 예산 항목을 반환합니다.
+     * @throws IllegalArgumentException 존재하지 않는 카테고리 식별자인 경우
+     */
+    public static BudgetCategory ofId(long id) {
+        if (!isValidId(id)) {
+            throw new IllegalArgumentException("존재하지 않는 카테고리 식별자입니다: " + id);
+        }
+        return BY_ID[(int) id - 1];
+    }
+
 }
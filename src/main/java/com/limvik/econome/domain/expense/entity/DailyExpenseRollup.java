@@ -0,0 +1,33 @@
+package com.limvik.econome.domain.expense.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별, 일자별, 카테고리별 지출 합계입니다.
+ * 지출 기록의 생성, 수정, 삭제 시 같은 트랜잭션에서 증분 갱신되며, 지출 통계 및 추천 조회는 이 테이블을 사용합니다.
+ */
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "daily_expense_rollup")
+public class DailyExpenseRollup {
+
+    @EmbeddedId
+    private DailyExpenseRollupId id;
+
+    @Column(name = "amount_sum", nullable = false)
+    private long amountSum;
+
+    @Column(name = "count", nullable = false)
+    private int count;
+
+    @Column(name = "excluded_sum", nullable = false)
+    private long excludedSum;
+
+}
@@ -15,10 +15,15 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Table(name = "expense", indexes = {
+        @Index(name = "user_id_datetime_idx",
+                columnList = "user_id, datetime, category_id, amount, exclude_in_total"),
+        @Index(name = "user_id_category_id_datetime_idx",
+                columnList = "user_id, category_id, datetime")})
 public class Expense {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @Column
@@ -33,11 +38,11 @@ public class Expense {
     @Column(name = "exclude_in_total")
     private Boolean excluded;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id", nullable = false)
     private Category category;
 
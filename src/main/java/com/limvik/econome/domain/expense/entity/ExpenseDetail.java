@@ -0,0 +1,17 @@
+package com.limvik.econome.domain.expense.entity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 지출 기록 조회 전용 projection 입니다.
+ * 엔티티를 영속성 컨텍스트에 올리지 않고 expenses 테이블의 컬럼만 읽으므로 사용자와 카테고리를 조회하지 않습니다.
+ * 카테고리 이름은 {@link com.limvik.econome.domain.category.enums.BudgetCategory} 에서 식별자로 찾습니다.
+ */
+public record ExpenseDetail(
+        Long id,
+        LocalDateTime datetime,
+        Long categoryId,
+        Long amount,
+        String memo,
+        Boolean excluded
+) { }
@@ -7,4 +7,20 @@ public class ExpenseProjection {
         Long getAmount();
     }
 
+    public interface UserSumCategory {
+        Long getUserId();
+        Long getCategoryId();
+        Long getAmount();
+    }
+
+    public interface UserSum {
+        Long getUserId();
+        Long getAmount();
+    }
+
+    public interface ListTotal {
+        Long getTotalAmount();
+        Long getTotalAmountForCategory();
+    }
+
 }
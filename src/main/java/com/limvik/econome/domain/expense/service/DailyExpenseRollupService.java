@@ -0,0 +1,106 @@
+package com.limvik.econome.domain.expense.service;
+
+import com.limvik.econome.domain.expense.entity.Expense;
+import com.limvik.econome.infrastructure.expense.DailyExpenseRollupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 지출 기록의 변경을 일자별 카테고리별 지출 합계에 반영합니다.
+ * 지출 기록을 변경하는 트랜잭션 안에서 호출되어야 합니다.
+ */
+@RequiredArgsConstructor
+@Service
+public class DailyExpenseRollupService {
+
+    private final DailyExpenseRollupRepository dailyExpenseRollupRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void add(Expense expense) {
+        apply(RollupEntry.of(expense), 1);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void subtract(Expense expense) {
+        apply(RollupEntry.of(expense), -1);
+    }
+
+    /**
+     * 수정 전 값을 차감하고 수정 후 값을 더합니다. 일자나 카테고리가 바뀐 경우도 같은 방식으로 처리됩니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void move(RollupEntry before, RollupEntry after) {
+        if (!Objects.equals(before, after)) {
+            apply(before, -1);
+            apply(after, 1);
+        }
+    }
+
+    /**
+     * 여러 지출 기록을 사용자, 일자, 카테고리별로 묶어 합계 행마다 한 번씩만 반영합니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addAll(List<Expense> expenses) {
+        Map<RollupKey, long[]> deltas = new HashMap<>();
+        expenses.forEach(expense -> {
+            RollupEntry entry = RollupEntry.of(expense);
+            if (entry == null) {
+                return;
+            }
+            long[] delta = deltas.computeIfAbsent(
+                    new RollupKey(entry.userId(), entry.day(), entry.categoryId()), key -> new long[3]);
+            delta[0] += entry.amount();
+            delta[1] += 1;
+            delta[2] += entry.excluded() ? entry.amount() : 0L;
+        });
+        deltas.forEach((key, delta) -> dailyExpenseRollupRepository.upsertDelta(
+                key.userId(), key.day(), key.categoryId(), delta[0], (int) delta[1], delta[2]));
+    }
+
+    /**
+     * 지출 기록 한 건을 일자별 카테고리별 지출 합계에 더하거나(sign = 1) 뺍니다(sign = -1).
+     * 차감 후 해당 일자와 카테고리에 남은 지출 기록이 없으면 합계 행을 삭제합니다.
+     */
+    private void apply(RollupEntry entry, int sign) {
+        if (entry == null) {
+            return;
+        }
+        dailyExpenseRollupRepository.upsertDelta(entry.userId(), entry.day(), entry.categoryId(),
+                sign * entry.amount(), sign, entry.excluded() ? sign * entry.amount() : 0L);
+        if (sign < 0) {
+            dailyExpenseRollupRepository.deleteIfEmpty(entry.userId(), entry.day(), entry.categoryId());
+        }
+    }
+
+    private record RollupKey(long userId, LocalDate day, long categoryId) {
+    }
+
+    /**
+     * 지출 기록이 일자별 카테고리별 지출 합계에 반영되는 값입니다.
+     */
+    public record RollupEntry(long userId, LocalDate day, long categoryId, long amount, boolean excluded) {
+
+        /**
+         * 지출 일시가 없는 지출 기록은 어느 일자에도 집계되지 않으므로 null 을 반환합니다.
+         */
+        public static RollupEntry of(Expense expense) {
+            if (expense.getDatetime() == null) {
+                return null;
+            }
+            return new RollupEntry(
+                    expense.getUser().getId(),
+                    expense.getDatetime().toLocalDate(),
+                    expense.getCategory().getId(),
+                    expense.getAmount() == null ? 0L : expense.getAmount(),
+                    Boolean.TRUE.equals(expense.getExcluded()));
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.limvik.econome.domain.expense.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.limvik.econome.domain.expense.entity.Expense;
+import com.limvik.econome.domain.expense.service.dto.ExpenseBulkResult;
+import com.limvik.econome.domain.expense.service.dto.ExpenseBulkRow;
+import com.limvik.econome.global.config.ExpenseBulkConfig;
+import com.limvik.econome.global.exception.ErrorCode;
+import com.limvik.econome.global.exception.ErrorException;
+import com.limvik.econome.infrastructure.expense.ExpenseBulkRequestRepository;
+import com.limvik.econome.infrastructure.expense.ExpenseJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 여러 건의 지출 기록을 한 번의 요청으로 저장하는 서비스입니다.
+ * 검증을 통과한 행은 설정된 크기의 chunk 단위로 JDBC batch 저장되며, 전체 요청은 하나의 트랜잭션으로 처리됩니다.
+ * 요청 본문은 트랜잭션을 시작하기 전에 모두 읽으므로, 트랜잭션은 저장하는 동안에만 커넥션과 멱등성 키 잠금을 사용합니다.
+ * 멱등성 키가 주어지면 요청 본문의 해시와 처리 결과를 저장해두고, 같은 키로 같은 본문을 다시 요청하면 저장된 결과를 반환합니다.
+ */
+@RequiredArgsConstructor
+@Service
+public class ExpenseBulkService {
+
+    private static final TypeReference<List<ExpenseBulkResult.RowResult>> ROW_RESULTS_TYPE = new TypeReference<>() {};
+
+    private final ExpenseJdbcRepository expenseJdbcRepository;
+    private final ExpenseBulkRequestRepository expenseBulkRequestRepository;
+    private final DailyExpenseRollupService dailyExpenseRollupService;
+    private final TodayDashboardCache todayDashboardCache;
+    private final ExpenseBulkConfig expenseBulkConfig;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 검증을 통과한 지출 기록을 저장하고 행별 처리 결과를 반환합니다.
+     * @param userId 사용자 식별자
+     * @param idempotencyKey 멱등성 키, 없다면 null
+     * @param requestHash 요청 본문의 SHA-256 해시
+     * @param rows 요청 본문에서 순서대로 읽고 검증한 행, 최대 허용 건수 이하
+     * @throws ErrorException 같은 멱등성 키의 결과가 없거나, 같은 멱등성 키로 다른 본문을 요청한 경우
+     */
+    @Transactional
+    public ExpenseBulkResult createExpenses(long userId, String idempotencyKey, byte[] requestHash,
+                                            List<ExpenseBulkRow> rows) {
+        if (idempotencyKey != null && !expenseBulkRequestRepository.reserve(userId, idempotencyKey, requestHash)) {
+            return replay(userId, idempotencyKey, requestHash);
+        }
+
+        List<ExpenseBulkResult.RowResult> results = new ArrayList<>();
+        List<ExpenseBulkRow> chunk = new ArrayList<>(expenseBulkConfig.getChunkSize());
+        for (ExpenseBulkRow row : rows) {
+            if (!row.isAccepted()) {
+                results.add(new ExpenseBulkResult.RowResult(
+                        row.index(), ExpenseBulkResult.Status.REJECTED, null, row.rejectReason()));
+                continue;
+            }
+            chunk.add(row);
+            if (chunk.size() == expenseBulkConfig.getChunkSize()) {
+                insertChunk(chunk, results);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            insertChunk(chunk, results);
+        }
+        results.sort(Comparator.comparingInt(ExpenseBulkResult.RowResult::index));
+        todayDashboardCache.evictAfterCommit(userId);
+
+        if (idempotencyKey != null) {
+            expenseBulkRequestRepository.saveResponse(userId, idempotencyKey, serialize(results));
+        }
+        return new ExpenseBulkResult(results, false);
+    }
+
+    private void insertChunk(List<ExpenseBulkRow> chunk, List<ExpenseBulkResult.RowResult> results) {
+        List<Expense> expenses = chunk.stream().map(ExpenseBulkRow::expense).toList();
+        long[] ids = expenseJdbcRepository.batchInsert(expenses);
+        dailyExpenseRollupService.addAll(expenses);
+        for (int i = 0; i < chunk.size(); i++) {
+            results.add(new ExpenseBulkResult.RowResult(
+                    chunk.get(i).index(), ExpenseBulkResult.Status.CREATED, ids[i], null));
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 멱등성 키를 정해진 개수씩 나누어 삭제합니다. 각 삭제는 별도로 커밋되어 잠금을 오래 잡지 않습니다.
+     * @return 삭제한 멱등성 키 수
+     */
+    public int deleteExpiredIdempotencyKeys() {
+        int batchSize = expenseBulkConfig.getCleanupBatchSize();
+        int total = 0;
+        int deleted;
+        do {
+            deleted = expenseBulkRequestRepository.deleteCreatedBefore(
+                    expenseBulkConfig.getIdempotencyRetentionHours(), batchSize);
+            total += deleted;
+        } while (deleted == batchSize);
+        return total;
+    }
+
+    /**
+     * 저장된 결과를 반환합니다. 해시를 저장하기 전에 선점된 키는 보관 기간이 지나 삭제될 때까지 본문을 비교하지 않습니다.
+     */
+    private ExpenseBulkResult replay(long userId, String idempotencyKey, byte[] requestHash) {
+        ExpenseBulkRequestRepository.BulkRequest stored = expenseBulkRequestRepository.find(userId, idempotencyKey)
+                .orElseThrow(() -> new ErrorException(ErrorCode.IN_PROGRESS_BULK_EXPENSE));
+        if (stored.requestHash() != null && !MessageDigest.isEqual(stored.requestHash(), requestHash)) {
+            throw new ErrorException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+        if (stored.response() == null) {
+            throw new ErrorException(ErrorCode.IN_PROGRESS_BULK_EXPENSE);
+        }
+        try {
+            return new ExpenseBulkResult(objectMapper.readValue(stored.response(), ROW_RESULTS_TYPE), true);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 일괄 등록 결과를 읽을 수 없습니다.", e);
+        }
+    }
+
+    private String serialize(List<ExpenseBulkResult.RowResult> results) {
+        try {
+            return objectMapper.writeValueAsString(results);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("일괄 등록 결과를 저장할 수 없습니다.", e);
+        }
+    }
+}
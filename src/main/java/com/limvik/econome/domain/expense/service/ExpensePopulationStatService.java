@@ -0,0 +1,112 @@
+package com.limvik.econome.domain.expense.service;
+
+import com.limvik.econome.domain.expense.entity.ExpenseProjection;
+import com.limvik.econome.global.config.TodayDashboardConfig;
+import com.limvik.econome.infrastructure.expense.DailyExpenseRollupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * 전체 사용자의 이번 달 지출 합계와 지출한 사용자 수를 미리 계산하여 메모리에 보관합니다.
+ * 다른 사용자 대비 지출 비율 조회는 요청마다 전체 지출 기록을 집계하지 않고 이 스냅샷을 사용합니다.
+ * 이번 달은 사용자의 지출 합계와 같은 시간대(expense.today-dashboard.zone)로 계산합니다.
+ */
+@RequiredArgsConstructor
+@Service
+public class ExpensePopulationStatService {
+
+    private final DailyExpenseRollupRepository dailyExpenseRollupRepository;
+    private final TodayDashboardConfig todayDashboardConfig;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /**
+     * 이번 달 1일부터 오늘까지의 사용자별 지출 합계를 다시 계산하여 스냅샷을 교체합니다.
+     */
+    @Transactional(readOnly = true)
+    public void refresh() {
+        LocalDate today = LocalDate.now(todayDashboardConfig.getZone());
+        List<ExpenseProjection.UserSum> userSums = dailyExpenseRollupRepository.findUserSumsBetween(
+                today.withDayOfMonth(1), today.plusDays(1));
+        long[] userIds = new long[userSums.size()];
+        long[] userAmounts = new long[userSums.size()];
+        long totalAmount = 0L;
+        for (int i = 0; i < userSums.size(); i++) {
+            userIds[i] = userSums.get(i).getUserId();
+            userAmounts[i] = userSums.get(i).getAmount() == null ? 0L : userSums.get(i).getAmount();
+            totalAmount += userAmounts[i];
+        }
+        this.snapshot = new Snapshot(YearMonth.from(today), totalAmount, userSums.size(), Instant.now(),
+                userIds, userAmounts);
+    }
+
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 사용자의 이번 달 지출 합계를 다른 사용자의 평균 지출 합계와 비교한 비율(%)을 반환합니다.
+     * 스냅샷은 최대 갱신 주기만큼 오래되었으므로, 전체 합계에서 현재 지출이 아닌 스냅샷에 포함된 사용자 본인의 지출을 제외합니다.
+     * 스냅샷 이후 처음 지출한 사용자는 스냅샷에 포함되어 있지 않으므로 전체 합계와 사용자 수로 평균을 계산합니다.
+     * @param userId 사용자 식별자
+     * @param userAmount 사용자의 현재 이번 달 지출 합계
+     * @return 다른 사용자 평균 대비 지출 비율, 사용자 지출이 없거나 비교할 다른 사용자가 없으면 null
+     */
+    public Double getRateCompareOtherUser(long userId, long userAmount) {
+        Snapshot current = this.snapshot;
+        if (userAmount <= 0 || !YearMonth.now(todayDashboardConfig.getZone()).equals(current.month())) {
+            return null;
+        }
+        long otherUsersAmount = current.totalAmount();
+        long otherUserCount = current.userCount();
+        OptionalLong snapshotAmount = current.amountOf(userId);
+        if (snapshotAmount.isPresent()) {
+            otherUsersAmount -= snapshotAmount.getAsLong();
+            otherUserCount--;
+        }
+        if (otherUserCount <= 0 || otherUsersAmount <= 0) {
+            return null;
+        }
+        double otherUsersAverage = (double) otherUsersAmount / otherUserCount;
+        return userAmount / otherUsersAverage * 100;
+    }
+
+    /**
+     * 전체 사용자의 이번 달 지출 스냅샷입니다.
+     * 사용자별 지출 합계는 메모리를 적게 사용하도록 사용자 식별자 오름차순으로 정렬된 배열 두 개에 보관합니다.
+     * @param month 집계 대상 월, 아직 집계하지 않았다면 null
+     * @param totalAmount 이번 달 1일부터 집계 시점까지 전체 사용자의 지출 합계
+     * @param userCount 이번 달 지출 기록이 있는 사용자 수
+     * @param computedAt 집계 시각
+     * @param userIds 이번 달 지출 기록이 있는 사용자 식별자, 오름차순
+     * @param userAmounts userIds 와 같은 순서의 사용자별 지출 합계
+     */
+    public record Snapshot(YearMonth month, long totalAmount, long userCount, Instant computedAt,
+                           long[] userIds, long[] userAmounts) {
+
+        static final Snapshot EMPTY = new Snapshot(null, 0L, 0L, Instant.EPOCH, new long[0], new long[0]);
+
+        /**
+         * 집계 시점에 사용자의 이번 달 지출 합계를 반환합니다.
+         * @return 사용자별 지출 합계, 집계 시점에 지출 기록이 없던 사용자라면 빈 값
+         */
+        public OptionalLong amountOf(long userId) {
+            int index = Arrays.binarySearch(userIds, userId);
+            return index < 0 ? OptionalLong.empty() : OptionalLong.of(userAmounts[index]);
+        }
+
+        @Override
+        public String toString() {
+            return "Snapshot[month=" + month + ", totalAmount=" + totalAmount + ", userCount=" + userCount
+                    + ", computedAt=" + computedAt + "]";
+        }
+    }
+}
@@ -1,62 +1,126 @@
 package com.limvik.econome.domain.expense.service;
 
+import com.limvik.econome.domain.budgetplan.entity.BudgetPlanProjection;
 import com.limvik.econome.domain.category.enums.BudgetCategory;
 import com.limvik.econome.domain.expense.entity.Expense;
+import com.limvik.econome.domain.expense.entity.ExpenseDetail;
 import com.limvik.econome.domain.expense.entity.ExpenseProjection;
 import com.limvik.econome.domain.expense.service.dto.CalendarStatDto;
+import com.limvik.econome.domain.expense.service.dto.CategoryAmounts;
+import com.limvik.econome.domain.expense.service.dto.ExpenseCursor;
+import com.limvik.econome.domain.expense.service.dto.ExpenseListPage;
+import com.limvik.econome.domain.expense.service.dto.TodayDashboard;
 import com.limvik.econome.domain.user.entity.User;
+import com.limvik.econome.global.config.TodayDashboardConfig;
 import com.limvik.econome.global.exception.ErrorCode;
 import com.limvik.econome.global.exception.ErrorException;
+import com.limvik.econome.global.jfr.AggregateQueryEvent;
+import com.limvik.econome.global.jfr.RecommendationCalculationEvent;
 import com.limvik.econome.infrastructure.budgetplan.BudgetPlanRepository;
+import com.limvik.econome.infrastructure.expense.DailyExpenseRollupRepository;
+import com.limvik.econome.infrastructure.expense.ExpenseJdbcRepository;
 import com.limvik.econome.infrastructure.expense.ExpenseRepository;
 import com.limvik.econome.infrastructure.user.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 @RequiredArgsConstructor
 @Service
 public class ExpenseService {
 
     private final ExpenseRepository expenseRepository;
+    private final ExpenseJdbcRepository expenseJdbcRepository;
+    private final DailyExpenseRollupRepository dailyExpenseRollupRepository;
+    private final DailyExpenseRollupService dailyExpenseRollupService;
+    private final ExpensePopulationStatService expensePopulationStatService;
     private final BudgetPlanRepository budgetPlanRepository;
     private final UserRepository userRepository;
+    private final TodayDashboardCache todayDashboardCache;
+    private final TodayDashboardConfig todayDashboardConfig;
+    private final ExpenseStreamLimiter expenseStreamLimiter;
+
+    /**
+     * 오늘 지출, 추천 지출, 지출 통계가 기준으로 삼는 오늘 일자를 반환합니다.
+     * {@link TodayDashboardCache} 가 자정을 계산하는 것과 같은 시간대(expense.today-dashboard.zone)의 일자이므로,
+     * 서버의 시스템 시간대와 관계없이 모든 "오늘" 조회가 같은 날을 가리킵니다.
+     */
+    public LocalDate today() {
+        return LocalDate.now(todayDashboardConfig.getZone());
+    }
 
     @Transactional
     public Expense createExpense(Expense expense) {
-        return expenseRepository.save(expense);
+        Expense createdExpense = expenseRepository.save(expense);
+        dailyExpenseRollupService.add(createdExpense);
+        todayDashboardCache.evictAfterCommit(createdExpense.getUser().getId());
+        return createdExpense;
     }
 
     @Transactional
     public void updateExpense(Expense updateExpense) {
         var expense = expenseRepository.findByUserAndId(updateExpense.getUser(), updateExpense.getId())
                 .orElseThrow(() -> new ErrorException(ErrorCode.NOT_EXIST_EXPENSE));
+        var before = DailyExpenseRollupService.RollupEntry.of(expense);
         expense.update(updateExpense);
+        dailyExpenseRollupService.move(before, DailyExpenseRollupService.RollupEntry.of(expense));
+        todayDashboardCache.evictAfterCommit(updateExpense.getUser().getId());
     }
 
     @Transactional(readOnly = true)
-    public Expense getExpense(long userId, long expenseId) {
-        var user = User.builder().id(userId).build();
-        return expenseRepository.findByUserAndId(user, expenseId).orElseThrow(
+    public ExpenseDetail getExpense(long userId, long expenseId) {
+        return expenseRepository.findDetailByUserIdAndId(userId, expenseId).orElseThrow(
                 () -> new ErrorException(ErrorCode.NOT_EXIST_EXPENSE));
     }
 
+    /**
+     * 지정된 기간, 카테고리, 지출금액 범위에 속한 지출 기록 중 커서 이후의 기록을 최대 size 건 반환합니다.
+     * 합계는 페이지와 상관없이 기간 내 모든 지출 기록을 대상으로 별도의 집계 쿼리로 계산합니다.
+     * @param cursor 이전 페이지에서 반환한 커서, 첫 페이지라면 null
+     * @param size 한 페이지의 최대 지출 기록 수
+     */
     @Transactional(readOnly = true)
-    public List<Expense> getExpenses(long userId, LocalDate startDate, LocalDate endDate, Long minAmount, Long maxAmount) {
+    public ExpenseListPage getExpenseList(long userId, LocalDate startDate, LocalDate endDate, long categoryId,
+                                          long minAmount, long maxAmount, ExpenseCursor cursor, int size) {
         if (maxAmount <= 0) maxAmount = Long.MAX_VALUE;
-        String startInstant = startDate.toString() + "T00:00:00Z";
-        String postfixForEndInstant = endDate.toString() + "T23:59:59Z";
-        return expenseRepository.findAllExpenseList(userId,
-                LocalDateTime.parse(startInstant, DateTimeFormatter.ISO_DATE_TIME),
-                LocalDateTime.parse(postfixForEndInstant, DateTimeFormatter.ISO_DATE_TIME),
-                minAmount, maxAmount);
+        LocalDateTime start = startDate.atStartOfDay();
+        LocalDateTime end = endDate.plusDays(1).atStartOfDay();
+        ExpenseCursor after = cursor != null ? cursor : new ExpenseCursor(start, 0);
+
+        List<ExpenseDetail> expenses = expenseRepository.findExpenseListAfter(
+                userId, categoryId, start, end, minAmount, maxAmount,
+                after.datetime(), after.id(), PageRequest.of(0, size + 1));
+        ExpenseCursor nextCursor = null;
+        if (expenses.size() > size) {
+            expenses = expenses.subList(0, size);
+            var last = expenses.get(size - 1);
+            nextCursor = new ExpenseCursor(last.getDatetime(), last.getId());
+        }
+
+        long max = maxAmount;
+        var total = AggregateQueryEvent.single("ExpenseRepository.findExpenseListTotal", userId,
+                () -> expenseRepository.findExpenseListTotal(userId, categoryId, start, end, minAmount, max));
+        return new ExpenseListPage(expenses, nextCursor, total.getTotalAmount(), total.getTotalAmountForCategory());
+    }
+
+    /**
+     * 지정된 기간, 카테고리, 지출금액 범위에 속한 모든 지출 기록을 메모리에 모으지 않고 한 건씩 consumer 에 전달합니다.
+     * 전달이 끝날 때까지 DB 연결을 점유하므로 {@link ExpenseStreamLimiter} 로 조회 기간, 동시 실행 수, 점유 시간을 제한합니다.
+     * @param consumer 조회된 지출 기록을 받을 함수
+     */
+    @Transactional(readOnly = true)
+    public void streamExpenseList(long userId, LocalDate startDate, LocalDate endDate, long categoryId,
+                                  long minAmount, long maxAmount, Consumer<ExpenseDetail> consumer) {
+        long max = maxAmount <= 0 ? Long.MAX_VALUE : maxAmount;
+        expenseStreamLimiter.stream(startDate, endDate, consumer, limited ->
+                expenseJdbcRepository.streamExpenseList(userId, categoryId,
+                        startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay(), minAmount, max, limited));
     }
 
     @Transactional
@@ -64,7 +128,9 @@ public class ExpenseService {
         User user = User.builder().id(userId).build();
         Expense expense = expenseRepository.findByUserAndId(user, expenseId).orElseThrow(
                 () -> new ErrorException(ErrorCode.NOT_EXIST_EXPENSE));
+        dailyExpenseRollupService.subtract(expense);
         expenseRepository.delete(expense);
+        todayDashboardCache.evictAfterCommit(userId);
     }
 
     /**
@@ -72,124 +138,157 @@ public class ExpenseService {
      * 만약 균등분배한 금액이 최소 일 소비액 보다 작다면, 최소 일 소비액을 반환합니다.
      * 예산이 설정되지 않은 소비 지출 금액은 전체 카테고리에 균등 분배하여 차감합니다.
      * @param userId 사용자 id
-     * @return 예산이 설정된 카테고리별 오늘의 추천 금액 반환
+     * @return 예산이 설정된 카테고리별 오늘의 추천 금액 반환, 이번달 예산이 없다면 빈 값
      */
     @Transactional(readOnly = true)
-    public Map<Long, Long> getTodayRecommendationExpenses(long userId) {
+    public CategoryAmounts getTodayRecommendationExpenses(long userId) {
+        return getRecommendationExpenses(userId, today());
+    }
 
-        Map<Long, Long> monthlyBudgetMap = getThisMonthBudgetPlans(userId);
-        Map<Long, Long> monthlyExpensesMap = getThisMonthExpensesBeforeToday(userId);
+    private CategoryAmounts getRecommendationExpenses(long userId, LocalDate today) {
 
-        return calculateRecommendations(monthlyBudgetMap, monthlyExpensesMap, userId);
-    }
+        CategoryAmounts monthlyBudgets = getThisMonthBudgetPlans(userId, today);
+        if (monthlyBudgets.isEmpty()) return monthlyBudgets;
+        CategoryAmounts monthlyExpenses = getThisMonthExpensesBeforeToday(userId, today);
 
-    private Map<Long, Long> getThisMonthBudgetPlans(long userId) {
-        try (var budgetPlans = budgetPlanRepository.findThisMonthBudgetPerCategory(userId, LocalDate.now()).get()) {
-            return budgetPlans.collect(Collectors.toMap(budgetPlan -> budgetPlan.getCategoryId(), budgetPlan -> budgetPlan.getAmount()));
+        int restDaysOfMonth = today.lengthOfMonth() - today.getDayOfMonth() + 1;
+        long minimumDailyExpense = userRepository.findMinimumDailyExpenseById(userId);
+
+        var event = new RecommendationCalculationEvent();
+        event.begin();
+        CategoryAmounts recommendations =
+                calculateRecommendations(monthlyBudgets, monthlyExpenses, restDaysOfMonth, minimumDailyExpense);
+        event.end();
+        if (event.shouldCommit()) {
+            event.userId = userId;
+            event.budgetCategoryCount = monthlyBudgets.size();
+            event.expenseCategoryCount = monthlyExpenses.size();
+            event.restDaysOfMonth = restDaysOfMonth;
+            event.commit();
         }
+        return recommendations;
     }
 
-    private Map<Long, Long> getThisMonthExpensesBeforeToday(long userId) {
-        try (var expenses = expenseRepository.findThisMonthExpensesPerCategory(userId, LocalDate.now()).get()) {
-            return expenses.collect(Collectors.toMap(expense -> expense.getCategoryId(), expense -> expense.getAmount()));
-        }
+    private CategoryAmounts getThisMonthBudgetPlans(long userId, LocalDate today) {
+        var budgets = AggregateQueryEvent.list("BudgetPlanRepository.findThisMonthBudgetPerCategory", userId,
+                () -> budgetPlanRepository.findThisMonthBudgetPerCategory(userId, today));
+        return CategoryAmounts.of(budgets,
+                BudgetPlanProjection.SumCategory::getCategoryId, BudgetPlanProjection.SumCategory::getAmount);
     }
 
-    private Map<Long, Long> calculateRecommendations(Map<Long, Long> monthlyBudgetMap,
-                                                     Map<Long, Long> monthlyExpensesMap,
-                                                     long userId) {
-        int restDaysOfMonth = LocalDate.now().lengthOfMonth() - LocalDate.now().getDayOfMonth() + 1;
-        long minimumDailyExpense = userRepository.findMinimumDailyExpenseById(userId);
-        long expenseForNotCreatedBudgetPlan = getExpenseForNotCreatedBudgetPlan(monthlyBudgetMap, monthlyExpensesMap);
-        long penaltyForUnexpectedExpensePerCategory = expenseForNotCreatedBudgetPlan / monthlyBudgetMap.size();
-        monthlyBudgetMap.forEach((categoryId, budget) -> {
-            long monthlyExpensePerCategory = monthlyExpensesMap.getOrDefault(categoryId, 0L);
-            long todayRecommendationAmount =
-                    (budget - monthlyExpensePerCategory - penaltyForUnexpectedExpensePerCategory) / restDaysOfMonth;
-            monthlyBudgetMap.put(categoryId, Math.max(todayRecommendationAmount, minimumDailyExpense));
-        });
-        return monthlyBudgetMap;
+    private CategoryAmounts getThisMonthExpensesBeforeToday(long userId, LocalDate today) {
+        return findExpensesPerCategoryBetween(userId, today.withDayOfMonth(1), today);
     }
 
     /**
-     * 이번달 카테고리별 예산과 소비 지출 기록을 받아 예산이 설정되지 않은 카테고리에서의 소비 합계를 반환합니다.
-     * @param monthlyBudget 이번달 설정한 카테고리별 예산
-     * @param monthlyExpenses 이번달 소비한 카테고리별 지출 기록
-     * @return 예산이 설정되지 않은 카테고리에서 소비한 금액의 합 반환
+     * 저장소를 조회하지 않는 순수 계산으로, 벤치마크에서 직접 호출할 수 있도록 패키지 범위로 공개합니다.
      */
-    private long getExpenseForNotCreatedBudgetPlan(Map<Long, Long> monthlyBudget, Map<Long, Long> monthlyExpenses) {
-        AtomicLong sum = new AtomicLong(0L);
-        monthlyExpenses.forEach((categoryId, amount) -> {
-            if (!monthlyBudget.containsKey(categoryId))
-                sum.addAndGet(monthlyExpenses.get(categoryId));
+    static CategoryAmounts calculateRecommendations(CategoryAmounts monthlyBudgets,
+                                                    CategoryAmounts monthlyExpenses,
+                                                    int restDaysOfMonth,
+                                                    long minimumDailyExpense) {
+        // 예산이 설정되지 않은 카테고리에서 소비한 금액은 예산이 있는 카테고리에 균등 분배하여 차감
+        long penaltyForUnexpectedExpensePerCategory = monthlyExpenses.totalNotIn(monthlyBudgets) / monthlyBudgets.size();
+        CategoryAmounts recommendations = new CategoryAmounts();
+        monthlyBudgets.forEach((categoryId, budget) -> {
+            long todayRecommendationAmount =
+                    (budget - monthlyExpenses.get(categoryId) - penaltyForUnexpectedExpensePerCategory) / restDaysOfMonth;
+            recommendations.put(categoryId, Math.max(todayRecommendationAmount, minimumDailyExpense));
         });
-        return sum.get();
+        return recommendations;
     }
 
     @Transactional(readOnly = true)
-    public Map<Long, Long> getTodayExpenses(long userId) {
-        try (var expenses = expenseRepository.findTodayExpensesPerCategory(userId).get()) {
-            return expenses.collect(Collectors.toMap(expense -> expense.getCategoryId(), expense -> expense.getAmount()));
-        }
+    public CategoryAmounts getTodayExpenses(long userId) {
+        return getDailyExpenses(userId, today());
+    }
+
+    /**
+     * 오늘의 카테고리별 지출 금액과 추천 지출 금액을 하나의 트랜잭션에서 계산하여 반환합니다.
+     * @param userId 사용자 id
+     * @return 사용자의 오늘 지출 현황
+     */
+    @Transactional(readOnly = true)
+    public TodayDashboard getTodayDashboard(long userId) {
+        LocalDate today = today();
+        return new TodayDashboard(today, getDailyExpenses(userId, today), getRecommendationExpenses(userId, today));
     }
 
     @Transactional(readOnly = true)
     public List<CalendarStatDto> getExpenseMonthlyStat(long userId) {
-        List<ExpenseProjection.SumCategory> lastMonthExpenses =
-                expenseRepository.findMonthlyExpensesPerCategoryByYearAndMonthAndDayBefore(
-                        userId, LocalDate.now().minusMonths(1));
-        List<ExpenseProjection.SumCategory> thisMonthExpenses =
-                expenseRepository.findMonthlyExpensesPerCategoryByYearAndMonthAndDayBefore(
-                        userId, LocalDate.now());
+        LocalDate today = today();
+        CategoryAmounts lastMonthExpenses = getMonthlyExpensesUntil(userId, today.minusMonths(1));
+        CategoryAmounts thisMonthExpenses = getMonthlyExpensesUntil(userId, today);
         return getCalendarStatDtos(lastMonthExpenses, thisMonthExpenses);
     }
 
     @Transactional(readOnly = true)
     public List<CalendarStatDto> getExpenseWeeklyStat(long userId) {
-        List<ExpenseProjection.SumCategory> lastWeekSameDayExpenses =
-                expenseRepository.findWeeklyExpensesPerCategoryByYearAndMonthAndDay(
-                        userId, LocalDate.now().minusWeeks(1));
-        List<ExpenseProjection.SumCategory> todayExpenses =
-                expenseRepository.findWeeklyExpensesPerCategoryByYearAndMonthAndDay(
-                        userId, LocalDate.now());
+        LocalDate today = today();
+        CategoryAmounts lastWeekSameDayExpenses = getDailyExpenses(userId, today.minusWeeks(1));
+        CategoryAmounts todayExpenses = getDailyExpenses(userId, today);
         return getCalendarStatDtos(lastWeekSameDayExpenses, todayExpenses);
     }
 
-    private List<CalendarStatDto> getCalendarStatDtos(List<ExpenseProjection.SumCategory> lastExpenses,
-                                                      List<ExpenseProjection.SumCategory> thisExpenses) {
-        List<CalendarStatDto> result = new ArrayList<>();
-        thisExpenses.forEach(thisExpense -> {
-            AtomicLong lastExpense = new AtomicLong(0L);
-            lastExpenses.stream()
-                    .filter(sumCategory -> sumCategory.getCategoryId().equals(thisExpense.getCategoryId()))
-                    .findFirst().ifPresent(sumCategory -> lastExpense.set(sumCategory.getAmount()));
+    /**
+     * 지정한 일자가 속한 달의 1일부터 지정한 일자까지([1일, 다음날)) 카테고리별 지출 합계를 반환합니다.
+     */
+    private CategoryAmounts getMonthlyExpensesUntil(long userId, LocalDate date) {
+        return findExpensesPerCategoryBetween(userId, date.withDayOfMonth(1), date.plusDays(1));
+    }
 
-            result.add(getCalendarStatDto(thisExpense, lastExpense));
-        });
-        return result;
+    /**
+     * 지정한 일자 하루 동안([일자, 다음날)) 카테고리별 지출 합계를 반환합니다.
+     */
+    private CategoryAmounts getDailyExpenses(long userId, LocalDate date) {
+        return findExpensesPerCategoryBetween(userId, date, date.plusDays(1));
     }
 
-    private CalendarStatDto getCalendarStatDto(ExpenseProjection.SumCategory thisExpense,
-                                               AtomicLong lastExpense) {
-        return new CalendarStatDto(
-                thisExpense.getCategoryId(),
-                BudgetCategory.values()[thisExpense.getCategoryId().intValue() - 1].getCategory(),
-                getExpenseRateCompareLastExpense(thisExpense, lastExpense));
+    /**
+     * [시작일, 종료일) 동안의 카테고리별 지출 합계를 반환합니다.
+     */
+    private CategoryAmounts findExpensesPerCategoryBetween(long userId, LocalDate start, LocalDate end) {
+        return toCategoryAmounts(AggregateQueryEvent.list("DailyExpenseRollupRepository.findExpensesPerCategoryBetween",
+                userId, () -> dailyExpenseRollupRepository.findExpensesPerCategoryBetween(userId, start, end)));
+    }
+
+    private CategoryAmounts toCategoryAmounts(List<ExpenseProjection.SumCategory> expenses) {
+        return CategoryAmounts.of(expenses, ExpenseProjection.SumCategory::getCategoryId,
+                sumCategory -> sumCategory.getAmount() == null ? 0L : sumCategory.getAmount());
+    }
+
+    /**
+     * 이번 기간에 지출이 있는 카테고리마다 지난 기간 같은 카테고리의 지출과 비교한 비율을 카테고리 식별자 오름차순으로 반환합니다.
+     */
+    static List<CalendarStatDto> getCalendarStatDtos(CategoryAmounts lastExpenses, CategoryAmounts thisExpenses) {
+        List<CalendarStatDto> result = new ArrayList<>(thisExpenses.size());
+        thisExpenses.forEach((categoryId, thisExpense) -> result.add(new CalendarStatDto(
+                categoryId,
+                BudgetCategory.ofId(categoryId).getCategory(),
+                getExpenseRateCompareLastExpense(thisExpense, lastExpenses.get(categoryId)))));
+        return result;
     }
 
-    private double getExpenseRateCompareLastExpense(ExpenseProjection.SumCategory thisExpense,
-                                                    AtomicLong lastExpense) {
-        if (lastExpense.get() == 0L) {
+    private static double getExpenseRateCompareLastExpense(long thisExpense, long lastExpense) {
+        if (lastExpense == 0L) {
             return -1.0;
-        } else if (thisExpense.getAmount() == null || thisExpense.getAmount() == 0L) {
+        } else if (thisExpense == 0L) {
             return 0.0;
         } else {
-            return (double) thisExpense.getAmount() / lastExpense.get() * 100;
+            return (double) thisExpense / lastExpense * 100;
         }
     }
 
+    /**
+     * 사용자의 이번 달 지출 합계를 주기적으로 갱신되는 전체 사용자 지출 스냅샷과 비교한 비율을 반환합니다.
+     * @param userId 사용자 id
+     * @return 다른 사용자 평균 대비 지출 비율(%), 비교할 수 없으면 null
+     */
     @Transactional(readOnly = true)
     public Double getExpenseRateCompareOtherUserStat(long userId) {
-        return expenseRepository.findExpenseRateCompareOtherUser(userId);
+        LocalDate today = today();
+        long userAmount = AggregateQueryEvent.single("DailyExpenseRollupRepository.sumAmountBetween", userId,
+                () -> dailyExpenseRollupRepository.sumAmountBetween(userId, today.withDayOfMonth(1), today.plusDays(1)));
+        return expensePopulationStatService.getRateCompareOtherUser(userId, userAmount);
     }
 }
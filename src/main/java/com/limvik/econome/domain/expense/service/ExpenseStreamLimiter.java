@@ -0,0 +1,62 @@
+package com.limvik.econome.domain.expense.service;
+
+import com.limvik.econome.global.config.ExpenseStreamConfig;
+import com.limvik.econome.global.exception.ErrorCode;
+import com.limvik.econome.global.exception.ErrorException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 지출 기록 스트리밍 조회가 DB 연결을 점유하는 범위를 제한합니다.
+ * 스트리밍 조회는 응답을 모두 쓸 때까지 연결을 반환하지 않으므로, 느린 클라이언트 몇 개가 커넥션 풀을 모두 차지하지 않도록
+ * 조회 기간, 동시에 실행할 수 있는 스트리밍 수, 연결을 점유하는 시간을 제한합니다.
+ * 허가가 없으면 기다리지 않고 {@link ErrorCode#BUSY_EXPENSE_STREAM} 예외를 던집니다.
+ */
+@Component
+public class ExpenseStreamLimiter {
+
+    private final ExpenseStreamConfig config;
+    private final Semaphore permits;
+
+    public ExpenseStreamLimiter(ExpenseStreamConfig config) {
+        this.config = config;
+        this.permits = new Semaphore(config.getMaxConcurrentStreams());
+    }
+
+    /**
+     * 허가를 얻어 작업을 실행하고, 작업이 끝나면 허가를 반환합니다.
+     * @param startDate 조회 범위 시작일
+     * @param endDate 조회 범위 종료일, 시작일부터 최대 기간을 넘으면 {@link ErrorCode#EXPENSE_STREAM_RANGE_TOO_LONG}
+     * @param consumer 조회된 행을 받을 함수, 제한 시간이 지난 후 전달되는 행은 받지 않고 {@link ErrorCode#EXPENSE_STREAM_TIMEOUT} 예외로 조회를 중단
+     * @param stream 제한 시간을 적용한 consumer 로 조회를 실행하는 작업
+     */
+    public <T> void stream(LocalDate startDate, LocalDate endDate, Consumer<T> consumer, Consumer<Consumer<T>> stream) {
+        if (ChronoUnit.DAYS.between(startDate, endDate) + 1 > config.getMaxRangeDays()) {
+            throw new ErrorException(ErrorCode.EXPENSE_STREAM_RANGE_TOO_LONG);
+        }
+        if (!permits.tryAcquire()) {
+            throw new ErrorException(ErrorCode.BUSY_EXPENSE_STREAM);
+        }
+        try {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getTimeoutMs());
+            stream.accept(row -> {
+                if (System.nanoTime() - deadline >= 0) {
+                    throw new ErrorException(ErrorCode.EXPENSE_STREAM_TIMEOUT);
+                }
+                consumer.accept(row);
+            });
+        } finally {
+            permits.release();
+        }
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+}
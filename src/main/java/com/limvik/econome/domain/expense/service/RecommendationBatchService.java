@@ -0,0 +1,100 @@
+package com.limvik.econome.domain.expense.service;
+
+import com.limvik.econome.domain.budgetplan.entity.BudgetPlanProjection;
+import com.limvik.econome.domain.expense.entity.ExpenseProjection;
+import com.limvik.econome.domain.expense.service.dto.CategoryAmounts;
+import com.limvik.econome.domain.expense.service.dto.UserRecommendation;
+import com.limvik.econome.domain.user.entity.UserProjection;
+import com.limvik.econome.infrastructure.budgetplan.BudgetPlanRepository;
+import com.limvik.econome.infrastructure.expense.DailyExpenseRollupRepository;
+import com.limvik.econome.infrastructure.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 여러 사용자의 오늘 추천 지출 금액을 사용자 수와 상관없이 세 번의 집계 쿼리로 계산합니다.
+ * 계산 방식은 {@link ExpenseService#getTodayRecommendationExpenses(long)} 와 같으며,
+ * 중간 결과는 (사용자 수 x 카테고리 수) 크기의 primitive 배열에 담습니다.
+ */
+@RequiredArgsConstructor
+@Service
+public class RecommendationBatchService {
+
+    private static final int CATEGORY_COUNT = CategoryAmounts.SIZE;
+
+    private final UserRepository userRepository;
+    private final BudgetPlanRepository budgetPlanRepository;
+    private final DailyExpenseRollupRepository dailyExpenseRollupRepository;
+
+    /**
+     * 식별자가 [fromUserId, toUserId] 범위인 사용자의 오늘 추천 지출 금액을 사용자 식별자 오름차순으로 consumer 에 전달합니다.
+     * 예산을 설정하지 않은 사용자는 전달하지 않습니다. 범위 안의 사용자 수만큼 메모리를 사용하므로 큰 범위는 나누어 호출합니다.
+     * @param today 추천 기준 일자
+     * @param consumer 사용자별 추천 금액을 받을 함수
+     */
+    @Transactional(readOnly = true)
+    public void recommendBetween(long fromUserId, long toUserId, LocalDate today,
+                                 Consumer<UserRecommendation> consumer) {
+        List<UserProjection.MinimumDailyExpense> users =
+                userRepository.findMinimumDailyExpenseBetween(fromUserId, toUserId);
+        int userCount = users.size();
+        if (userCount == 0) return;
+
+        long[] userIds = new long[userCount];
+        long[] minimums = new long[userCount];
+        for (int u = 0; u < userCount; u++) {
+            userIds[u] = users.get(u).getId();
+            minimums[u] = users.get(u).getMinimumDailyExpense();
+        }
+
+        LocalDate monthStart = today.withDayOfMonth(1);
+        long[] budgets = new long[userCount * CATEGORY_COUNT];
+        int[] budgetMasks = new int[userCount];
+        for (BudgetPlanProjection.UserSumCategory budget : budgetPlanRepository.findBudgetPerUserCategoryBetween(
+                fromUserId, toUserId, monthStart, monthStart.plusMonths(1))) {
+            int u = Arrays.binarySearch(userIds, budget.getUserId());
+            if (u < 0) continue;
+            int c = budget.getCategoryId().intValue() - 1;
+            budgets[u * CATEGORY_COUNT + c] = budget.getAmount();
+            budgetMasks[u] |= 1 << c;
+        }
+
+        long[] spent = new long[userCount * CATEGORY_COUNT];
+        for (ExpenseProjection.UserSumCategory expense : dailyExpenseRollupRepository.findExpensesPerUserCategoryBetween(
+                fromUserId, toUserId, monthStart, today)) {
+            int u = Arrays.binarySearch(userIds, expense.getUserId());
+            if (u < 0) continue;
+            spent[u * CATEGORY_COUNT + expense.getCategoryId().intValue() - 1] = expense.getAmount();
+        }
+
+        int restDaysOfMonth = today.lengthOfMonth() - today.getDayOfMonth() + 1;
+        for (int u = 0; u < userCount; u++) {
+            int mask = budgetMasks[u];
+            if (mask == 0) continue;
+            int base = u * CATEGORY_COUNT;
+
+            // 예산이 설정되지 않은 카테고리의 지출은 예산이 있는 카테고리에 균등 분배하여 차감
+            long expenseForNotCreatedBudgetPlan = 0L;
+            for (int c = 0; c < CATEGORY_COUNT; c++) {
+                if ((mask & (1 << c)) == 0) expenseForNotCreatedBudgetPlan += spent[base + c];
+            }
+            long penaltyPerCategory = expenseForNotCreatedBudgetPlan / Integer.bitCount(mask);
+
+            CategoryAmounts amounts = new CategoryAmounts();
+            for (int c = 0; c < CATEGORY_COUNT; c++) {
+                if ((mask & (1 << c)) == 0) continue;
+                amounts.put(c + 1L, Math.max(
+                        (budgets[base + c] - spent[base + c] - penaltyPerCategory) / restDaysOfMonth,
+                        minimums[u]));
+            }
+            consumer.accept(new UserRecommendation(userIds[u], amounts));
+        }
+    }
+
+}
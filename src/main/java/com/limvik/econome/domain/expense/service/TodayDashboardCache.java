@@ -0,0 +1,109 @@
+package com.limvik.econome.domain.expense.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.limvik.econome.domain.expense.service.dto.TodayDashboard;
+import com.limvik.econome.global.config.TodayDashboardConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.function.LongFunction;
+
+/**
+ * 사용자별 오늘 지출 현황을 기준 일자의 자정까지 보관하는 캐시입니다.
+ * 사용자의 지출 기록이나 예산이 변경되면 해당 트랜잭션이 커밋된 후 그 사용자의 항목만 제거합니다.
+ */
+@Component
+public class TodayDashboardCache implements MeterBinder {
+
+    private final boolean enabled;
+    private final Cache<Long, TodayDashboard> cache;
+
+    public TodayDashboardCache(TodayDashboardConfig todayDashboardConfig) {
+        this.enabled = todayDashboardConfig.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(todayDashboardConfig.getMaximumSize())
+                .expireAfter(new UntilMidnight(todayDashboardConfig.getZone()))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시된 오늘 지출 현황을 반환하고, 없다면 계산하여 저장한 후 반환합니다.
+     * @param userId 사용자 식별자
+     * @param loader 캐시에 없을 때 오늘 지출 현황을 계산하는 함수
+     */
+    public TodayDashboard get(long userId, LongFunction<TodayDashboard> loader) {
+        if (!enabled) {
+            return loader.apply(userId);
+        }
+        return cache.get(userId, loader::apply);
+    }
+
+    /**
+     * 진행 중인 트랜잭션이 커밋된 후 사용자의 오늘 지출 현황을 제거합니다.
+     * 커밋 전에 제거하면 그 사이 다른 요청이 변경 전 데이터로 다시 캐시할 수 있으므로 커밋 이후에 제거합니다.
+     * @param userId 사용자 식별자
+     */
+    public void evictAfterCommit(long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.invalidate(userId);
+            }
+        });
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "todayDashboard");
+    }
+
+    /**
+     * 캐시 항목을 기준 일자 다음 날 자정까지만 유지합니다.
+     */
+    private record UntilMidnight(ZoneId zone) implements Expiry<Long, TodayDashboard> {
+
+        @Override
+        public long expireAfterCreate(Long userId, TodayDashboard dashboard, long currentTime) {
+            ZonedDateTime midnight = dashboard.day().plusDays(1).atStartOfDay(zone);
+            return Math.max(0L, Duration.between(ZonedDateTime.now(zone), midnight).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(Long userId, TodayDashboard dashboard, long currentTime, long currentDuration) {
+            return expireAfterCreate(userId, dashboard, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long userId, TodayDashboard dashboard, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+}
@@ -0,0 +1,145 @@
+package com.limvik.econome.domain.expense.service.dto;
+
+import com.limvik.econome.domain.category.enums.BudgetCategory;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * 카테고리별 금액을 (카테고리 식별자 - 1), 즉 {@link BudgetCategory} 의 ordinal 을 인덱스로 하는 long 배열에 담는 값 객체입니다.
+ * 금액이 0 인 카테고리와 금액이 없는 카테고리를 구분하기 위해 금액이 설정된 카테고리를 비트 집합으로 함께 보관합니다.
+ * 순회는 항상 카테고리 식별자 오름차순입니다.
+ * 여러 스레드가 공유하는 값(예: 캐시에 보관하는 값)은 {@link #readOnly()} 로 변경할 수 없는 사본을 만들어 전달합니다.
+ */
+public final class CategoryAmounts {
+
+    public static final int SIZE = BudgetCategory.values().length;
+
+    private final long[] amounts = new long[SIZE];
+    private int presentMask;
+    private boolean readOnly;
+
+    /**
+     * 조회 결과 행에서 카테고리 식별자와 금액을 읽어 CategoryAmounts 를 만듭니다.
+     */
+    public static <T> CategoryAmounts of(Iterable<T> rows, ToLongFunction<T> categoryId, ToLongFunction<T> amount) {
+        CategoryAmounts categoryAmounts = new CategoryAmounts();
+        for (T row : rows) {
+            categoryAmounts.put(categoryId.applyAsLong(row), amount.applyAsLong(row));
+        }
+        return categoryAmounts;
+    }
+
+    /**
+     * @throws UnsupportedOperationException {@link #readOnly()} 로 만든 값을 변경하려는 경우
+     */
+    public void put(long categoryId, long amount) {
+        if (readOnly) {
+            throw new UnsupportedOperationException("변경할 수 없는 CategoryAmounts 입니다.");
+        }
+        int index = indexOf(categoryId);
+        amounts[index] = amount;
+        presentMask |= 1 << index;
+    }
+
+    /**
+     * @return 같은 금액을 담은 변경할 수 없는 사본, 이미 변경할 수 없다면 자기 자신
+     */
+    public CategoryAmounts readOnly() {
+        if (readOnly) {
+            return this;
+        }
+        CategoryAmounts copy = new CategoryAmounts();
+        System.arraycopy(amounts, 0, copy.amounts, 0, SIZE);
+        copy.presentMask = presentMask;
+        copy.readOnly = true;
+        return copy;
+    }
+
+    public boolean has(long categoryId) {
+        return (presentMask & (1 << indexOf(categoryId))) != 0;
+    }
+
+    /**
+     * @return 카테고리의 금액, 금액이 없는 카테고리라면 0
+     */
+    public long get(long categoryId) {
+        return amounts[indexOf(categoryId)];
+    }
+
+    public int size() {
+        return Integer.bitCount(presentMask);
+    }
+
+    public boolean isEmpty() {
+        return presentMask == 0;
+    }
+
+    public long total() {
+        long total = 0L;
+        for (long amount : amounts) total += amount;
+        return total;
+    }
+
+    /**
+     * @return other 에는 없는 카테고리의 금액 합계
+     */
+    public long totalNotIn(CategoryAmounts other) {
+        int mask = presentMask & ~other.presentMask;
+        long total = 0L;
+        for (int index = 0; index < SIZE; index++) {
+            if ((mask & (1 << index)) != 0) total += amounts[index];
+        }
+        return total;
+    }
+
+    public void forEach(CategoryAmountConsumer consumer) {
+        for (int index = 0; index < SIZE; index++) {
+            if ((presentMask & (1 << index)) != 0) consumer.accept(index + 1L, amounts[index]);
+        }
+    }
+
+    /**
+     * @return 금액이 있는 카테고리만 담은 카테고리 식별자 오름차순의 Map
+     */
+    public Map<Long, Long> toMap() {
+        Map<Long, Long> map = new TreeMap<>();
+        forEach(map::put);
+        return map;
+    }
+
+    private static int indexOf(long categoryId) {
+        if (categoryId < 1 || categoryId > SIZE) {
+            throw new IllegalArgumentException("존재하지 않는 카테고리 식별자입니다: " + categoryId);
+        }
+        return (int) categoryId - 1;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CategoryAmounts other)) return false;
+        return presentMask == other.presentMask && Arrays.equals(amounts, other.amounts);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * presentMask + Arrays.hashCode(amounts);
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "{", "}");
+        forEach((categoryId, amount) -> joiner.add(categoryId + "=" + amount));
+        return joiner.toString();
+    }
+
+    @FunctionalInterface
+    public interface CategoryAmountConsumer {
+        void accept(long categoryId, long amount);
+    }
+
+}
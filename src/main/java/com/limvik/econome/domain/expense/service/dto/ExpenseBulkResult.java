@@ -0,0 +1,30 @@
+package com.limvik.econome.domain.expense.service.dto;
+
+import java.util.List;
+
+/**
+ * 지출 일괄 등록 처리 결과를 Service 에서 Controller 로 보내기 위한 DTO 입니다.
+ * @param rows 요청 순서대로 정렬된 행별 처리 결과
+ * @param replayed 같은 멱등성 키로 이미 처리된 결과를 다시 반환한 경우 true
+ */
+public record ExpenseBulkResult(
+        List<RowResult> rows,
+        boolean replayed
+) {
+
+    public enum Status { CREATED, REJECTED }
+
+    /**
+     * @param index 요청 본문에서의 순서(0부터 시작)
+     * @param status 처리 결과
+     * @param expenseId 생성된 지출 식별자, 거절되었다면 null
+     * @param reason 거절 사유, 생성되었다면 null
+     */
+    public record RowResult(
+            int index,
+            Status status,
+            Long expenseId,
+            String reason
+    ) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.limvik.econome.domain.expense.service.dto;
+
+import com.limvik.econome.domain.expense.entity.Expense;
+
+/**
+ * 지출 일괄 등록 요청의 한 행을 Controller 에서 Service 로 보내기 위한 DTO 입니다.
+ * @param index 요청 본문에서의 순서(0부터 시작)
+ * @param expense 검증을 통과한 지출 기록, 검증에 실패했다면 null
+ * @param rejectReason 검증 실패 사유, 검증을 통과했다면 null
+ */
+public record ExpenseBulkRow(
+        int index,
+        Expense expense,
+        String rejectReason
+) {
+
+    public static ExpenseBulkRow accepted(int index, Expense expense) {
+        return new ExpenseBulkRow(index, expense, null);
+    }
+
+    public static ExpenseBulkRow rejected(int index, String rejectReason) {
+        return new ExpenseBulkRow(index, null, rejectReason);
+    }
+
+    public boolean isAccepted() {
+        return expense != null;
+    }
+}
@@ -0,0 +1,43 @@
+package com.limvik.econome.domain.expense.service.dto;
+
+import com.limvik.econome.global.exception.ErrorCode;
+import com.limvik.econome.global.exception.ErrorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 지출 목록 조회에서 마지막으로 반환한 지출 기록의 위치(지출 일시, 식별자)입니다.
+ * 클라이언트에는 내부 구조를 알 수 없는 문자열로 전달됩니다.
+ * @param datetime 마지막으로 반환한 지출 기록의 지출 일시
+ * @param id 마지막으로 반환한 지출 기록의 식별자
+ */
+public record ExpenseCursor(
+        LocalDateTime datetime,
+        long id
+) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = datetime.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws ErrorException 서버가 발급한 형식의 커서가 아닌 경우
+     */
+    public static ExpenseCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            return new ExpenseCursor(
+                    LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                    Long.parseLong(raw.substring(separatorIndex + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new ErrorException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.limvik.econome.domain.expense.service.dto;
+
+import com.limvik.econome.domain.expense.entity.ExpenseDetail;
+
+import java.util.List;
+
+/**
+ * 지출 목록 조회 시 Service 에서 Controller 로 한 페이지의 지출 기록과 기간 내 합계를 보내기 위한 DTO 입니다.
+ * @param expenses 지출 일시, 식별자 순으로 정렬된 지출 기록
+ * @param nextCursor 다음 페이지 조회에 사용할 커서, 마지막 페이지라면 null
+ * @param totalAmount 기간 내 합계 제외 항목을 제외한 지출 총액
+ * @param totalAmountForCategory 기간 내 합계 제외 항목을 제외한 조회 카테고리의 지출 총액
+ */
+public record ExpenseListPage(
+        List<ExpenseDetail> expenses,
+        ExpenseCursor nextCursor,
+        long totalAmount,
+        long totalAmountForCategory
+) {
+}
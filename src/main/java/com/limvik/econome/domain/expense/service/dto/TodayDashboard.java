@@ -0,0 +1,23 @@
+package com.limvik.econome.domain.expense.service.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자의 오늘 지출 현황을 한 번에 계산해 보관하기 위한 DTO 입니다.
+ * 캐시에서 여러 요청이 공유하므로 카테고리별 금액은 변경할 수 없는 사본으로 보관합니다.
+ * @param day 계산 기준 일자
+ * @param todayExpenses 카테고리별 오늘 지출 금액
+ * @param recommendations 카테고리별 오늘 추천 지출 금액
+ */
+public record TodayDashboard(
+        LocalDate day,
+        CategoryAmounts todayExpenses,
+        CategoryAmounts recommendations
+) {
+
+    public TodayDashboard {
+        todayExpenses = todayExpenses.readOnly();
+        recommendations = recommendations.readOnly();
+    }
+
+}
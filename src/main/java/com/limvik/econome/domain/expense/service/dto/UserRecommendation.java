@@ -0,0 +1,12 @@
+package com.limvik.econome.domain.expense.service.dto;
+
+/**
+ * 한 사용자의 카테고리별 오늘 추천 지출 금액입니다.
+ * @param userId 사용자 식별자
+ * @param amounts 예산이 설정된 카테고리별 추천 금액
+ */
+public record UserRecommendation(
+        long userId,
+        CategoryAmounts amounts
+) {
+}
@@ -14,10 +14,11 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Table(name = "user")
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @Column(unique = true, length = 20)
@@ -26,23 +27,19 @@ public class User {
     @Column(unique = true)
     private String email;
 
-    @Column(nullable = false, length = 64)
+    @Column(nullable = false)
     private String password;
 
-    @Column
+    @Column(name = "minimum_daily_expense")
     private long minimumDailyExpense;
 
-    @Column
+    @Column(name = "agree_alarm")
     private boolean agreeAlarm;
 
-    @Column
+    @Column(name = "create_time", columnDefinition = "DATETIME")
     @CreationTimestamp
     private Instant createTime;
 
-    @Setter
-    @Column
-    private String refreshToken;
-
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL)
     private List<BudgetPlan> budgetPlans;
 
@@ -0,0 +1,21 @@
+package com.limvik.econome.domain.user.entity;
+
+public class UserProjection {
+
+    public interface Credential {
+        Long getId();
+        String getUsername();
+        String getPassword();
+    }
+
+    public interface AlarmTarget {
+        Long getId();
+        Long getMinimumDailyExpense();
+    }
+
+    public interface MinimumDailyExpense {
+        Long getId();
+        Long getMinimumDailyExpense();
+    }
+
+}
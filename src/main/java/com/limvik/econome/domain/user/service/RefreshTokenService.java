@@ -0,0 +1,146 @@
+package com.limvik.econome.domain.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.limvik.econome.global.config.JwtConfig;
+import com.limvik.econome.global.exception.ErrorCode;
+import com.limvik.econome.global.exception.ErrorException;
+import com.limvik.econome.global.security.jwt.provider.JwtProvider;
+import com.limvik.econome.infrastructure.user.RefreshTokenRepository;
+import com.limvik.econome.infrastructure.user.RefreshTokenRepository.StoredRefreshToken;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 사용자의 기기별 Refresh Token 을 저장하고 검증합니다.
+ * 저장하거나 조회한 Refresh Token 은 만료 시각까지 크기 제한 캐시에 보관하여, Access Token 갱신 요청이 대부분 데이터베이스를 조회하지 않도록 합니다.
+ * rotation 을 사용하면 Refresh Token 삭제는 항상 데이터베이스에서 조건부로 수행하므로, 캐시에 남은 토큰으로 두 번 갱신할 수 없습니다.
+ */
+@Service
+public class RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtProvider jwtProvider;
+    private final boolean rotation;
+    private final int cleanupBatchSize;
+    private final Cache<ByteBuffer, StoredRefreshToken> cache;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               JwtProvider jwtProvider,
+                               JwtConfig jwtConfig) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtProvider = jwtProvider;
+        this.rotation = jwtConfig.getRefreshTokenStore().isRotation();
+        this.cleanupBatchSize = jwtConfig.getRefreshTokenStore().getCleanupBatchSize();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(jwtConfig.getRefreshTokenStore().getCacheMaximumSize())
+                .expireAfter(new UntilExpireTime())
+                .build();
+    }
+
+    /**
+     * 발급한 Refresh Token 을 사용자의 기기 중 하나로 저장합니다.
+     */
+    @Transactional
+    public void save(long userId, String refreshToken) {
+        Instant expireTime = jwtProvider.parseRefreshToken(refreshToken).getPayload().getExpiration().toInstant();
+        byte[] tokenHash = hash(refreshToken);
+        refreshTokenRepository.save(userId, tokenHash, expireTime);
+        cache.put(ByteBuffer.wrap(tokenHash), new StoredRefreshToken(userId, expireTime));
+    }
+
+    /**
+     * 사용자의 Refresh Token 으로 저장되어 있고 만료되지 않았는지 확인합니다.
+     */
+    public boolean matches(long userId, String refreshToken) {
+        byte[] tokenHash = hash(refreshToken);
+        var key = ByteBuffer.wrap(tokenHash);
+        StoredRefreshToken stored = cache.getIfPresent(key);
+        if (stored == null) {
+            stored = refreshTokenRepository.findByTokenHash(tokenHash).orElse(null);
+            if (stored == null) {
+                return false;
+            }
+            cache.put(key, stored);
+        }
+        return stored.userId() == userId && stored.expireTime().isAfter(Instant.now());
+    }
+
+    /**
+     * rotation 을 사용한다면 사용한 Refresh Token 을 삭제하고 새 Refresh Token 을 저장합니다.
+     * @param refreshToken Access Token 갱신에 사용한 Refresh Token
+     * @param newRefreshToken 새로 발급한 Refresh Token
+     * @return 교체하였다면 true, rotation 을 사용하지 않는다면 false
+     * @throws ErrorException 같은 Refresh Token 으로 이미 교체되어 삭제된 경우
+     */
+    @Transactional
+    public boolean rotate(long userId, String refreshToken, String newRefreshToken) {
+        if (!rotation) {
+            return false;
+        }
+        byte[] tokenHash = hash(refreshToken);
+        cache.invalidate(ByteBuffer.wrap(tokenHash));
+        if (!refreshTokenRepository.delete(userId, tokenHash)) {
+            throw new ErrorException(ErrorCode.INVALID_TOKEN);
+        }
+        save(userId, newRefreshToken);
+        return true;
+    }
+
+    /**
+     * 만료된 Refresh Token 을 정해진 개수씩 나누어 삭제합니다. 한 번에 삭제하면 잠금을 오래 잡으므로 각 삭제는 별도로 커밋됩니다.
+     * @return 삭제한 Refresh Token 수
+     */
+    public int deleteExpired() {
+        Instant now = Instant.now();
+        int total = 0;
+        int deleted;
+        do {
+            deleted = refreshTokenRepository.deleteExpired(now, cleanupBatchSize);
+            total += deleted;
+        } while (deleted == cleanupBatchSize);
+        return total;
+    }
+
+    private byte[] hash(String refreshToken) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(refreshToken.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 각 항목이 Refresh Token 의 만료 시각에 제거되도록 합니다.
+     */
+    private static class UntilExpireTime implements Expiry<ByteBuffer, StoredRefreshToken> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, StoredRefreshToken value, long currentTime) {
+            Duration remaining = Duration.between(Instant.now(), value.expireTime());
+            return remaining.isNegative() ? 0L : remaining.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, StoredRefreshToken value,
+                                      long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, StoredRefreshToken value,
+                                    long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+    }
+
+}
@@ -8,6 +8,7 @@ import com.limvik.econome.global.security.jwt.provider.JwtProvider;
 import com.limvik.econome.infrastructure.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -17,7 +18,7 @@ import java.util.Map;
 
 @RequiredArgsConstructor
 @Service
-public class UserService implements UserDetailsService {
+public class UserService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
     private final JwtProvider jwtProvider;
@@ -44,22 +45,29 @@ public class UserService implements UserDetailsService {
                       "refreshToken", jwtProvider.generateRefreshToken(user));
     }
 
+    /**
+     * 로그인 시 사용자 엔티티 전체가 아닌 식별자, 사용자 이름, 비밀번호 해시만 조회하여 인증 정보를 만듭니다.
+     */
     @Transactional(readOnly = true)
-    public boolean matchRefreshToken(User user) {
-        return userRepository.existsByIdAndRefreshToken(user.getId(), user.getRefreshToken());
-
+    @Override
+    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        var credential = userRepository.findCredentialByUsername(username)
+                .orElseThrow(() -> new UsernameNotFoundException(ErrorCode.NOT_EXIST_USER.getMessage()));
+        return new AuthUser(toUser(credential.getId(), credential.getUsername(), credential.getPassword()));
     }
 
+    /**
+     * 로그인에 성공한 사용자의 비밀번호 해시가 이전 형식이거나 강도가 낮을 때 새로 계산한 해시로 교체합니다.
+     */
     @Transactional
-    public User updateUser(User user) {
-        return userRepository.save(user);
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        var user = ((AuthUser) userDetails).getUser();
+        userRepository.updatePasswordById(user.getId(), newPassword);
+        return new AuthUser(toUser(user.getId(), user.getUsername(), newPassword));
     }
 
-    @Transactional(readOnly = true)
-    @Override
-    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        var user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException(ErrorCode.NOT_EXIST_USER.getMessage()));
-        return new AuthUser(user);
+    private User toUser(Long id, String username, String password) {
+        return User.builder().id(id).username(username).password(password).build();
     }
 }
@@ -0,0 +1,89 @@
+package com.limvik.econome.global.aot;
+
+import com.limvik.econome.domain.budgetplan.entity.BudgetPlanProjection;
+import com.limvik.econome.domain.expense.entity.ExpenseDetail;
+import com.limvik.econome.domain.expense.entity.ExpenseProjection;
+import com.limvik.econome.domain.user.entity.UserProjection;
+import com.limvik.econome.infrastructure.PluralNamingStrategy;
+import org.springframework.aop.SpringProxy;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.core.DecoratingProxy;
+import org.springframework.data.projection.TargetAware;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+/**
+ * 네이티브 이미지에서 리플렉션, 프록시, 리소스로 접근하지만 Spring AOT 가 찾지 못하는 대상을 등록합니다.
+ * <ul>
+ *     <li>Hibernate 가 설정의 클래스 이름으로 생성하는 naming strategy, JCache provider</li>
+ *     <li>JPQL 생성자 표현식(select new)으로 만드는 조회 전용 record</li>
+ *     <li>Spring Data 가 JDK 프록시로 만드는 interface projection</li>
+ *     <li>SQL 기록과 커넥션 허가를 위해 JDK 프록시로 감싸는 JDBC 커넥션과 SQL 문</li>
+ *     <li>jjwt-api 가 클래스 이름으로 생성하는 jjwt-impl 구현체와 ServiceLoader 로 찾는 jjwt-jackson 직렬화 구현체</li>
+ *     <li>Flyway 마이그레이션 SQL 과 spring-dotenv 설정 파일</li>
+ * </ul>
+ * Lombok 은 컴파일 시점에만 동작하며, 엔티티의 리플렉션 정보는 Spring ORM 의 AOT 처리가 등록합니다.
+ */
+public class EconomeRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final MemberCategory[] CONSTRUCTORS_AND_METHODS = {
+            MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS};
+
+    private static final String[] JJWT_TYPES = {
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+            "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+            "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyOperations",
+            "io.jsonwebtoken.impl.security.StandardCurves",
+            "io.jsonwebtoken.impl.security.KeysBridge",
+            "io.jsonwebtoken.impl.security.DefaultDynamicJwkBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkParserBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkSetBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkSetParserBuilder",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer"};
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.reflection()
+                .registerType(PluralNamingStrategy.class, CONSTRUCTORS_AND_METHODS)
+                .registerType(ExpenseDetail.class, CONSTRUCTORS_AND_METHODS)
+                .registerTypeIfPresent(classLoader,
+                        "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider", CONSTRUCTORS_AND_METHODS)
+                .registerTypeIfPresent(classLoader,
+                        "org.hibernate.cache.jcache.internal.JCacheRegionFactory", CONSTRUCTORS_AND_METHODS);
+        for (String type : JJWT_TYPES) {
+            hints.reflection().registerTypeIfPresent(classLoader, type, CONSTRUCTORS_AND_METHODS);
+        }
+
+        for (Class<?> projections : new Class<?>[]{
+                BudgetPlanProjection.class, ExpenseProjection.class, UserProjection.class}) {
+            for (Class<?> projection : projections.getDeclaredClasses()) {
+                if (!projection.isInterface()) continue;
+                hints.reflection().registerType(projection, MemberCategory.INVOKE_PUBLIC_METHODS);
+                hints.proxies().registerJdkProxy(projection, TargetAware.class, SpringProxy.class, DecoratingProxy.class);
+            }
+        }
+
+        for (Class<?> jdbcType : new Class<?>[]{
+                Connection.class, Statement.class, PreparedStatement.class, CallableStatement.class}) {
+            hints.proxies().registerJdkProxy(jdbcType);
+        }
+
+        hints.resources()
+                .registerPattern("db/migration/*.sql")
+                .registerPattern(".env.properties");
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.limvik.econome.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties("alarm")
+public class AlarmConfig {
+
+    private String webhookUrl;
+    private int pageSize = 1000;
+    private int maxConcurrency = 16;
+    private int maxAttempts = 3;
+    private long retryBackoffMs = 200L;
+
+}
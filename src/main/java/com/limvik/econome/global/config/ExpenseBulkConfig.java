@@ -0,0 +1,26 @@
+package com.limvik.econome.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties("expense.bulk")
+public class ExpenseBulkConfig {
+
+    private int chunkSize = 500;
+    private int maxRows = 5000;
+    /**
+     * 요청 본문 전체를 읽을 수 있는 최대 시간(ms), 본문은 트랜잭션을 시작하기 전에 모두 읽음
+     */
+    private long readTimeoutMs = 10000L;
+    /**
+     * 멱등성 키와 처리 결과를 보관하는 시간, 이후 같은 키로 요청하면 새로운 요청으로 처리
+     */
+    private long idempotencyRetentionHours = 24L;
+    private int cleanupBatchSize = 1_000;
+
+}
@@ -0,0 +1,27 @@
+package com.limvik.econome.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties("expense.stream")
+public class ExpenseStreamConfig {
+
+    /**
+     * 한 번에 스트리밍으로 조회할 수 있는 최대 기간(일), 시작일과 종료일 포함
+     */
+    private int maxRangeDays = 366;
+    /**
+     * 동시에 DB 연결을 점유할 수 있는 스트리밍 조회 수, 커넥션 풀 크기보다 작아야 다른 API 가 연결을 얻을 수 있음
+     */
+    private int maxConcurrentStreams = 2;
+    /**
+     * 스트리밍 조회 하나가 DB 연결을 점유할 수 있는 최대 시간(ms)
+     */
+    private long timeoutMs = 30000L;
+
+}
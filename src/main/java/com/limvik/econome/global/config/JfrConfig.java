@@ -0,0 +1,41 @@
+package com.limvik.econome.global.config;
+
+import com.limvik.econome.global.jfr.JfrLatencyMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 애플리케이션의 JFR 이벤트(global.jfr)를 같은 프로세스에서 스트리밍으로 읽어 이동 백분위수를 계산하는 설정입니다.
+ * 이벤트는 스트리밍 여부와 상관없이 JVM 의 JFR 기록(-XX:StartFlightRecording)에도 남습니다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties("jfr.streaming")
+public class JfrConfig {
+
+    private boolean enabled = false;
+    /**
+     * 백분위수를 계산할 기간(초)
+     */
+    private long percentileWindowSeconds = 60L;
+    /**
+     * 스트리밍을 위해 디스크에 보관하는 이벤트의 최대 보관 기간(초)
+     */
+    private long maxAgeSeconds = 60L;
+
+    @Bean
+    @ConditionalOnProperty(prefix = "jfr.streaming", name = "enabled", havingValue = "true")
+    public JfrLatencyMonitor jfrLatencyMonitor(MeterRegistry meterRegistry) {
+        return new JfrLatencyMonitor(meterRegistry,
+                Duration.ofSeconds(percentileWindowSeconds), Duration.ofSeconds(maxAgeSeconds));
+    }
+
+}
@@ -16,5 +16,33 @@ public class JwtConfig {
     private String refreshKey;
     private Long accessTokenExpirationMinutes;
     private Long refreshTokenExpirationDays;
+    private VerificationCache verificationCache = new VerificationCache();
+    private RefreshTokenStore refreshTokenStore = new RefreshTokenStore();
+
+    /**
+     * 검증이 완료된 JWT를 만료 시각까지 보관하는 캐시 설정입니다.
+     */
+    @Getter
+    @Setter
+    public static class VerificationCache {
+
+        private boolean enabled = true;
+        private long maximumSize = 10_000L;
+
+    }
+
+    /**
+     * 기기별 Refresh Token 저장소 설정입니다.
+     * rotation 을 사용하면 Access Token 갱신 시 사용한 Refresh Token 을 삭제하고 새 Refresh Token 을 발급합니다.
+     */
+    @Getter
+    @Setter
+    public static class RefreshTokenStore {
+
+        private boolean rotation = false;
+        private long cacheMaximumSize = 10_000L;
+        private int cleanupBatchSize = 1_000;
+
+    }
 
 }
@@ -0,0 +1,21 @@
+package com.limvik.econome.global.config;
+
+import com.limvik.econome.global.metrics.HandlerServerRequestObservationConvention;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+
+/**
+ * Prometheus 형식으로 내보내는 지표 설정입니다.
+ * 기본으로 수집되는 HTTP 요청, Spring Data 저장소 메서드, Hikari 커넥션 풀 지표 외에
+ * 비밀번호 해시, JWT 검증, 캐시, 알림 발송 지표는 각 컴포넌트가 MeterBinder 로 등록합니다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public ServerRequestObservationConvention serverRequestObservationConvention() {
+        return new HandlerServerRequestObservationConvention();
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.limvik.econome.global.config;
+
+import com.limvik.econome.infrastructure.datasource.ReadWriteRoutingDataSource;
+import com.limvik.econome.infrastructure.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본으로 보내는 설정입니다. 기본값은 사용하지 않음이며, 이때는 spring.datasource 하나만 사용합니다.
+ * 사용하면 원본(spring.datasource.hikari)과 복제본(datasource.replica.hikari)이 각각의 커넥션 풀을 가지며,
+ * 풀 이름은 primary, replica 입니다.
+ * open-in-view 를 사용하면 요청 안에서 먼저 얻은 복제본 커넥션을 이후의 쓰기 트랜잭션이 재사용하므로, 함께 사용할 수 없습니다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties("datasource.replica")
+public class ReplicaDataSourceConfig {
+
+    private boolean enabled = false;
+    private String url;
+    private String username;
+    private String password;
+    /**
+     * 복제본을 사용할 수 있는 최대 복제 지연(초), 0 이하라면 복제 지연을 확인하지 않음
+     */
+    private long maxLagSeconds = 5L;
+    private long lagCheckIntervalMs = 5000L;
+
+    @Bean
+    @ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        return dataSource;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        ReplicaLagMonitor replicaLagMonitor = new ReplicaLagMonitor(replicaDataSource, maxLagSeconds);
+        replicaLagMonitor.check();
+        return replicaLagMonitor;
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 @Value("${spring.jpa.open-in-view:true}") boolean openInView) {
+        if (openInView) {
+            throw new IllegalStateException(
+                    "datasource.replica.enabled=true 이면 spring.jpa.open-in-view=false 로 설정해야 합니다.");
+        }
+        var routingDataSource = new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+}
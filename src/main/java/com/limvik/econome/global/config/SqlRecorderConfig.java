@@ -0,0 +1,68 @@
+package com.limvik.econome.global.config;
+
+import com.limvik.econome.global.sql.SqlFingerprintEndpoint;
+import com.limvik.econome.global.sql.SqlFingerprintStats;
+import com.limvik.econome.global.sql.SqlRecordingDataSourcePostProcessor;
+import com.limvik.econome.global.sql.SqlRecordingFilter;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * HTTP 요청마다 실행된 SQL 문을 fingerprint 별로 기록하는 설정입니다.
+ * dataSource 빈을 감싸 JDBC 수준에서 SQL 문과 실행 시간을 수집하므로 Hibernate 와 JdbcTemplate 의 SQL 문을 모두 포함하며,
+ * 요청 필터는 인증 과정의 SQL 문도 포함하도록 Spring Security 필터보다 먼저 실행됩니다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties("sql-recorder")
+public class SqlRecorderConfig {
+
+    private boolean enabled = true;
+    /**
+     * 요청 하나에서 실행할 수 있는 SQL 문 수, 넘으면 경고 로그를 남김
+     */
+    private int statementBudget = 10;
+    private long slowQueryThresholdMs = 200L;
+    /**
+     * 누적할 fingerprint 의 최대 개수
+     */
+    private int maximumFingerprints = 1000;
+
+    @Bean
+    @ConditionalOnProperty(prefix = "sql-recorder", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public static SqlRecordingDataSourcePostProcessor sqlRecordingDataSourcePostProcessor() {
+        return new SqlRecordingDataSourcePostProcessor();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "sql-recorder", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public SqlFingerprintStats sqlFingerprintStats() {
+        return new SqlFingerprintStats(maximumFingerprints);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "sql-recorder", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<SqlRecordingFilter> sqlRecordingFilter(SqlFingerprintStats sqlFingerprintStats) {
+        var filter = new SqlRecordingFilter(sqlFingerprintStats, statementBudget,
+                Duration.ofMillis(slowQueryThresholdMs));
+        var registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "sql-recorder", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public SqlFingerprintEndpoint sqlFingerprintEndpoint(SqlFingerprintStats sqlFingerprintStats) {
+        return new SqlFingerprintEndpoint(sqlFingerprintStats);
+    }
+
+}
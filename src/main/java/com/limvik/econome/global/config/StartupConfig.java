@@ -0,0 +1,32 @@
+package com.limvik.econome.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 애플리케이션 시작 관련 설정입니다.
+ * training-run 을 사용하면 시작이 끝나자마자 종료하며, Docker 이미지를 만들 때 AppCDS 아카이브(-XX:ArchiveClassesAtExit)에
+ * 시작 과정에서 읽은 클래스를 기록하는 용도로 사용합니다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties("startup")
+public class StartupConfig {
+
+    private boolean trainingRun = false;
+
+    @Bean
+    @ConditionalOnProperty(prefix = "startup", name = "training-run", havingValue = "true")
+    public ApplicationListener<ApplicationReadyEvent> trainingRunExitListener() {
+        return event -> System.exit(SpringApplication.exit(event.getApplicationContext()));
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.limvik.econome.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.ZoneId;
+
+/**
+ * 사용자별 오늘 지출 현황을 자정까지 보관하는 캐시 설정입니다.
+ * zone 은 캐시의 자정뿐 아니라 오늘 지출, 추천 지출, 지출 통계가 "오늘"을 계산하는 시간대이기도 합니다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties("expense.today-dashboard")
+public class TodayDashboardConfig {
+
+    private boolean enabled = true;
+    private long maximumSize = 10_000L;
+    private ZoneId zone = ZoneId.systemDefault();
+
+}
@@ -1,19 +1,50 @@
 package com.limvik.econome.global.config;
 
+import com.limvik.econome.global.security.crypto.BoundedPasswordEncoder;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.Map;
+
 /**
  * 이 설정 클래스는 어플리케이션의 사용자 관리를 수행합니다.
  */
+@Getter
+@Setter
 @Configuration
+@ConfigurationProperties("password")
 public class UserManagementConfig {
 
+    private static final String BCRYPT_ID = "bcrypt";
+
+    /**
+     * BCrypt 강도(log2 반복 횟수), 값을 올리면 기존 사용자의 비밀번호는 다음 로그인 시 새 강도로 다시 해시됨
+     */
+    private int bcryptStrength = 10;
+    /**
+     * 해시 계산 전용 스레드 수, 0 이하라면 사용 가능한 프로세서 수
+     */
+    private int hashThreads = 0;
+    private int hashQueueCapacity = 64;
+    private long hashTimeoutMs = 3000L;
+
+    /**
+     * 새 비밀번호는 {bcrypt} 접두어를 붙여 저장하고, 접두어가 없는 기존 BCrypt 해시도 검증합니다.
+     * 접두어가 없거나 강도가 낮은 해시는 로그인 성공 시 다시 해시하여 저장합니다.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder() {
+        var bcryptPasswordEncoder = new BCryptPasswordEncoder(bcryptStrength);
+        var delegatingPasswordEncoder = new DelegatingPasswordEncoder(BCRYPT_ID, Map.of(BCRYPT_ID, bcryptPasswordEncoder));
+        delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(bcryptPasswordEncoder);
+        int threads = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(delegatingPasswordEncoder, threads, hashQueueCapacity, hashTimeoutMs);
     }
 
 }
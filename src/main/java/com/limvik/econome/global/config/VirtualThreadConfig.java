@@ -0,0 +1,90 @@
+package com.limvik.econome.global.config;
+
+import com.limvik.econome.infrastructure.datasource.PermitDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskSchedulingProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import javax.sql.DataSource;
+import java.util.concurrent.Executors;
+
+/**
+ * Tomcat 요청 처리, @Scheduled 작업, 알림 전송을 가상 스레드로 실행하는 설정입니다. 기본값은 사용하지 않음입니다.
+ * 가상 스레드는 수가 제한되지 않으므로, 사용할 때는 DataSource 를 커넥션 풀 크기만큼의 허가를 가진 {@link PermitDataSource} 로 감싸
+ * 커넥션을 기다리는 스레드가 커넥션 풀이 아닌 세마포어에서 순서대로 기다리게 합니다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties("virtual-threads")
+public class VirtualThreadConfig {
+
+    private boolean enabled = false;
+    /**
+     * 동시에 빌려갈 수 있는 커넥션 수, 0 이하라면 Hikari 커넥션 풀의 최대 크기
+     */
+    private int connectionPermits = 0;
+    private long connectionAcquireTimeoutMs = 2000L;
+
+    @Bean
+    @ConditionalOnProperty(prefix = "virtual-threads", name = "enabled", havingValue = "true")
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "virtual-threads", name = "enabled", havingValue = "true")
+    public ThreadPoolTaskScheduler taskScheduler(TaskSchedulingProperties properties) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(properties.getPool().getSize());
+        scheduler.setThreadFactory(Thread.ofVirtual().name(properties.getThreadNamePrefix(), 0).factory());
+        return scheduler;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "virtual-threads", name = "enabled", havingValue = "true")
+    public static BeanPostProcessor permitDataSourcePostProcessor(Environment environment) {
+        return new PermitDataSourcePostProcessor(environment);
+    }
+
+    /**
+     * 커넥션 풀인 DataSource 를 {@link PermitDataSource} 로 감쌉니다.
+     * 순서를 지정하지 않은 후처리기보다 먼저, SQL 기록처럼 dataSource 빈을 감싸는 후처리기보다 먼저 실행되어야
+     * 감싸지 않은 커넥션 풀을 보고 허가 수를 정할 수 있습니다.
+     */
+    private record PermitDataSourcePostProcessor(Environment environment) implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            // 라우팅/프록시 DataSource 는 실제 커넥션 풀인 대상 DataSource 가 각각 감싸지므로 건너뜀
+            if (!(bean instanceof DataSource dataSource) || bean instanceof DelegatingDataSource
+                    || bean instanceof AbstractRoutingDataSource) return bean;
+            int permits = environment.getProperty("virtual-threads.connection-permits", Integer.class, 0);
+            if (permits <= 0 && bean instanceof HikariDataSource hikariDataSource) {
+                permits = hikariDataSource.getMaximumPoolSize();
+            }
+            if (permits <= 0) return bean;
+            long acquireTimeoutMs = environment.getProperty(
+                    "virtual-threads.connection-acquire-timeout-ms", Long.class, 2000L);
+            return new PermitDataSource(dataSource, permits, acquireTimeoutMs);
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE - 1;
+        }
+    }
+
+}
@@ -8,6 +8,7 @@ import com.limvik.econome.global.security.jwt.provider.JwtAuthenticationProvider
 import com.limvik.econome.global.security.jwt.provider.JwtProvider;
 import com.limvik.econome.infrastructure.user.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -35,6 +36,9 @@ public class WebAuthorizationConfig {
     private final PasswordEncoder passwordEncoder;
     private final JwtProvider jwtProvider;
 
+    @Value("${jwt.authentication-details:false}")
+    private boolean authenticationDetailsEnabled;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
 
@@ -57,7 +61,7 @@ public class WebAuthorizationConfig {
                 .sessionManagement(config -> config.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .addFilterAfter(new UsernamePasswordAuthenticationFilter(getDaoProviderManager()),
                         RequestCacheAwareFilter.class)
-                .addFilterAfter(new JwtFilter(getJwtProviderManager()),
+                .addFilterAfter(new JwtFilter(getJwtProviderManager(), authenticationDetailsEnabled),
                         RequestCacheAwareFilter.class)
                 .exceptionHandling(exc -> exc.authenticationEntryPoint(new JwtEntryPoint()))
                 .build();
@@ -76,7 +80,9 @@ public class WebAuthorizationConfig {
      */
     private DaoAuthenticationProvider getDaoAuthenticationProvider() {
         var daoAuthenticationProvider = new DaoAuthenticationProvider();
-        daoAuthenticationProvider.setUserDetailsService(new UserService(userRepository, null));
+        var userService = new UserService(userRepository, null);
+        daoAuthenticationProvider.setUserDetailsService(userService);
+        daoAuthenticationProvider.setUserDetailsPasswordService(userService);
         daoAuthenticationProvider.setPasswordEncoder(passwordEncoder);
         return daoAuthenticationProvider;
     }
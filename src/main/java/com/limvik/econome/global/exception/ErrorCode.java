@@ -15,7 +15,18 @@ public enum ErrorCode {
     INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "토큰이 유효하지 않습니다."),
     DUPLICATED_BUDGET_PLAN(HttpStatus.CONFLICT, "이미 예산이 설정되었습니다. 원하신다면 수정을 요청해주세요."),
     NOT_EXIST_BUDGET_PLAN(HttpStatus.NOT_FOUND, "존재하지 않는 예산 계획입니다."),
-    NOT_EXIST_EXPENSE(HttpStatus.NOT_FOUND, "존재하지 않는 지출입니다.");
+    NOT_EXIST_EXPENSE(HttpStatus.NOT_FOUND, "존재하지 않는 지출입니다."),
+    INVALID_BULK_EXPENSE(HttpStatus.BAD_REQUEST, "일괄 등록 요청 본문은 지출 객체의 JSON 배열이어야 합니다."),
+    INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "Idempotency-Key는 1~64자여야 합니다."),
+    TOO_MANY_BULK_EXPENSES(HttpStatus.PAYLOAD_TOO_LARGE, "한 번에 등록할 수 있는 지출 건수를 초과했습니다."),
+    IN_PROGRESS_BULK_EXPENSE(HttpStatus.CONFLICT, "같은 Idempotency-Key로 처리 중인 요청이 있습니다."),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "같은 Idempotency-Key로 다른 내용의 요청을 보낼 수 없습니다."),
+    BULK_EXPENSE_READ_TIMEOUT(HttpStatus.REQUEST_TIMEOUT, "제한 시간 안에 일괄 등록 요청 본문을 모두 받지 못했습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다."),
+    EXPENSE_STREAM_RANGE_TOO_LONG(HttpStatus.BAD_REQUEST, "스트리밍으로 조회할 수 있는 기간을 초과했습니다."),
+    BUSY_EXPENSE_STREAM(HttpStatus.SERVICE_UNAVAILABLE, "스트리밍 조회 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
+    EXPENSE_STREAM_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "제한 시간 안에 지출 기록을 모두 전송하지 못했습니다. 조회 기간을 줄여주세요."),
+    BUSY_PASSWORD_HASHING(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
 
     private final HttpStatus httpStatus;
     private final String message;
@@ -0,0 +1,68 @@
+package com.limvik.econome.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 사용자의 지출이나 예산을 합산하는 저장소 조회입니다.
+ */
+@Name(AggregateQueryEvent.NAME)
+@Label("Aggregate Query")
+@Description("사용자의 지출이나 예산을 합산하는 저장소 조회")
+@Category({"Econome", "Repository"})
+@StackTrace(false)
+public class AggregateQueryEvent extends Event {
+
+    public static final String NAME = "econome.AggregateQuery";
+
+    @Label("Query")
+    public String query;
+
+    @Label("User Id")
+    public long userId;
+
+    @Label("Rows")
+    public int rowCount;
+
+    /**
+     * 여러 행을 반환하는 조회를 실행하고, 반환한 행 수와 함께 기록합니다.
+     * @param query 저장소와 메서드 이름(예: DailyExpenseRollupRepository.findExpensesPerCategoryBetween)
+     */
+    public static <T> List<T> list(String query, long userId, Supplier<List<T>> call) {
+        var event = new AggregateQueryEvent();
+        event.begin();
+        List<T> rows = call.get();
+        event.record(query, userId, rows.size());
+        return rows;
+    }
+
+    /**
+     * 하나의 합계를 반환하는 조회를 실행하고 기록합니다.
+     * @param query 저장소와 메서드 이름(예: DailyExpenseRollupRepository.sumAmountBetween)
+     */
+    public static <T> T single(String query, long userId, Supplier<T> call) {
+        var event = new AggregateQueryEvent();
+        event.begin();
+        T row = call.get();
+        event.record(query, userId, row == null ? 0 : 1);
+        return row;
+    }
+
+    private void record(String query, long userId, int rowCount) {
+        end();
+        if (shouldCommit()) {
+            this.query = query;
+            this.userId = userId;
+            this.rowCount = rowCount;
+            commit();
+        }
+    }
+
+}
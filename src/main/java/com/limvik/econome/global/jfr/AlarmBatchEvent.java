@@ -0,0 +1,37 @@
+package com.limvik.econome.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 알림 대상 사용자 한 페이지를 읽어 알림 내용을 계산한 작업입니다. 전송 시간은 포함하지 않습니다.
+ */
+@Name(AlarmBatchEvent.NAME)
+@Label("Alarm Batch")
+@Description("알림 대상 사용자 한 페이지의 알림 내용 계산")
+@Category({"Econome", "Alarm"})
+@StackTrace(false)
+public class AlarmBatchEvent extends Event {
+
+    public static final String NAME = "econome.AlarmBatch";
+
+    @Label("Alarm Type")
+    public String alarmType;
+
+    @Label("First User Id")
+    public long firstUserId;
+
+    @Label("Last User Id")
+    public long lastUserId;
+
+    @Label("Users")
+    public int userCount;
+
+    @Label("Messages")
+    public int messageCount;
+
+}
@@ -0,0 +1,84 @@
+package com.limvik.econome.global.jfr;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+
+/**
+ * 애플리케이션의 JFR 이벤트를 같은 프로세스에서 스트리밍으로 읽어 이벤트별 지속 시간의 이동 백분위수(p50, p95, p99)를 Timer 로 기록합니다.
+ * 백분위수는 지정한 기간 동안의 값만으로 계산되며, Prometheus 엔드포인트에서 jfr_* 지표로 확인할 수 있습니다.
+ * 사용자 식별자처럼 값이 많은 필드는 태그로 사용하지 않으므로, 특정 사용자의 이벤트는 JFR 기록 파일에서 확인합니다.
+ */
+@Slf4j
+public class JfrLatencyMonitor implements SmartLifecycle {
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final MeterRegistry registry;
+    private final Duration percentileWindow;
+    private final Duration maxAge;
+    private volatile RecordingStream stream;
+
+    public JfrLatencyMonitor(MeterRegistry registry, Duration percentileWindow, Duration maxAge) {
+        this.registry = registry;
+        this.percentileWindow = percentileWindow;
+        this.maxAge = maxAge;
+    }
+
+    @Override
+    public void start() {
+        var recordingStream = new RecordingStream();
+        recordingStream.setMaxAge(maxAge);
+        for (String name : new String[]{RecommendationCalculationEvent.NAME, AggregateQueryEvent.NAME,
+                JwtParseEvent.NAME, PasswordHashEvent.NAME, AlarmBatchEvent.NAME}) {
+            recordingStream.enable(name).withoutStackTrace().withThreshold(Duration.ZERO);
+        }
+        recordingStream.onEvent(RecommendationCalculationEvent.NAME,
+                event -> timer("jfr.recommendation.calculation").record(event.getDuration()));
+        recordingStream.onEvent(AggregateQueryEvent.NAME,
+                event -> timer("jfr.aggregate.query", "query", event.getString("query")).record(event.getDuration()));
+        recordingStream.onEvent(JwtParseEvent.NAME,
+                event -> timer("jfr.jwt.parse", "type", event.getString("tokenType")).record(event.getDuration()));
+        recordingStream.onEvent(PasswordHashEvent.NAME, this::recordPasswordHash);
+        recordingStream.onEvent(AlarmBatchEvent.NAME,
+                event -> timer("jfr.alarm.batch", "type", event.getString("alarmType")).record(event.getDuration()));
+        recordingStream.onError(e -> log.warn("JFR 이벤트 스트림 처리 실패", e));
+        recordingStream.startAsync();
+        this.stream = recordingStream;
+    }
+
+    private void recordPasswordHash(RecordedEvent event) {
+        String operation = event.getString("operation");
+        timer("jfr.password.hash", "operation", operation).record(event.getDuration());
+        timer("jfr.password.hash.queue.wait", "operation", operation)
+                .record(Duration.ofNanos(event.getLong("queueWaitNanos")));
+    }
+
+    private Timer timer(String name, String... tags) {
+        return Timer.builder(name)
+                .tags(tags)
+                .publishPercentiles(PERCENTILES)
+                .distributionStatisticExpiry(percentileWindow)
+                .register(registry);
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recordingStream = stream;
+        if (recordingStream != null) {
+            recordingStream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+}
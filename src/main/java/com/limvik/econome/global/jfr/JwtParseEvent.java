@@ -0,0 +1,30 @@
+package com.limvik.econome.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 요청의 Bearer 토큰을 JWT 로 검증하고 변환한 작업입니다. 검증 캐시에 있는 JWT 도 포함합니다.
+ */
+@Name(JwtParseEvent.NAME)
+@Label("JWT Parse")
+@Description("Bearer 토큰의 JWT 검증 및 변환")
+@Category({"Econome", "Security"})
+@StackTrace(false)
+public class JwtParseEvent extends Event {
+
+    public static final String NAME = "econome.JwtParse";
+
+    @Label("Token Type")
+    @Description("access, refresh 또는 검증에 실패한 경우 invalid")
+    public String tokenType;
+
+    @Label("User Id")
+    @Description("검증에 실패했거나 subject 가 사용자 식별자가 아니라면 0")
+    public long userId;
+
+}
@@ -0,0 +1,31 @@
+package com.limvik.econome.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * 전용 스레드에서 수행한 비밀번호 해시 계산입니다. 지속 시간은 계산 시간이며, 대기열에서 기다린 시간은 따로 기록합니다.
+ */
+@Name(PasswordHashEvent.NAME)
+@Label("Password Hash")
+@Description("전용 스레드에서 수행한 비밀번호 해시 계산")
+@Category({"Econome", "Security"})
+@StackTrace(false)
+public class PasswordHashEvent extends Event {
+
+    public static final String NAME = "econome.PasswordHash";
+
+    @Label("Operation")
+    @Description("encode 또는 matches")
+    public String operation;
+
+    @Label("Queue Wait")
+    @Timespan(Timespan.NANOSECONDS)
+    public long queueWaitNanos;
+
+}
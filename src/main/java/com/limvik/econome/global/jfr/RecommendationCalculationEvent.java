@@ -0,0 +1,34 @@
+package com.limvik.econome.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 사용자의 카테고리별 오늘 추천 지출 금액 계산입니다.
+ */
+@Name(RecommendationCalculationEvent.NAME)
+@Label("Recommendation Calculation")
+@Description("카테고리별 오늘 추천 지출 금액 계산")
+@Category({"Econome", "Expense"})
+@StackTrace(false)
+public class RecommendationCalculationEvent extends Event {
+
+    public static final String NAME = "econome.RecommendationCalculation";
+
+    @Label("User Id")
+    public long userId;
+
+    @Label("Budget Categories")
+    public int budgetCategoryCount;
+
+    @Label("Expense Categories")
+    public int expenseCategoryCount;
+
+    @Label("Rest Days Of Month")
+    public int restDaysOfMonth;
+
+}
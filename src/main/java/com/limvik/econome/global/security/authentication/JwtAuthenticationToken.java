@@ -1,54 +1,48 @@
 package com.limvik.econome.global.security.authentication;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.Transient;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
-import java.util.Collection;
+import java.util.List;
 
 /**
- * HTTP 요청의 Authorization 헤더에서 추출된 JWT 문자열을 변환된 Jws 객체 형태로 저장하는 클래스입니다.
+ * HTTP 요청의 Authorization 헤더에서 추출된 JWT 문자열과 인증된 사용자 식별자를 저장하는 클래스입니다.
+ * 요청마다 생성되므로 Claims 전체를 보관하지 않고 사용자 식별자만 보관하며, 권한 목록은 모든 요청이 공유합니다.
  */
 @Transient
 public class JwtAuthenticationToken extends AbstractAuthenticationToken {
 
-    private final Jws<Claims> token;
+    public static final List<GrantedAuthority> USER_AUTHORITIES = List.of(new SimpleGrantedAuthority("USER"));
 
-    private final String tokenString;
-
-    private Object credentials;
+    private final JwtPrincipal principal;
 
-    private Object principal;
+    private final String tokenString;
 
-    public JwtAuthenticationToken(Jws<Claims> token, String tokenString, Collection<? extends GrantedAuthority> authorities) {
-        super(authorities);
-        this.token = token;
+    public JwtAuthenticationToken(long userId, String tokenString) {
+        super(USER_AUTHORITIES);
+        this.principal = new JwtPrincipal(userId);
         this.tokenString = tokenString;
         this.setAuthenticated(true);
     }
 
     @Override
     public Object getCredentials() {
-        return credentials;
+        return null;
     }
 
     @Override
-    public Object getPrincipal() {
+    public JwtPrincipal getPrincipal() {
         return principal;
     }
 
-    public void setPrincipal(Object userDetails) {
-        this.principal = userDetails;
-    }
-
-    public Claims getClaims() {
-        return token.getPayload();
+    public long getUserId() {
+        return principal.userId();
     }
 
     public String getTokenString() {
         return tokenString;
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,14 @@
+package com.limvik.econome.global.security.authentication;
+
+/**
+ * JWT 인증이 완료된 사용자의 식별자만 보관하는 불변 principal 입니다.
+ * @param userId JWT subject 에서 한 번만 변환된 사용자 식별자
+ */
+public record JwtPrincipal(long userId) {
+
+    @Override
+    public String toString() {
+        return Long.toString(userId);
+    }
+
+}
@@ -1,8 +1,8 @@
 package com.limvik.econome.global.security.converter;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.limvik.econome.global.exception.ErrorCode;
 import com.limvik.econome.global.exception.ErrorException;
 import com.limvik.econome.web.user.dto.SigninRequest;
@@ -11,7 +11,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.web.authentication.AuthenticationConverter;
 import org.springframework.util.StringUtils;
 
-import java.io.*;
+import java.io.IOException;
 
 /**
  * 사용자 이름과 비밀번호를 이용한 로그인 시 HTTP 요청의 Body에 있는 사용자 이름과 패스워드를 추출하여 유효성 검사를 수행하고,
@@ -23,6 +23,8 @@ public class UsernamePasswordAuthenticationConverter implements AuthenticationCo
 
     private static final String PASSWORD_PROPERTY = "password";
 
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
     /**
      * HTTP 요청에 포함된 이메일과 패스워드를 추출하고, {@link UsernamePasswordAuthenticationToken} 에 담아 반환합니다.
      * @param request {@link HttpServletRequest} 객체에 저장된 HTTP 요청 정보
@@ -30,7 +32,7 @@ public class UsernamePasswordAuthenticationConverter implements AuthenticationCo
      */
     @Override
     public UsernamePasswordAuthenticationToken convert(HttpServletRequest request) throws ErrorException {
-        var signinUserInfo = getSigninUserInfoFromBody(convertHttpRequestToString(request));
+        var signinUserInfo = getSigninUserInfoFromBody(request);
         if (isValidUserInfo(signinUserInfo))
             return UsernamePasswordAuthenticationToken
                     .unauthenticated(signinUserInfo.username(), signinUserInfo.password());
@@ -39,54 +41,30 @@ public class UsernamePasswordAuthenticationConverter implements AuthenticationCo
     }
 
     /**
-     * {@link HttpServletRequest} 객체에 저장된 HTTP 요청 정보를 문자열(String) 형식으로 변환하여 반환합니다.
-     * @param request {@link HttpServletRequest} 객체에 저장된 HTTP 요청 정보
-     * @return HTTP 요청을 문자열(String) 형식으로 반환
-     */
-    private String convertHttpRequestToString(HttpServletRequest request) {
-
-        StringBuilder stringBuilder = new StringBuilder();
-        try (var bufferedReader = new BufferedReader(new InputStreamReader(copyInputStream(request)))) {
-            bufferedReader.lines().forEach(stringBuilder::append);
-        } catch (IOException e) {
-            throw new RuntimeException(e.getMessage());
-        }
-
-        return stringBuilder.toString();
-    }
-
-    /**
-     * {@link HttpServletRequest} 객체에 저장된 HTTP 요청 정보를 문자열(String) 형식으로 변환하기위한 사전 작업으로,
-     * {@link ByteArrayInputStream} 으로 변환하여 반환합니다.
+     * HTTP 요청의 body 를 복사하거나 문자열로 변환하지 않고 JSON 토큰 단위로 한 번만 읽어 최상위의 사용자 이름과 비밀번호를 추출합니다.
+     * 그 외 속성은 건너뛰며, JSON 형식이 아니거나 값이 문자열이 아니라면 빈 값으로 처리하여 유효성 검사에서 걸러지도록 합니다.
      * @param request {@link HttpServletRequest} 객체에 저장된 HTTP 요청 정보
-     * @return {@link ByteArrayInputStream}
-     */
-    private ByteArrayInputStream copyInputStream(HttpServletRequest request) {
-        var byteArrayOutputStream = new ByteArrayOutputStream();
-        try {
-            request.getInputStream().transferTo(byteArrayOutputStream);
-        } catch (IOException e) {
-            throw new RuntimeException(e.getMessage());
-        }
-        return new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
-    }
-
-    /**
-     * 문자열(String) 형태로 표현된 HTTP 요청의 body에서 JSON 형식을 추출하여 {@link JsonNode} 형식으로 변환하고,
-     * 사용자 이름과 비밀번호를 추출합니다. 그리고 {@link SigninRequest}에 정보를 저장하여 반환합니다.
-     * @param request 문자열 형태로 표현된 HTTP 요청
      * @return {@link SigninRequest}
      */
-    private SigninRequest getSigninUserInfoFromBody(String request) {
-        JsonNode jsonNode;
-        try {
-            jsonNode = new ObjectMapper().readTree(request);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
+    private SigninRequest getSigninUserInfoFromBody(HttpServletRequest request) {
+        String username = null;
+        String password = null;
+        try (JsonParser parser = JSON_FACTORY.createParser(request.getInputStream())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT)
+                return new SigninRequest(null, null);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String property = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (USERNAME_PROPERTY.equals(property) && value == JsonToken.VALUE_STRING)
+                    username = parser.getText();
+                else if (PASSWORD_PROPERTY.equals(property) && value == JsonToken.VALUE_STRING)
+                    password = parser.getText();
+                else
+                    parser.skipChildren();
+            }
+        } catch (IOException e) {
+            return new SigninRequest(null, null);
         }
-        String username = jsonNode.get(USERNAME_PROPERTY).asText();
-        String password = jsonNode.get(PASSWORD_PROPERTY).asText();
-
         return new SigninRequest(username, password);
     }
 
@@ -0,0 +1,156 @@
+package com.limvik.econome.global.security.crypto;
+
+import com.limvik.econome.global.exception.ErrorCode;
+import com.limvik.econome.global.exception.ErrorException;
+import com.limvik.econome.global.jfr.PasswordHashEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시 계산을 요청 스레드가 아닌 크기가 제한된 전용 스레드 풀에서 수행하는 {@link PasswordEncoder} 입니다.
+ * BCrypt 처럼 CPU 를 많이 사용하는 계산이 동시에 스레드 수 이상 실행되지 않으므로, 로그인 요청이 몰려도 다른 API 의 요청 스레드와
+ * CPU 를 모두 차지하지 않습니다. 대기열이 가득 찼거나 정해진 시간 안에 계산을 마치지 못하면 기다리지 않고
+ * {@link ErrorCode#BUSY_PASSWORD_HASHING} 예외를 던집니다.
+ * 지표를 등록하면 대기열 크기, 계산 중인 스레드 수, 거절 수와 함께 전용 스레드에서의 해시 계산 시간(password.hash)을 기록합니다.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, MeterBinder {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private volatile Timer encodeTimer;
+    private volatile Timer matchesTimer;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, long timeoutMs) {
+        this.delegate = delegate;
+        this.timeoutMs = timeoutMs;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("password-hash-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        long submitNanos = System.nanoTime();
+        return execute(() -> hash("encode", submitNanos, encodeTimer, () -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        long submitNanos = System.nanoTime();
+        return execute(() -> hash("matches", submitNanos, matchesTimer,
+                () -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * 해시를 계산하지 않고 접두어와 강도만 비교하므로 요청 스레드에서 바로 수행합니다.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * 전용 스레드에서 해시를 계산하며, 지표를 등록했다면 계산 시간을 기록하고 JFR 이벤트로 대기열에서 기다린 시간과 함께 남깁니다.
+     */
+    private <T> T hash(String operation, long submitNanos, Timer timer, Supplier<T> task) {
+        long queueWaitNanos = System.nanoTime() - submitNanos;
+        var event = new PasswordHashEvent();
+        event.begin();
+        try {
+            return timer == null ? task.get() : timer.record(task);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = operation;
+                event.queueWaitNanos = queueWaitNanos;
+                event.commit();
+            }
+        }
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw busy();
+        }
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw busy();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw busy();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private ErrorException busy() {
+        rejectedCount.incrementAndGet();
+        return new ErrorException(ErrorCode.BUSY_PASSWORD_HASHING);
+    }
+
+    /**
+     * 해시 계산을 기다리는 요청 수를 반환합니다.
+     */
+    public int queueSize() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * 해시를 계산 중인 스레드 수를 반환합니다.
+     */
+    public int activeCount() {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * 대기열이 가득 찼거나 시간이 지나 거절한 요청 수의 누적값을 반환합니다.
+     */
+    public long rejectedCount() {
+        return rejectedCount.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("password.hash.queue", this, BoundedPasswordEncoder::queueSize)
+                .description("해시 계산을 기다리는 요청 수")
+                .register(registry);
+        Gauge.builder("password.hash.active", this, BoundedPasswordEncoder::activeCount)
+                .description("해시를 계산 중인 스레드 수")
+                .register(registry);
+        FunctionCounter.builder("password.hash.rejected", this, BoundedPasswordEncoder::rejectedCount)
+                .description("대기열이 가득 찼거나 시간이 지나 거절한 요청 수")
+                .register(registry);
+        this.encodeTimer = hashTimer(registry, "encode");
+        this.matchesTimer = hashTimer(registry, "matches");
+    }
+
+    private Timer hashTimer(MeterRegistry registry, String operation) {
+        return Timer.builder("password.hash")
+                .description("전용 스레드에서 비밀번호 해시를 계산한 시간")
+                .tag("operation", operation)
+                .register(registry);
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+}
@@ -32,8 +32,18 @@ public class JwtFilter extends OncePerRequestFilter {
 
     private final AuthenticationEntryPoint authenticationEntryPoint = new JwtEntryPoint();
 
+    private final boolean authenticationDetailsEnabled;
+
     public JwtFilter(AuthenticationManager authenticationManager) {
+        this(authenticationManager, false);
+    }
+
+    /**
+     * @param authenticationDetailsEnabled 인증 요청에 원격 주소 등 HTTP 요청 정보를 함께 저장할지 여부
+     */
+    public JwtFilter(AuthenticationManager authenticationManager, boolean authenticationDetailsEnabled) {
         this.authenticationManager = authenticationManager;
+        this.authenticationDetailsEnabled = authenticationDetailsEnabled;
     }
 
     /**
@@ -64,7 +74,9 @@ public class JwtFilter extends OncePerRequestFilter {
 
         BearerAuthenticationToken authenticationRequest = new BearerAuthenticationToken(token);
 
-        authenticationRequest.setDetails(this.authenticationDetailsSource.buildDetails(request));
+        if (this.authenticationDetailsEnabled) {
+            authenticationRequest.setDetails(this.authenticationDetailsSource.buildDetails(request));
+        }
 
         try {
             Authentication authenticationResult = this.authenticationManager.authenticate(authenticationRequest);
@@ -60,6 +60,8 @@ public class UsernamePasswordAuthenticationFilter extends OncePerRequestFilter {
             filterChain.doFilter(request, response);
         } catch (AuthenticationException e) {
             setErrorResponse(response, new ErrorException(ErrorCode.NOT_EXIST_USER));
+        } catch (ErrorException e) {
+            setErrorResponse(response, e);
         }
     }
 
@@ -1,6 +1,7 @@
 package com.limvik.econome.global.security.jwt.provider;
 
 import com.limvik.econome.global.exception.ErrorCode;
+import com.limvik.econome.global.jfr.JwtParseEvent;
 import com.limvik.econome.global.security.authentication.BearerAuthenticationToken;
 import com.limvik.econome.global.security.authentication.JwtAuthenticationToken;
 import com.limvik.econome.global.security.jwt.exception.JwtAuthenticationException;
@@ -13,9 +14,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
-import java.util.List;
 import java.util.Objects;
 
 /**
@@ -40,16 +39,27 @@ public class JwtAuthenticationProvider implements AuthenticationProvider {
     public Authentication authenticate(Authentication authentication)
             throws AuthenticationException {
         var bearerToken = (BearerAuthenticationToken) authentication;
-        Jws<Claims> jws = parseToken(bearerToken.getToken());
-        return getAuthenticatedToken(jws, bearerToken.getToken());
+        var event = new JwtParseEvent();
+        event.begin();
+        event.tokenType = "invalid";
+        try {
+            Jws<Claims> jws = parseToken(bearerToken.getToken(), event);
+            long userId = getUserId(jws);
+            event.userId = userId;
+            return new JwtAuthenticationToken(userId, bearerToken.getToken());
+        } finally {
+            event.commit();
+        }
     }
 
-    private Jws<Claims> parseToken(String token) {
+    private Jws<Claims> parseToken(String token, JwtParseEvent event) {
         Jws<Claims> jws;
         try {
-            jws = jwtProvider.parse(token, jwtProvider.getAccessKey());
+            jws = jwtProvider.parseAccessToken(token);
+            event.tokenType = "access";
         } catch (SignatureException e){
-            jws = jwtProvider.parse(token, jwtProvider.getRefreshKey());
+            jws = jwtProvider.parseRefreshToken(token);
+            event.tokenType = "refresh";
             log.info("Refresh Access Token By Refresh Token");
         } catch (JwtException e) {
             var error = new JwtError(ErrorCode.INVALID_TOKEN.name(), ErrorCode.INVALID_TOKEN.getHttpStatus());
@@ -59,10 +69,16 @@ public class JwtAuthenticationProvider implements AuthenticationProvider {
         return jws;
     }
 
-    private Authentication getAuthenticatedToken(Jws<Claims> jws, String tokenString) {
-        var auth = new JwtAuthenticationToken(jws, tokenString, List.of(new SimpleGrantedAuthority("USER")));
-        auth.setPrincipal(Objects.requireNonNull(jws).getPayload().getSubject());
-        return auth;
+    /**
+     * JWT subject 에 저장된 사용자 식별자를 변환합니다. 식별자가 아니라면 유효하지 않은 토큰으로 처리합니다.
+     */
+    private long getUserId(Jws<Claims> jws) {
+        try {
+            return Long.parseLong(Objects.requireNonNull(jws).getPayload().getSubject());
+        } catch (NumberFormatException | NullPointerException e) {
+            var error = new JwtError(ErrorCode.INVALID_TOKEN.name(), ErrorCode.INVALID_TOKEN.getHttpStatus());
+            throw new JwtAuthenticationException(error, ErrorCode.INVALID_TOKEN.getMessage());
+        }
     }
 
     /**
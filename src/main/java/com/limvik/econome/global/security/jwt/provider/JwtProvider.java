@@ -1,39 +1,127 @@
 package com.limvik.econome.global.security.jwt.provider;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.limvik.econome.domain.user.entity.User;
 import com.limvik.econome.global.config.JwtConfig;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.UUID;
 
 /**
  * JWT 생성 및 추출하는 기능을 수행하는 클래스입니다.
+ * 서명 키와 parser는 생성 시 한 번만 만들어 재사용하며, 검증이 완료된 JWT는 만료 시각까지 캐시하여
+ * 같은 JWT로 반복되는 요청에서 서명 검증과 JSON 변환을 생략합니다.
+ * 지표를 등록하면 캐시에 없어 실제로 서명을 검증한 시간(jwt.verify)과 검증 캐시의 적중률을 기록합니다.
  */
-@RequiredArgsConstructor
 @Component
-public class JwtProvider {
+public class JwtProvider implements MeterBinder {
 
     private final JwtConfig jwtConfig;
 
+    private final SecretKey accessKey;
+
+    private final SecretKey refreshKey;
+
+    private final JwtParser accessTokenParser;
+
+    private final JwtParser refreshTokenParser;
+
+    private final Cache<String, VerifiedToken> verifiedTokenCache;
+
+    private volatile Timer accessTokenVerifyTimer;
+
+    private volatile Timer refreshTokenVerifyTimer;
+
+    public JwtProvider(JwtConfig jwtConfig) {
+        this.jwtConfig = jwtConfig;
+        this.accessKey = Keys.hmacShaKeyFor(jwtConfig.getAccessKey().getBytes(StandardCharsets.UTF_8));
+        this.refreshKey = Keys.hmacShaKeyFor(jwtConfig.getRefreshKey().getBytes(StandardCharsets.UTF_8));
+        this.accessTokenParser = buildParser(accessKey);
+        this.refreshTokenParser = buildParser(refreshKey);
+        this.verifiedTokenCache = jwtConfig.getVerificationCache().isEnabled()
+                ? buildVerifiedTokenCache(jwtConfig.getVerificationCache().getMaximumSize())
+                : null;
+    }
+
+    private JwtParser buildParser(SecretKey secretKey) {
+        return Jwts.parser()
+                .requireIssuer(jwtConfig.getIssuer())
+                .verifyWith(secretKey)
+                .build();
+    }
+
+    /**
+     * 각 항목이 JWT의 만료 시각(exp)에 제거되는 크기 제한 캐시를 생성합니다.
+     */
+    private Cache<String, VerifiedToken> buildVerifiedTokenCache(long maximumSize) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                        Date expiration = value.jws().getPayload().getExpiration();
+                        if (expiration == null) {
+                            return 0L;
+                        }
+                        long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+                        return Duration.ofMillis(Math.max(0L, remainingMillis)).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken value,
+                                                  long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken value,
+                                                long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
     public String generateAccessToken(User user) {
         long expirationTime = Duration.ofMinutes(jwtConfig.getAccessTokenExpirationMinutes()).toMillis();
-        SecretKey secretKey = Keys.hmacShaKeyFor(jwtConfig.getAccessKey().getBytes(StandardCharsets.UTF_8));
-        return generateToken(user, expirationTime, secretKey);
+        return generateToken(user, expirationTime, accessKey);
     }
 
+    /**
+     * Refresh Token 은 기기별로 저장되므로, 같은 사용자가 같은 시각에 발급받더라도 서로 다른 토큰이 되도록 고유 식별자(jti)를 포함합니다.
+     */
     public String generateRefreshToken(User user) {
         long expirationTime = Duration.ofDays(jwtConfig.getRefreshTokenExpirationDays()).toMillis();
-        SecretKey secretKey = Keys.hmacShaKeyFor(jwtConfig.getRefreshKey().getBytes(StandardCharsets.UTF_8));
-        return generateToken(user, expirationTime, secretKey);
+        return buildToken(user, expirationTime)
+                .id(UUID.randomUUID().toString())
+                .signWith(refreshKey)
+                .compact();
     }
 
     private String generateToken(User user, long expirationTime, SecretKey secretKey) {
+        return buildToken(user, expirationTime)
+                .signWith(secretKey)
+                .compact();
+    }
+
+    private JwtBuilder buildToken(User user, long expirationTime) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expirationTime);
         return Jwts.builder()
@@ -42,25 +130,101 @@ public class JwtProvider {
                 .issuer(jwtConfig.getIssuer())
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .subject(user.getId().toString())
-                .signWith(secretKey)
-                .compact();
+                .subject(user.getId().toString());
     }
 
     public Jws<Claims> parse(String token, SecretKey secretKey) {
-        return Jwts.parser()
-                .requireIssuer(jwtConfig.getIssuer())
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token);
+        if (accessKey.equals(secretKey)) {
+            return parseAccessToken(token);
+        } else if (refreshKey.equals(secretKey)) {
+            return parseRefreshToken(token);
+        }
+        return buildParser(secretKey).parseSignedClaims(token);
+    }
+
+    /**
+     * Access Token 서명 키로 JWT를 검증합니다. 이미 검증된 JWT라면 캐시된 결과를 반환합니다.
+     * @throws SignatureException Access Token 서명 키로 서명되지 않은 경우
+     */
+    public Jws<Claims> parseAccessToken(String token) {
+        return parseWithCache(token, accessTokenParser, false);
+    }
+
+    /**
+     * Refresh Token 서명 키로 JWT를 검증합니다. 이미 검증된 JWT라면 캐시된 결과를 반환합니다.
+     * @throws SignatureException Refresh Token 서명 키로 서명되지 않은 경우
+     */
+    public Jws<Claims> parseRefreshToken(String token) {
+        return parseWithCache(token, refreshTokenParser, true);
+    }
+
+    private Jws<Claims> parseWithCache(String token, JwtParser parser, boolean refresh) {
+        if (verifiedTokenCache == null) {
+            return verify(token, parser, refresh);
+        }
+        String tokenHash = hash(token);
+        VerifiedToken cached = verifiedTokenCache.getIfPresent(tokenHash);
+        if (cached != null) {
+            if (cached.refresh() == refresh) {
+                return cached.jws();
+            } else if (!accessKey.equals(refreshKey)) {
+                // 다른 서명 키로 검증된 JWT이므로 다시 검증하지 않아도 서명 검증에 실패함
+                throw new SignatureException("JWT signature does not match the requested key.");
+            }
+        }
+        Jws<Claims> jws = verify(token, parser, refresh);
+        verifiedTokenCache.put(tokenHash, new VerifiedToken(jws, refresh));
+        return jws;
+    }
+
+    private Jws<Claims> verify(String token, JwtParser parser, boolean refresh) {
+        Timer timer = refresh ? refreshTokenVerifyTimer : accessTokenVerifyTimer;
+        if (timer == null) {
+            return parser.parseSignedClaims(token);
+        }
+        return timer.record(() -> parser.parseSignedClaims(token));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.accessTokenVerifyTimer = verifyTimer(registry, "access");
+        this.refreshTokenVerifyTimer = verifyTimer(registry, "refresh");
+        if (verifiedTokenCache != null) {
+            CaffeineCacheMetrics.monitor(registry, verifiedTokenCache, "jwtVerification");
+        }
+    }
+
+    private Timer verifyTimer(MeterRegistry registry, String type) {
+        return Timer.builder("jwt.verify")
+                .description("캐시에 없는 JWT 의 서명을 검증하고 claims 를 변환한 시간")
+                .tag("type", type)
+                .register(registry);
+    }
+
+    /**
+     * JWT 원문 대신 캐시 키로 사용할 SHA-256 해시 값을 반환합니다.
+     */
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     public SecretKey getAccessKey() {
-        return Keys.hmacShaKeyFor(jwtConfig.getAccessKey().getBytes(StandardCharsets.UTF_8));
+        return accessKey;
     }
 
     public SecretKey getRefreshKey() {
-        return Keys.hmacShaKeyFor(jwtConfig.getRefreshKey().getBytes(StandardCharsets.UTF_8));
+        return refreshKey;
+    }
+
+    /**
+     * 검증이 완료된 JWT와 검증에 사용된 서명 키의 종류입니다.
+     */
+    private record VerifiedToken(Jws<Claims> jws, boolean refresh) {
     }
 
-}
\ No newline at end of file
+}
@@ -4,17 +4,15 @@ import com.limvik.econome.global.security.jwt.exception.JwtAuthenticationExcepti
 import com.limvik.econome.global.security.jwt.exception.JwtError;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.HttpStatus;
-import org.springframework.util.StringUtils;
-
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Authorization 헤더에서 Bearer 뒤의 JWT를 추출하는 클래스입니다.
  */
 public class BearerResolver {
 
-    private static final Pattern authorizationPattern = Pattern.compile("^Bearer (?<token>[a-zA-Z0-9-._~+/]+)=*$");
+    private static final String BEARER = "Bearer";
+
+    private static final int TOKEN_START = BEARER.length() + 1;
 
     /**
      * {@link HttpServletRequest} 객체에 저장된 HTTP 요청 정보로부터 Authorization 헤더 정보를 받아 JWT 토큰을 추출하고 반환합니다.
@@ -25,20 +23,41 @@ public class BearerResolver {
         return resolveFromAuthorizationHeader(request);
     }
 
+    /**
+     * 정규표현식 {@code ^Bearer (?<token>[a-zA-Z0-9-._~+/]+)=*$} 과 같은 규칙으로 헤더를 한 번 순회하여 JWT를 추출합니다.
+     */
     private String resolveFromAuthorizationHeader(HttpServletRequest request) {
         String authorization = request.getHeader("Authorization");
-        if (StringUtils.hasText(authorization) && authorization.startsWith("Bearer")) {
-            Matcher matcher = authorizationPattern.matcher(authorization);
+        if (authorization == null || !authorization.startsWith(BEARER)) {
+            return null;
+        }
+        if (authorization.length() <= TOKEN_START || authorization.charAt(BEARER.length()) != ' ') {
+            throw invalidRequest();
+        }
 
-            if ( !matcher.matches() ) {
-                JwtError error = new JwtError("invalid_request", HttpStatus.BAD_REQUEST);
-                throw new JwtAuthenticationException(error, "토큰 형식 오류");
+        int tokenEnd = authorization.length();
+        while (tokenEnd > TOKEN_START && authorization.charAt(tokenEnd - 1) == '=') {
+            tokenEnd--;
+        }
+        if (tokenEnd == TOKEN_START) {
+            throw invalidRequest();
+        }
+        for (int i = TOKEN_START; i < tokenEnd; i++) {
+            if (!isTokenCharacter(authorization.charAt(i))) {
+                throw invalidRequest();
             }
-
-            return matcher.group("token");
         }
-        return null;
+        return authorization.substring(TOKEN_START, tokenEnd);
     }
 
-}
+    private boolean isTokenCharacter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '-' || c == '.' || c == '_' || c == '~' || c == '+' || c == '/';
+    }
 
+    private JwtAuthenticationException invalidRequest() {
+        JwtError error = new JwtError("invalid_request", HttpStatus.BAD_REQUEST);
+        return new JwtAuthenticationException(error, "토큰 형식 오류");
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.limvik.econome.global.sql;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * SQL 문을 값과 무관한 형태(fingerprint)로 정규화합니다.
+ * 주석을 제거하고, 문자열과 숫자 리터럴을 ? 로, IN 목록을 하나의 ? 로 바꾸고, 공백을 하나로 줄인 후 소문자로 변환합니다.
+ * 여러 행을 한 번에 저장하는 VALUES 튜플 목록과 CASE 의 WHEN ? THEN ? 목록도 하나로 줄여, 행 수만 다른 SQL 문이 같은 fingerprint 를 가집니다.
+ * 애플리케이션이 실행하는 SQL 문은 종류가 많지 않으므로 정규화한 결과를 크기 제한 캐시에 보관합니다.
+ */
+public final class SqlFingerprint {
+
+    private static final Pattern COMMENT = Pattern.compile("/\\*.*?\\*/|--[^\\n]*", Pattern.DOTALL);
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern VALUES_LIST = Pattern.compile(
+            "(?i)\\bvalues\\s*(\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\))(?:\\s*,\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\))+");
+    private static final Pattern WHEN_THEN_LIST = Pattern.compile(
+            "(?i)\\bwhen\\s+\\?\\s+then\\s+\\?(?:\\s+when\\s+\\?\\s+then\\s+\\?)+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final Cache<String, String> CACHE = Caffeine.newBuilder()
+            .maximumSize(2000)
+            .build();
+
+    private SqlFingerprint() {
+    }
+
+    public static String of(String sql) {
+        return CACHE.get(sql, SqlFingerprint::normalize);
+    }
+
+    static String normalize(String sql) {
+        String normalized = COMMENT.matcher(sql).replaceAll(" ");
+        normalized = STRING_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = IN_LIST.matcher(normalized).replaceAll("in (?)");
+        normalized = VALUES_LIST.matcher(normalized).replaceAll("values $1");
+        normalized = WHEN_THEN_LIST.matcher(normalized).replaceAll("when ? then ?");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ");
+        return normalized.trim().toLowerCase(Locale.ROOT);
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.limvik.econome.global.sql;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 누적 실행 시간이 긴 SQL fingerprint 를 관리 포트의 /actuator/sqlfingerprints 로 제공합니다.
+ * DELETE 요청으로 누적값을 초기화합니다.
+ */
+@Endpoint(id = "sqlfingerprints")
+public class SqlFingerprintEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final SqlFingerprintStats stats;
+
+    public SqlFingerprintEndpoint(SqlFingerprintStats stats) {
+        this.stats = stats;
+    }
+
+    @ReadOperation
+    public Map<String, Object> top(@Nullable Integer limit) {
+        List<Map<String, Object>> fingerprints = stats.top(limit == null ? DEFAULT_LIMIT : limit).stream()
+                .map(summary -> Map.<String, Object>of(
+                        "fingerprint", summary.fingerprint(),
+                        "count", summary.count(),
+                        "totalMs", toMillis(summary.totalTime()),
+                        "meanMs", toMillis(summary.meanTime()),
+                        "maxMs", toMillis(summary.maxTime())))
+                .toList();
+        return Map.of("fingerprints", fingerprints, "dropped", stats.droppedCount());
+    }
+
+    private static double toMillis(Duration duration) {
+        return duration.toNanos() / 1_000_000.0;
+    }
+
+    @DeleteOperation
+    public void reset() {
+        stats.reset();
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.limvik.econome.global.sql;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 모든 요청의 기록을 fingerprint 별로 누적합니다.
+ * fingerprint 수가 최대값에 도달하면 새 fingerprint 는 누적하지 않고 버린 횟수만 셉니다.
+ */
+public class SqlFingerprintStats {
+
+    private final int maximumFingerprints;
+    private final ConcurrentMap<String, Accumulator> accumulators = new ConcurrentHashMap<>();
+    private final LongAdder droppedCount = new LongAdder();
+
+    public SqlFingerprintStats(int maximumFingerprints) {
+        this.maximumFingerprints = maximumFingerprints;
+    }
+
+    public void add(SqlRecording recording) {
+        recording.forEach((fingerprint, count, totalNanos, maxNanos) -> {
+            Accumulator accumulator = accumulators.get(fingerprint);
+            if (accumulator == null) {
+                if (accumulators.size() >= maximumFingerprints) {
+                    droppedCount.add(count);
+                    return;
+                }
+                accumulator = accumulators.computeIfAbsent(fingerprint, key -> new Accumulator());
+            }
+            accumulator.count.add(count);
+            accumulator.totalNanos.add(totalNanos);
+            accumulator.maxNanos.accumulate(maxNanos);
+        });
+    }
+
+    /**
+     * 누적 실행 시간이 긴 순서대로 fingerprint 를 반환합니다.
+     * @param limit 반환할 최대 개수
+     */
+    public List<FingerprintSummary> top(int limit) {
+        return accumulators.entrySet().stream()
+                .map(entry -> entry.getValue().summary(entry.getKey()))
+                .sorted(Comparator.comparing(FingerprintSummary::totalTime).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * fingerprint 수가 최대값에 도달하여 누적하지 못한 실행 횟수를 반환합니다.
+     */
+    public long droppedCount() {
+        return droppedCount.sum();
+    }
+
+    public void reset() {
+        accumulators.clear();
+        droppedCount.reset();
+    }
+
+    public record FingerprintSummary(String fingerprint, long count, Duration totalTime, Duration maxTime) {
+
+        public Duration meanTime() {
+            return count == 0 ? Duration.ZERO : totalTime.dividedBy(count);
+        }
+    }
+
+    private static class Accumulator {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+        private FingerprintSummary summary(String fingerprint) {
+            return new FingerprintSummary(fingerprint, count.sum(),
+                    Duration.ofNanos(totalNanos.sum()), Duration.ofNanos(maxNanos.get()));
+        }
+    }
+
+}
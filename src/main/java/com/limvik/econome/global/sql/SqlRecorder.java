@@ -0,0 +1,74 @@
+package com.limvik.econome.global.sql;
+
+/**
+ * 현재 스레드에서 실행되는 SQL 문을 기록합니다.
+ * {@link SqlRecordingDataSource} 가 커넥션에서 준비하고 실행한 SQL 문과 실행 시간을 전달하며,
+ * 기록 중이 아닐 때는 아무것도 하지 않습니다. 기록은 중첩할 수 있으며, 안쪽 기록이 끝나면 바깥 기록을 이어서 사용합니다.
+ * <pre>{@code
+ * SqlRecording recording = SqlRecorder.record(() -> expenseService.getExpenses(...));
+ * assertThat(recording.repeated()).isEmpty();
+ * }</pre>
+ */
+public final class SqlRecorder {
+
+    private static final ThreadLocal<SqlRecording> CURRENT = new ThreadLocal<>();
+
+    private SqlRecorder() {
+    }
+
+    /**
+     * 현재 스레드에서 새 기록을 시작합니다. 반드시 {@link #stop()} 으로 끝내야 합니다.
+     */
+    public static SqlRecording start() {
+        SqlRecording recording = new SqlRecording(CURRENT.get());
+        CURRENT.set(recording);
+        return recording;
+    }
+
+    /**
+     * 현재 스레드의 기록을 끝내고 반환합니다.
+     */
+    public static SqlRecording stop() {
+        SqlRecording recording = CURRENT.get();
+        if (recording == null) {
+            throw new IllegalStateException("SQL recording has not been started.");
+        }
+        if (recording.previous() == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(recording.previous());
+        }
+        return recording;
+    }
+
+    /**
+     * 작업을 실행하는 동안 현재 스레드에서 실행된 SQL 문을 기록하여 반환합니다.
+     */
+    public static SqlRecording record(Runnable task) {
+        SqlRecording recording = start();
+        try {
+            task.run();
+        } finally {
+            stop();
+        }
+        return recording;
+    }
+
+    static void statementPrepared(String sql) {
+        SqlRecording recording = CURRENT.get();
+        if (recording != null) recording.statementPrepared(sql);
+    }
+
+    static boolean isRecording() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * 실행한 SQL 문과 실행 시간을 전달합니다. 여러 Statement 를 번갈아 실행해도 실행 시간은 실행한 SQL 문에 누적됩니다.
+     */
+    static void statementExecuted(String sql, long elapsedNanos) {
+        SqlRecording recording = CURRENT.get();
+        if (recording != null) recording.statementExecuted(sql, elapsedNanos);
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.limvik.econome.global.sql;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 하나의 HTTP 요청(또는 테스트의 한 구간)에서 실행된 SQL 문을 fingerprint 별로 기록한 결과입니다.
+ * 기록을 시작한 스레드에서만 변경되므로 동기화하지 않습니다.
+ */
+public class SqlRecording {
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+    private final SqlRecording previous;
+    private int statementCount;
+
+    SqlRecording(SqlRecording previous) {
+        this.previous = previous;
+    }
+
+    SqlRecording previous() {
+        return previous;
+    }
+
+    void statementPrepared(String sql) {
+        statementCount++;
+        entries.computeIfAbsent(SqlFingerprint.of(sql), fingerprint -> new Entry()).count++;
+    }
+
+    /**
+     * 실행한 SQL 문의 fingerprint 에 실행 시간을 누적합니다. 기록을 시작하기 전에 준비한 SQL 문은 누적하지 않습니다.
+     */
+    void statementExecuted(String sql, long elapsedNanos) {
+        Entry entry = entries.get(SqlFingerprint.of(sql));
+        if (entry == null) {
+            return;
+        }
+        entry.totalNanos += elapsedNanos;
+        entry.maxNanos = Math.max(entry.maxNanos, elapsedNanos);
+    }
+
+    /**
+     * 준비(prepare)한 SQL 문의 수를 반환합니다. 배치로 실행한 SQL 문은 한 번으로 셉니다.
+     */
+    public int statementCount() {
+        return statementCount;
+    }
+
+    /**
+     * fingerprint 별 실행 횟수를 실행한 순서대로 반환합니다.
+     */
+    public Map<String, Integer> counts() {
+        return entries.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().count,
+                        (a, b) -> a, LinkedHashMap::new));
+    }
+
+    /**
+     * 두 번 이상 실행된 fingerprint 와 실행 횟수를 반환합니다. 연관 엔티티를 하나씩 조회하는 N+1 문제의 후보입니다.
+     */
+    public Map<String, Integer> repeated() {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        entries.forEach((fingerprint, entry) -> {
+            if (entry.count > 1) repeated.put(fingerprint, entry.count);
+        });
+        return Collections.unmodifiableMap(repeated);
+    }
+
+    /**
+     * 한 번의 실행 시간이 기준 이상인 fingerprint 와 가장 긴 실행 시간을 반환합니다.
+     */
+    public Map<String, Duration> slowerThan(Duration threshold) {
+        Map<String, Duration> slow = new LinkedHashMap<>();
+        entries.forEach((fingerprint, entry) -> {
+            if (entry.maxNanos >= threshold.toNanos()) slow.put(fingerprint, Duration.ofNanos(entry.maxNanos));
+        });
+        return Collections.unmodifiableMap(slow);
+    }
+
+    public Duration totalTime() {
+        return Duration.ofNanos(entries.values().stream().mapToLong(entry -> entry.totalNanos).sum());
+    }
+
+    void forEach(EntryConsumer consumer) {
+        entries.forEach((fingerprint, entry) ->
+                consumer.accept(fingerprint, entry.count, entry.totalNanos, entry.maxNanos));
+    }
+
+    @FunctionalInterface
+    interface EntryConsumer {
+        void accept(String fingerprint, int count, long totalNanos, long maxNanos);
+    }
+
+    private static class Entry {
+        private int count;
+        private long totalNanos;
+        private long maxNanos;
+    }
+
+}
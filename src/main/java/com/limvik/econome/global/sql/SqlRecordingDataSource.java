@@ -0,0 +1,153 @@
+package com.limvik.econome.global.sql;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * 커넥션이 준비(prepare)하고 실행한 SQL 문을 현재 스레드의 {@link SqlRecorder} 에 전달하는 DataSource 입니다.
+ * Hibernate 와 JdbcTemplate 이 모두 이 DataSource 의 커넥션을 사용하므로, 어느 쪽에서 실행한 SQL 문이든 같은 기록에 포함됩니다.
+ * PreparedStatement 는 준비할 때, Statement 는 실행할 때 SQL 문을 기록하며, 실행 시간은 execute 계열 메서드의 호출 시간입니다.
+ * 실행 시간은 마지막으로 준비한 SQL 문이 아니라 실행한 Statement 자신의 SQL 문에 누적합니다.
+ */
+public class SqlRecordingDataSource extends DelegatingDataSource {
+
+    private static final Set<String> PREPARE_METHODS = Set.of("prepareStatement", "prepareCall");
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    public SqlRecordingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(obtainTargetDataSource().getConnection()));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(obtainTargetDataSource().getConnection(username, password)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private abstract static class DelegatingHandler implements InvocationHandler {
+
+        private final Object target;
+
+        DelegatingHandler(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "unwrap":
+                    if (((Class<?>) args[0]).isInstance(proxy)) return proxy;
+                    break;
+                case "isWrapperFor":
+                    if (((Class<?>) args[0]).isInstance(proxy)) return true;
+                    break;
+                default:
+                    return handle(proxy, method, args);
+            }
+            return invokeTarget(method, args);
+        }
+
+        abstract Object handle(Object proxy, Method method, Object[] args) throws Throwable;
+
+        Object invokeTarget(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+
+    private static class ConnectionHandler extends DelegatingHandler {
+
+        ConnectionHandler(Connection target) {
+            super(target);
+        }
+
+        @Override
+        Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = invokeTarget(method, args);
+            if (PREPARE_METHODS.contains(method.getName())) {
+                String sql = (String) args[0];
+                SqlRecorder.statementPrepared(sql);
+                return proxy(method.getReturnType(), new StatementHandler(result, sql));
+            }
+            if (method.getName().equals("createStatement")) {
+                return proxy(Statement.class, new StatementHandler(result, null));
+            }
+            return result;
+        }
+    }
+
+    private static class StatementHandler extends DelegatingHandler {
+
+        /**
+         * PreparedStatement 가 준비한 SQL 문, Statement 라면 null
+         */
+        private final String preparedSql;
+        private String batchSql;
+
+        StatementHandler(Object target, String preparedSql) {
+            super(target);
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (preparedSql == null && name.equals("addBatch") && batchSql == null) {
+                batchSql = (String) args[0];
+            } else if (name.equals("clearBatch")) {
+                batchSql = null;
+            }
+            if (!EXECUTE_METHODS.contains(name)) {
+                return invokeTarget(method, args);
+            }
+            String sql = preparedSql;
+            if (sql == null) {
+                if (args != null && args.length > 0 && args[0] instanceof String executedSql) {
+                    sql = executedSql;
+                } else {
+                    sql = batchSql;
+                    batchSql = null;
+                }
+                if (sql != null) {
+                    SqlRecorder.statementPrepared(sql);
+                }
+            }
+            if (sql == null || !SqlRecorder.isRecording()) {
+                return invokeTarget(method, args);
+            }
+            long startNanos = System.nanoTime();
+            try {
+                return invokeTarget(method, args);
+            } finally {
+                SqlRecorder.statementExecuted(sql, System.nanoTime() - startNanos);
+            }
+        }
+    }
+
+}
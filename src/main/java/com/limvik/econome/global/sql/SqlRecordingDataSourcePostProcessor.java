@@ -0,0 +1,29 @@
+package com.limvik.econome.global.sql;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * 애플리케이션이 사용하는 dataSource 빈을 {@link SqlRecordingDataSource} 로 감쌉니다.
+ * 읽기/쓰기 라우팅을 사용할 때도 dataSource 빈은 하나이므로, 주 데이터베이스와 읽기 전용 복제본의 SQL 문을 한 번씩만 기록합니다.
+ * 커넥션 풀을 감싸는 다른 후처리기가 먼저 실행되도록 가장 나중에 실행됩니다.
+ */
+public class SqlRecordingDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+
+    static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!DATA_SOURCE_BEAN_NAME.equals(beanName) || !(bean instanceof DataSource dataSource)
+                || bean instanceof SqlRecordingDataSource) return bean;
+        return new SqlRecordingDataSource(dataSource);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.limvik.econome.global.sql;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * HTTP 요청마다 실행된 SQL 문을 기록하여 fingerprint 별로 누적하고,
+ * SQL 문 수가 예산을 넘었거나 기준보다 오래 걸린 SQL 문이 있는 요청을 fingerprint 와 함께 로그로 남깁니다.
+ */
+@Slf4j
+public class SqlRecordingFilter extends OncePerRequestFilter {
+
+    private final SqlFingerprintStats stats;
+    private final int statementBudget;
+    private final Duration slowQueryThreshold;
+
+    public SqlRecordingFilter(SqlFingerprintStats stats, int statementBudget, Duration slowQueryThreshold) {
+        this.stats = stats;
+        this.statementBudget = statementBudget;
+        this.slowQueryThreshold = slowQueryThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlRecording recording = SqlRecorder.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlRecorder.stop();
+            stats.add(recording);
+            report(request, recording);
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlRecording recording) {
+        boolean overBudget = recording.statementCount() > statementBudget;
+        Map<String, Duration> slow = recording.slowerThan(slowQueryThreshold);
+        if (!overBudget && slow.isEmpty()) {
+            return;
+        }
+        log.warn("SQL 문 예산 또는 느린 쿼리 기준 초과: {} {}, statements={}, budget={}, totalMs={}, repeated={}, slow={}",
+                request.getMethod(), request.getRequestURI(), recording.statementCount(), statementBudget,
+                recording.totalTime().toMillis(), recording.repeated(), slow);
+    }
+
+}
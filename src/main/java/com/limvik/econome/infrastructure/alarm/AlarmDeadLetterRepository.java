@@ -0,0 +1,49 @@
+package com.limvik.econome.infrastructure.alarm;
+
+import com.limvik.econome.domain.alarm.enums.AlarmType;
+import com.limvik.econome.domain.alarm.service.dto.AlarmBatch;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+
+/**
+ * 전송하지 못한 알림 묶음을 저장하는 저장소입니다.
+ * 테이블은 Flyway 로만 관리되며 JPA 엔티티로 매핑하지 않습니다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class AlarmDeadLetterRepository {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param batch 전송하지 못한 알림 묶음
+     * @param payload 알림 묶음을 직렬화한 JSON
+     * @param attempts 전송 시도 횟수
+     * @param error 마지막 전송 실패 사유
+     */
+    public void save(AlarmBatch batch, String payload, int attempts, String error) {
+        jdbcTemplate.update(
+                "INSERT INTO alarm_dead_letters (type, day, first_user_id, last_user_id, attempts, error, payload) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                batch.type().name(),
+                batch.day(),
+                batch.messages().get(0).userId(),
+                batch.messages().get(batch.messages().size() - 1).userId(),
+                attempts,
+                error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error,
+                payload);
+    }
+
+    public long countByTypeAndDay(AlarmType type, LocalDate day) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM alarm_dead_letters WHERE type = ? AND day = ?",
+                Long.class, type.name(), day);
+        return count != null ? count : 0L;
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.limvik.econome.infrastructure.alarm;
+
+import com.limvik.econome.domain.alarm.service.AlarmSink;
+import com.limvik.econome.domain.alarm.service.dto.AlarmBatch;
+import com.limvik.econome.global.config.AlarmConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 알림 묶음을 JSON 으로 webhook 에 POST 하는 출구입니다.
+ * webhook 주소가 설정되지 않았다면 전송하지 않습니다.
+ */
+@RequiredArgsConstructor
+@Slf4j
+@Component
+public class WebhookAlarmSink implements AlarmSink {
+
+    private final RestTemplate restTemplate;
+    private final AlarmConfig alarmConfig;
+
+    @Override
+    public void send(AlarmBatch batch) {
+        String webhookUrl = alarmConfig.getWebhookUrl();
+        if (webhookUrl == null || webhookUrl.isBlank()) {
+            log.debug("알림 webhook 주소가 없어 {} 알림 {}건을 전송하지 않습니다.", batch.type(), batch.messages().size());
+            return;
+        }
+        restTemplate.postForEntity(webhookUrl, batch, Void.class);
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.limvik.econome.infrastructure.budgetplan;
+
+import com.limvik.econome.domain.budgetplan.entity.BudgetPlan;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * 한 사용자의 같은 달 카테고리별 예산을 카테고리 수와 상관없이 하나의 SQL 문으로 저장하거나 수정하는 저장소입니다.
+ * 중복 여부는 (user_id, date, category_id) 유니크 인덱스로 데이터베이스가 판단합니다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class BudgetPlanJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 예산을 하나의 multi-row INSERT 로 저장합니다. 이미 존재하는 예산이 하나라도 있으면 아무것도 저장하지 않습니다.
+     * @param budgetPlans 저장할 예산
+     * @return 저장된 행 수
+     * @throws org.springframework.dao.DuplicateKeyException 같은 사용자, 일자, 카테고리의 예산이 이미 존재하는 경우
+     */
+    public int insertAll(List<BudgetPlan> budgetPlans) {
+        StringJoiner values = new StringJoiner(", ");
+        List<Object> args = new ArrayList<>(budgetPlans.size() * 4);
+        for (BudgetPlan budgetPlan : budgetPlans) {
+            values.add("(?, ?, ?, ?)");
+            args.add(budgetPlan.getUser().getId());
+            args.add(budgetPlan.getCategory().getId());
+            args.add(Date.valueOf(budgetPlan.getDate()));
+            args.add(budgetPlan.getAmount());
+        }
+        return jdbcTemplate.update(
+                "INSERT INTO budget_plans (user_id, category_id, date, amount) VALUES " + values,
+                args.toArray());
+    }
+
+    /**
+     * 한 사용자의 같은 일자 예산 금액을 카테고리별로 하나의 UPDATE 문으로 수정합니다.
+     * MySQL 드라이버는 기본적으로 변경된 행이 아니라 조건에 일치한 행 수를 반환하므로, 금액이 같은 예산도 수정된 것으로 셉니다.
+     * @param budgetPlans 같은 사용자, 같은 일자의 수정할 예산
+     * @return 조건에 일치한 행 수
+     */
+    public int updateAmounts(List<BudgetPlan> budgetPlans) {
+        StringJoiner cases = new StringJoiner(" ", "CASE category_id ", " END");
+        StringJoiner categoryIds = new StringJoiner(", ", "(", ")");
+        List<Object> args = new ArrayList<>(budgetPlans.size() * 3 + 2);
+        for (BudgetPlan budgetPlan : budgetPlans) {
+            cases.add("WHEN ? THEN ?");
+            args.add(budgetPlan.getCategory().getId());
+            args.add(budgetPlan.getAmount());
+        }
+        args.add(budgetPlans.get(0).getUser().getId());
+        args.add(Date.valueOf(budgetPlans.get(0).getDate()));
+        for (BudgetPlan budgetPlan : budgetPlans) {
+            categoryIds.add("?");
+            args.add(budgetPlan.getCategory().getId());
+        }
+        return jdbcTemplate.update(
+                "UPDATE budget_plans SET amount = " + cases +
+                " WHERE user_id = ? AND date = ? AND category_id IN " + categoryIds,
+                args.toArray());
+    }
+
+}
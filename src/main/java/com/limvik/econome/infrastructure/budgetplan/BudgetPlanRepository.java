@@ -2,10 +2,8 @@ package com.limvik.econome.infrastructure.budgetplan;
 
 import com.limvik.econome.domain.budgetplan.entity.BudgetPlan;
 import com.limvik.econome.domain.budgetplan.entity.BudgetPlanProjection;
-import com.limvik.econome.domain.category.entity.Category;
 import com.limvik.econome.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.util.Streamable;
 
@@ -14,32 +12,17 @@ import java.util.List;
 
 public interface BudgetPlanRepository extends JpaRepository<BudgetPlan, Long> {
 
-    @Query("SELECT COUNT(*) " +
-            "FROM BudgetPlan bp " +
-            "WHERE bp.user = ?1 " +
-            "AND bp.date = ?2 " +
-            "AND bp.category IN (?3)")
-    long countByUserAndDateAndCategories(User user, LocalDate date, List<Category> categories);
-
     List<BudgetPlan> findAllByUserAndDate(User user, LocalDate date);
 
-    @Modifying
-    @Query("UPDATE BudgetPlan bp SET bp.amount = ?4 " +
-            "WHERE bp.user.id = ?1 " +
-            "AND bp.category.id = ?2 " +
-            "AND bp.date = ?3")
-    void updateAmountByUserAndDateAndCategory(long userId, long categoryId, LocalDate date, long amount);
-
     /**
-     * 전체 서비스 이용자의 카테고리별 평균 비율에 기반한 카테고리별 추천 금액 목록을 반환합니다.
-     * @param amount 사용자의 총 예산
-     * @return 카테고리별 추천 금액 목록
+     * 전체 서비스 이용자의 카테고리별 예산 합계와 예산 계획 수를 반환합니다.
+     * @return 카테고리 식별자 오름차순으로 정렬된 카테고리별 예산 합계와 예산 계획 수
      */
-    @Query("SELECT bp.category.id AS categoryId, " +
-            "(avg(bp.amount) / (SELECT sum(bp2.amount) FROM BudgetPlan bp2) * :amount) AS amount " +
+    @Query("SELECT bp.category.id AS categoryId, sum(bp.amount) AS amount, count(bp) AS planCount " +
             "FROM BudgetPlan bp " +
-            "GROUP BY bp.category.id, bp.category.name")
-    List<BudgetPlanProjection.RecommendedBudget> findRecommendedBudgetPlans(long amount);
+            "GROUP BY bp.category.id " +
+            "ORDER BY categoryId ASC")
+    List<BudgetPlanProjection.CategoryAmountStat> findAmountStatPerCategory();
 
     @Query("SELECT bp.category.id as categoryId, sum(bp.amount) as amount " +
             "FROM BudgetPlan bp " +
@@ -49,4 +32,16 @@ public interface BudgetPlanRepository extends JpaRepository<BudgetPlan, Long> {
             "GROUP BY bp.category.id")
     Streamable<BudgetPlanProjection.SumCategory> findThisMonthBudgetPerCategory(long userId, LocalDate date);
 
+    /**
+     * 식별자가 [fromUserId, toUserId] 범위인 사용자들이 기간 [start, end) 에 설정한 사용자별, 카테고리별 예산 합계를 반환합니다.
+     * @param start 조회 범위 시작 일자(포함)
+     * @param end 조회 범위 종료 일자(미포함)
+     */
+    @Query("SELECT bp.user.id as userId, bp.category.id as categoryId, sum(bp.amount) as amount " +
+            "FROM BudgetPlan bp " +
+            "WHERE bp.user.id BETWEEN ?1 AND ?2 AND bp.date >= ?3 AND bp.date < ?4 " +
+            "GROUP BY bp.user.id, bp.category.id")
+    List<BudgetPlanProjection.UserSumCategory> findBudgetPerUserCategoryBetween(long fromUserId, long toUserId,
+                                                                               LocalDate start, LocalDate end);
+
 }
@@ -1,7 +1,20 @@
 package com.limvik.econome.infrastructure.category;
 
 import com.limvik.econome.domain.category.entity.Category;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
+
+    /**
+     * 카테고리는 변경되지 않으므로 조회 결과를 쿼리 캐시에 보관하고, 각 카테고리는 2차 캐시에서 읽습니다.
+     */
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Category> findAll();
+
 }
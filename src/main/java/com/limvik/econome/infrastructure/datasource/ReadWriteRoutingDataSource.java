@@ -0,0 +1,41 @@
+package com.limvik.econome.infrastructure.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본으로, 그 외에는 원본으로 커넥션을 요청하는 DataSource 입니다.
+ * 복제 지연이 허용 범위를 넘거나 확인할 수 없으면 읽기 전용 트랜잭션도 원본으로 보냅니다.
+ * 트랜잭션 시작 시점에는 읽기 전용 여부가 아직 설정되지 않으므로, 반드시 LazyConnectionDataSourceProxy 로 감싸
+ * 첫 SQL 문을 실행할 때 커넥션을 얻도록 해야 합니다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor replicaLagMonitor) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return currentRoute();
+    }
+
+    public Route currentRoute() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && replicaLagMonitor.isReplicaAvailable()) {
+            return Route.REPLICA;
+        }
+        return Route.PRIMARY;
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.limvik.econome.infrastructure.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * 복제본의 복제 지연(Seconds_Behind_Source)을 확인하여 읽기 전용 트랜잭션을 복제본으로 보내도 되는지 판단합니다.
+ * 지연이 허용 범위를 넘거나, 복제가 멈췄거나, 복제본에 연결할 수 없으면 사용할 수 없는 것으로 봅니다.
+ * 허용 지연이 0 이하라면 확인하지 않고 항상 복제본을 사용합니다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final long maxLagSeconds;
+
+    private volatile boolean replicaAvailable;
+    private volatile Long lagSeconds;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, long maxLagSeconds) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.maxLagSeconds = maxLagSeconds;
+        this.replicaAvailable = maxLagSeconds <= 0;
+    }
+
+    public void check() {
+        if (maxLagSeconds <= 0) return;
+        try {
+            List<Long> lags = replicaJdbcTemplate.query("SHOW REPLICA STATUS", (rs, rowNum) -> {
+                long lag = rs.getLong("Seconds_Behind_Source");
+                return rs.wasNull() ? null : lag;
+            });
+            update(lags.isEmpty() ? null : lags.get(0));
+        } catch (DataAccessException e) {
+            log.warn("복제 지연을 확인할 수 없어 읽기 전용 트랜잭션을 원본으로 보냅니다: {}", e.getMessage());
+            update(null);
+        }
+    }
+
+    /**
+     * 측정한 복제 지연을 반영합니다.
+     * @param lagSeconds 복제 지연(초), 복제가 멈췄거나 확인할 수 없다면 null
+     */
+    public void update(Long lagSeconds) {
+        boolean available = lagSeconds != null && lagSeconds <= maxLagSeconds;
+        if (available != replicaAvailable) {
+            log.info("복제본 사용 여부 변경: available={}, lag={}s, maxLag={}s", available, lagSeconds, maxLagSeconds);
+        }
+        this.lagSeconds = lagSeconds;
+        this.replicaAvailable = available;
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    public Long getLagSeconds() {
+        return lagSeconds;
+    }
+
+}
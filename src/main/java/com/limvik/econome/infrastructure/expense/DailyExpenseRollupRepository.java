@@ -0,0 +1,98 @@
+package com.limvik.econome.infrastructure.expense;
+
+import com.limvik.econome.domain.expense.entity.DailyExpenseRollup;
+import com.limvik.econome.domain.expense.entity.DailyExpenseRollupId;
+import com.limvik.econome.domain.expense.entity.ExpenseProjection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface DailyExpenseRollupRepository extends JpaRepository<DailyExpenseRollup, DailyExpenseRollupId> {
+
+    /**
+     * 사용자, 일자, 카테고리에 해당하는 합계 행에 증감분을 반영합니다. 행이 없으면 새로 생성합니다.
+     * 지출 삭제 또는 수정 전 값의 차감은 음수 증감분으로 전달합니다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO daily_expense_rollups " +
+            "(user_id, day, category_id, amount_sum, count, excluded_sum) " +
+            "VALUES (?1, ?2, ?3, ?4, ?5, ?6) AS delta " +
+            "ON DUPLICATE KEY UPDATE " +
+            "amount_sum = daily_expense_rollups.amount_sum + delta.amount_sum, " +
+            "count = daily_expense_rollups.count + delta.count, " +
+            "excluded_sum = daily_expense_rollups.excluded_sum + delta.excluded_sum",
+            nativeQuery = true)
+    void upsertDelta(long userId, LocalDate day, long categoryId, long amount, int count, long excludedAmount);
+
+    /**
+     * 지출 기록이 모두 삭제되거나 다른 일자 또는 카테고리로 옮겨져 비어있는 합계 행을 삭제합니다.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM daily_expense_rollups " +
+            "WHERE user_id = ?1 AND day = ?2 AND category_id = ?3 AND count <= 0",
+            nativeQuery = true)
+    void deleteIfEmpty(long userId, LocalDate day, long categoryId);
+
+    /**
+     * 지정된 기간 [start, end) 동안 사용자가 소비한 카테고리별 지출 합계를 반환합니다.
+     * @param userId 사용자 식별자
+     * @param start 조회 범위 시작 일자(포함)
+     * @param end 조회 범위 종료 일자(미포함)
+     * @return 카테고리 식별자 오름차순으로 정렬된 카테고리별 지출 합계
+     */
+    @Query("SELECT r.id.categoryId as categoryId, sum(r.amountSum) as amount " +
+            "FROM DailyExpenseRollup r " +
+            "WHERE r.id.userId = ?1 AND r.id.day >= ?2 AND r.id.day < ?3 " +
+            "GROUP BY r.id.categoryId " +
+            "ORDER BY categoryId ASC")
+    List<ExpenseProjection.SumCategory> findExpensesPerCategoryBetween(long userId, LocalDate start, LocalDate end);
+
+    /**
+     * 지정된 사용자들이 기간 [start, end) 동안 소비한 사용자별, 카테고리별 지출 합계를 반환합니다.
+     * @param userIds 사용자 식별자 목록
+     * @param start 조회 범위 시작 일자(포함)
+     * @param end 조회 범위 종료 일자(미포함)
+     */
+    @Query("SELECT r.id.userId as userId, r.id.categoryId as categoryId, sum(r.amountSum) as amount " +
+            "FROM DailyExpenseRollup r " +
+            "WHERE r.id.userId IN ?1 AND r.id.day >= ?2 AND r.id.day < ?3 " +
+            "GROUP BY r.id.userId, r.id.categoryId")
+    List<ExpenseProjection.UserSumCategory> findExpensesPerUserCategoryBetween(Collection<Long> userIds,
+                                                                              LocalDate start, LocalDate end);
+
+    /**
+     * 식별자가 [fromUserId, toUserId] 범위인 사용자들이 기간 [start, end) 동안 소비한 사용자별, 카테고리별 지출 합계를 반환합니다.
+     * @param start 조회 범위 시작 일자(포함)
+     * @param end 조회 범위 종료 일자(미포함)
+     */
+    @Query("SELECT r.id.userId as userId, r.id.categoryId as categoryId, sum(r.amountSum) as amount " +
+            "FROM DailyExpenseRollup r " +
+            "WHERE r.id.userId BETWEEN ?1 AND ?2 AND r.id.day >= ?3 AND r.id.day < ?4 " +
+            "GROUP BY r.id.userId, r.id.categoryId")
+    List<ExpenseProjection.UserSumCategory> findExpensesPerUserCategoryBetween(long fromUserId, long toUserId,
+                                                                              LocalDate start, LocalDate end);
+
+    /**
+     * 지정된 기간 [start, end) 동안 사용자의 지출 합계를 반환합니다.
+     */
+    @Query("SELECT coalesce(sum(r.amountSum), 0) " +
+            "FROM DailyExpenseRollup r " +
+            "WHERE r.id.userId = ?1 AND r.id.day >= ?2 AND r.id.day < ?3")
+    long sumAmountBetween(long userId, LocalDate start, LocalDate end);
+
+    /**
+     * 지정된 기간 [start, end) 동안 지출 기록이 있는 사용자별 지출 합계를 반환합니다.
+     * @return 사용자 식별자 오름차순으로 정렬된 사용자별 지출 합계
+     */
+    @Query("SELECT r.id.userId as userId, sum(r.amountSum) as amount " +
+            "FROM DailyExpenseRollup r " +
+            "WHERE r.id.day >= ?1 AND r.id.day < ?2 " +
+            "GROUP BY r.id.userId " +
+            "ORDER BY userId ASC")
+    List<ExpenseProjection.UserSum> findUserSumsBetween(LocalDate start, LocalDate end);
+
+}
@@ -0,0 +1,67 @@
+package com.limvik.econome.infrastructure.expense;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * 지출 일괄 등록 요청의 멱등성 키와 처리 결과를 저장하는 저장소입니다.
+ * 테이블은 Flyway 로만 관리되며 JPA 엔티티로 매핑하지 않습니다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class ExpenseBulkRequestRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 사용자의 멱등성 키를 요청 본문의 해시와 함께 선점합니다. 같은 키를 처리 중인 트랜잭션이 있다면 해당 트랜잭션이 끝날 때까지 대기합니다.
+     * @param requestHash 요청 본문의 SHA-256 해시
+     * @return 선점에 성공하면 true, 이미 처리된 키라면 false
+     */
+    public boolean reserve(long userId, String idempotencyKey, byte[] requestHash) {
+        try {
+            jdbcTemplate.update(
+                    "INSERT INTO expense_bulk_requests (user_id, idempotency_key, request_hash) VALUES (?, ?, ?)",
+                    userId, idempotencyKey, requestHash);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    public Optional<BulkRequest> find(long userId, String idempotencyKey) {
+        return jdbcTemplate.query(
+                "SELECT request_hash, response FROM expense_bulk_requests WHERE user_id = ? AND idempotency_key = ?",
+                (rs, rowNum) -> new BulkRequest(rs.getBytes("request_hash"), rs.getString("response")),
+                userId, idempotencyKey).stream().findFirst();
+    }
+
+    public void saveResponse(long userId, String idempotencyKey, String response) {
+        jdbcTemplate.update(
+                "UPDATE expense_bulk_requests SET response = ? WHERE user_id = ? AND idempotency_key = ?",
+                response, userId, idempotencyKey);
+    }
+
+    /**
+     * 저장한 지 retentionHours 시간이 지난 멱등성 키를 최대 limit 개 삭제합니다.
+     * create_time 은 데이터베이스의 now() 로 저장되므로, 기준 시각도 데이터베이스에서 계산합니다.
+     * @return 삭제한 멱등성 키 수
+     */
+    public int deleteCreatedBefore(long retentionHours, int limit) {
+        return jdbcTemplate.update(
+                "DELETE FROM expense_bulk_requests WHERE create_time < now() - INTERVAL ? HOUR LIMIT ?",
+                retentionHours, limit);
+    }
+
+    /**
+     * 저장된 일괄 등록 요청입니다.
+     * @param requestHash 요청 본문의 SHA-256 해시, 해시를 저장하기 전에 선점된 키라면 null
+     * @param response 처리 결과, 아직 처리 중이라면 null
+     */
+    public record BulkRequest(byte[] requestHash, String response) {}
+
+}
@@ -0,0 +1,93 @@
+package com.limvik.econome.infrastructure.expense;
+
+import com.limvik.econome.domain.expense.entity.Expense;
+import com.limvik.econome.domain.expense.entity.ExpenseDetail;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * JPA 를 거치지 않고 JDBC batch 로 지출 기록을 저장하거나, 지출 기록을 스트리밍으로 조회하는 저장소입니다.
+ * rewriteBatchedStatements 옵션을 사용하면 MySQL 드라이버가 batch 를 multi-row INSERT 로 변환합니다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class ExpenseJdbcRepository {
+
+    private static final String INSERT_EXPENSE =
+            "INSERT INTO expenses (user_id, category_id, datetime, amount, memo, exclude_in_total) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_EXPENSE_LIST =
+            "SELECT id, datetime, category_id, amount, memo, exclude_in_total FROM expenses " +
+            "WHERE user_id = ? AND category_id = ? AND datetime >= ? AND datetime < ? AND amount BETWEEN ? AND ? " +
+            "ORDER BY datetime, id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 지출 기록을 하나의 JDBC batch 로 저장하고, 생성된 식별자를 저장 순서대로 반환합니다.
+     * @param expenses 저장할 지출 기록
+     * @return 저장된 지출 기록의 식별자 배열
+     */
+    public long[] batchInsert(List<Expense> expenses) {
+        return jdbcTemplate.execute((Connection connection) -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_EXPENSE, Statement.RETURN_GENERATED_KEYS)) {
+                for (Expense expense : expenses) {
+                    ps.setLong(1, expense.getUser().getId());
+                    ps.setLong(2, expense.getCategory().getId());
+                    ps.setTimestamp(3, Timestamp.valueOf(expense.getDatetime()));
+                    ps.setLong(4, expense.getAmount());
+                    ps.setString(5, expense.getMemo());
+                    ps.setBoolean(6, Boolean.TRUE.equals(expense.getExcluded()));
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                long[] ids = new long[expenses.size()];
+                try (ResultSet generatedKeys = ps.getGeneratedKeys()) {
+                    for (int i = 0; i < ids.length && generatedKeys.next(); i++) {
+                        ids[i] = generatedKeys.getLong(1);
+                    }
+                }
+                return ids;
+            }
+        });
+    }
+
+    /**
+     * 지정된 기간 [start, end), 카테고리, 금액 범위에 속한 지출 기록을 지출 일시, 식별자 오름차순으로 한 행씩 전달합니다.
+     * fetch size 를 Integer.MIN_VALUE 로 지정하면 MySQL 드라이버가 결과를 모두 읽어 두지 않고 forward-only 커서로 한 행씩 읽으므로,
+     * 조회 범위와 상관없이 메모리 사용량이 일정합니다. 전달이 끝날 때까지 연결을 점유하므로 consumer 는 빠르게 반환해야 합니다.
+     * @param consumer 조회된 지출 기록을 받을 함수
+     */
+    public void streamExpenseList(long userId, long categoryId, LocalDateTime start, LocalDateTime end,
+                                  long minAmount, long maxAmount,
+                                  Consumer<ExpenseDetail> consumer) {
+        jdbcTemplate.query((Connection connection) -> {
+            PreparedStatement ps = connection.prepareStatement(SELECT_EXPENSE_LIST,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(Integer.MIN_VALUE);
+            ps.setLong(1, userId);
+            ps.setLong(2, categoryId);
+            ps.setTimestamp(3, Timestamp.valueOf(start));
+            ps.setTimestamp(4, Timestamp.valueOf(end));
+            ps.setLong(5, minAmount);
+            ps.setLong(6, maxAmount);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(new ExpenseDetail(
+                rs.getLong(1),
+                rs.getTimestamp(2).toLocalDateTime(),
+                rs.getLong(3),
+                rs.getLong(4),
+                rs.getString(5),
+                rs.getBoolean(6))));
+    }
+
+}
@@ -1,13 +1,13 @@
 package com.limvik.econome.infrastructure.expense;
 
 import com.limvik.econome.domain.expense.entity.Expense;
+import com.limvik.econome.domain.expense.entity.ExpenseDetail;
 import com.limvik.econome.domain.expense.entity.ExpenseProjection;
 import com.limvik.econome.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.util.Streamable;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -16,60 +16,45 @@ public interface ExpenseRepository extends JpaRepository<Expense, Long> {
 
     Optional<Expense> findByUserAndId(User user, long id);
 
-    @Query("SELECT e FROM Expense e WHERE e.user.id = ?1 AND e.datetime BETWEEN ?2 AND ?3 AND e.amount BETWEEN ?4 AND ?5")
-    List<Expense> findAllExpenseList(long userId, LocalDateTime startDate, LocalDateTime endDate, long minAmount, long maxAmount);
-
-    @Query("SELECT e.category.id as categoryId, sum(e.amount) as amount " +
-            "FROM Expense e " +
-            "WHERE e.user.id = ?1 AND " +
-            "FUNCTION('YEAR', e.datetime) = FUNCTION('YEAR', ?2) AND " +
-            "FUNCTION('MONTH', e.datetime) = FUNCTION('MONTH', ?2) AND " +
-            "FUNCTION('DAY', e.datetime) < FUNCTION('DAY', ?2) " +
-            "GROUP BY e.category.id " +
-            "ORDER BY categoryId DESC")
-    Streamable<ExpenseProjection.SumCategory> findThisMonthExpensesPerCategory(long userId, LocalDate date);
-
-    @Query("SELECT e.category.id as categoryId, sum(e.amount) as amount " +
+    /**
+     * 지정된 기간 [start, end), 카테고리, 금액 범위에 속한 지출 기록 중 커서 (cursorDatetime, cursorId) 이후의 기록을
+     * 지출 일시, 식별자 오름차순으로 반환합니다. 엔티티 대신 필요한 컬럼만 조회하므로 사용자와 카테고리를 join 하지 않습니다.
+     * @param pageable 조회할 최대 건수
+     */
+    @Query("SELECT new com.limvik.econome.domain.expense.entity.ExpenseDetail(" +
+            "e.id, e.datetime, e.category.id, e.amount, e.memo, e.excluded) " +
             "FROM Expense e " +
-            "WHERE e.user.id = ?1 AND " +
-            "FUNCTION('YEAR', e.datetime) = FUNCTION('YEAR', CURRENT_DATE) AND " +
-            "FUNCTION('MONTH', e.datetime) = FUNCTION('MONTH', CURRENT_DATE) " +
-            "AND FUNCTION('DAY', e.datetime) = FUNCTION('DAY', CURRENT_DATE) " +
-            "GROUP BY e.category.id " +
-            "ORDER BY categoryId DESC")
-    Streamable<ExpenseProjection.SumCategory> findTodayExpensesPerCategory(long userId);
-
-    @Query("SELECT e.category.id as categoryId, sum(e.amount) as amount " +
+            "WHERE e.user.id = :userId AND e.category.id = :categoryId " +
+            "AND e.datetime >= :start AND e.datetime < :end " +
+            "AND e.amount BETWEEN :minAmount AND :maxAmount " +
+            "AND (e.datetime > :cursorDatetime OR (e.datetime = :cursorDatetime AND e.id > :cursorId)) " +
+            "ORDER BY e.datetime ASC, e.id ASC")
+    List<ExpenseDetail> findExpenseListAfter(long userId, long categoryId,
+                                             LocalDateTime start, LocalDateTime end,
+                                             long minAmount, long maxAmount,
+                                             LocalDateTime cursorDatetime, long cursorId,
+                                             Pageable pageable);
+
+    /**
+     * 사용자의 지출 기록 하나를 엔티티 대신 필요한 컬럼만 조회하여 반환합니다.
+     */
+    @Query("SELECT new com.limvik.econome.domain.expense.entity.ExpenseDetail(" +
+            "e.id, e.datetime, e.category.id, e.amount, e.memo, e.excluded) " +
+            "FROM Expense e WHERE e.user.id = :userId AND e.id = :expenseId")
+    Optional<ExpenseDetail> findDetailByUserIdAndId(long userId, long expenseId);
+
+    /**
+     * 지정된 기간 [start, end), 금액 범위에 속한 지출 기록에서 합계 제외 항목을 제외한 총액과 카테고리의 총액을 반환합니다.
+     */
+    @Query("SELECT coalesce(sum(CASE WHEN e.excluded = true THEN 0 ELSE e.amount END), 0) as totalAmount, " +
+            "coalesce(sum(CASE WHEN e.excluded = true OR e.category.id <> :categoryId THEN 0 ELSE e.amount END), 0) " +
+            "as totalAmountForCategory " +
             "FROM Expense e " +
-            "WHERE e.user.id = ?1 AND " +
-            "FUNCTION('YEAR', e.datetime) = FUNCTION('YEAR', ?2) AND " +
-            "FUNCTION('MONTH', e.datetime) = FUNCTION('MONTH', ?2) " +
-            "AND FUNCTION('DAY', e.datetime) <= FUNCTION('DAY', ?2) " +
-            "GROUP BY e.category.id " +
-            "ORDER BY categoryId ASC")
-    List<ExpenseProjection.SumCategory> findMonthlyExpensesPerCategoryByYearAndMonthAndDayBefore(long userId,
-                                                                                                 LocalDate yearMonthDay);
-
-    @Query("SELECT e.category.id as categoryId, sum(e.amount) as amount " +
-            "FROM Expense e " +
-            "WHERE e.user.id = ?1 AND " +
-            "FUNCTION('YEAR', e.datetime) = FUNCTION('YEAR', ?2) AND " +
-            "FUNCTION('MONTH', e.datetime) = FUNCTION('MONTH', ?2) AND " +
-            "FUNCTION('DAY', e.datetime) = FUNCTION('DAY', ?2) " +
-            "GROUP BY e.category.id " +
-            "ORDER BY categoryId ASC")
-    List<ExpenseProjection.SumCategory> findWeeklyExpensesPerCategoryByYearAndMonthAndDay(long userId,
-                                                                                          LocalDate yearMonthDay);
-
-    @Query("SELECT sum(userExpense.amount) / sum(otherUserExpense.amount) * 100 as rate " +
-            "FROM Expense userExpense, Expense otherUserExpense " +
-            "WHERE userExpense.user.id = ?1 AND otherUserExpense.user.id != ?1 AND " +
-            "FUNCTION('YEAR', userExpense.datetime) = FUNCTION('YEAR', CURRENT_DATE) AND " +
-            "FUNCTION('MONTH', userExpense.datetime) = FUNCTION('MONTH', CURRENT_DATE) AND " +
-            "FUNCTION('DAY', userExpense.datetime) <= FUNCTION('DAY', CURRENT_DATE) AND " +
-            "FUNCTION('YEAR', otherUserExpense.datetime) = FUNCTION('YEAR', CURRENT_DATE) AND " +
-            "FUNCTION('MONTH', otherUserExpense.datetime) = FUNCTION('MONTH', CURRENT_DATE) AND " +
-            "FUNCTION('DAY', otherUserExpense.datetime) <= FUNCTION('DAY', CURRENT_DATE)")
-    Double findExpenseRateCompareOtherUser(long userId);
+            "WHERE e.user.id = :userId " +
+            "AND e.datetime >= :start AND e.datetime < :end " +
+            "AND e.amount BETWEEN :minAmount AND :maxAmount")
+    ExpenseProjection.ListTotal findExpenseListTotal(long userId, long categoryId,
+                                                     LocalDateTime start, LocalDateTime end,
+                                                     long minAmount, long maxAmount);
 
 }
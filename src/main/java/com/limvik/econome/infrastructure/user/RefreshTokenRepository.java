@@ -0,0 +1,61 @@
+package com.limvik.econome.infrastructure.user;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 사용자의 기기별 Refresh Token 을 SHA-256 해시를 키로 저장하는 저장소입니다.
+ * 테이블은 Flyway 로만 관리되며 JPA 엔티티로 매핑하지 않습니다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class RefreshTokenRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void save(long userId, byte[] tokenHash, Instant expireTime) {
+        jdbcTemplate.update(
+                "INSERT INTO refresh_tokens (token_hash, user_id, expire_time) VALUES (?, ?, ?)",
+                tokenHash, userId, Timestamp.from(expireTime));
+    }
+
+    public Optional<StoredRefreshToken> findByTokenHash(byte[] tokenHash) {
+        return jdbcTemplate.query(
+                "SELECT user_id, expire_time FROM refresh_tokens WHERE token_hash = ?",
+                (rs, rowNum) -> new StoredRefreshToken(
+                        rs.getLong("user_id"), rs.getTimestamp("expire_time").toInstant()),
+                (Object) tokenHash).stream().findFirst();
+    }
+
+    /**
+     * 사용자의 Refresh Token 을 삭제합니다. 같은 토큰으로 동시에 요청하더라도 한 요청만 삭제에 성공합니다.
+     * @return 삭제에 성공하면 true, 이미 삭제되었거나 다른 사용자의 토큰이라면 false
+     */
+    public boolean delete(long userId, byte[] tokenHash) {
+        return jdbcTemplate.update(
+                "DELETE FROM refresh_tokens WHERE token_hash = ? AND user_id = ?",
+                tokenHash, userId) == 1;
+    }
+
+    /**
+     * 만료 시각이 지난 Refresh Token 을 최대 limit 개 삭제합니다.
+     * @return 삭제한 Refresh Token 수
+     */
+    public int deleteExpired(Instant now, int limit) {
+        return jdbcTemplate.update(
+                "DELETE FROM refresh_tokens WHERE expire_time < ? LIMIT ?",
+                Timestamp.from(now), limit);
+    }
+
+    /**
+     * 저장된 Refresh Token 의 소유자와 만료 시각입니다.
+     */
+    public record StoredRefreshToken(long userId, Instant expireTime) {
+    }
+
+}
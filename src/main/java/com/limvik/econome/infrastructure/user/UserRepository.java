@@ -1,8 +1,12 @@
 package com.limvik.econome.infrastructure.user;
 
 import com.limvik.econome.domain.user.entity.User;
+import com.limvik.econome.domain.user.entity.UserProjection;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -11,11 +15,37 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
-    Optional<User> findByUsername(String username);
-    boolean existsByIdAndRefreshToken(Long id, String refreshToken);
+    /**
+     * 로그인 시 비밀번호 검증에 필요한 식별자, 사용자 이름, 비밀번호 해시만 조회합니다.
+     */
+    @Query("SELECT u.id as id, u.username as username, u.password as password FROM User u WHERE u.username = ?1")
+    Optional<UserProjection.Credential> findCredentialByUsername(String username);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = ?2 WHERE u.id = ?1")
+    int updatePasswordById(Long id, String password);
 
     @Query("SELECT u.minimumDailyExpense FROM User u WHERE u.id = ?1")
     long findMinimumDailyExpenseById(Long id);
 
-    List<User> findAllByAgreeAlarm(boolean agreeAlarm);
+    /**
+     * 알림 수신에 동의한 사용자 중 식별자가 lastUserId 보다 큰 사용자를 식별자 오름차순으로 반환합니다.
+     * @param lastUserId 이전 페이지의 마지막 사용자 식별자, 첫 페이지라면 0
+     * @param pageable 조회할 최대 사용자 수
+     */
+    @Query("SELECT u.id as id, u.minimumDailyExpense as minimumDailyExpense " +
+            "FROM User u " +
+            "WHERE u.agreeAlarm = true AND u.id > ?1 " +
+            "ORDER BY u.id ASC")
+    List<UserProjection.AlarmTarget> findAlarmTargetsAfter(long lastUserId, Pageable pageable);
+
+    /**
+     * 식별자가 [fromUserId, toUserId] 범위인 사용자의 최소 일 소비액을 식별자 오름차순으로 반환합니다.
+     */
+    @Query("SELECT u.id as id, u.minimumDailyExpense as minimumDailyExpense " +
+            "FROM User u " +
+            "WHERE u.id BETWEEN ?1 AND ?2 " +
+            "ORDER BY u.id ASC")
+    List<UserProjection.MinimumDailyExpense> findMinimumDailyExpenseBetween(long fromUserId, long toUserId);
 }
@@ -92,12 +92,10 @@ public class BudgetPlanController {
 
     private BudgetPlanListResponse mapBudgetPlanListToResponseList(List<BudgetPlan> budgetPlanList) {
         List<BudgetPlanResponse> budgetPlanResponseList = new ArrayList<>();
-        BudgetCategory[] budgetCategories = BudgetCategory.values();
-
         for (BudgetPlan budgetPlan : budgetPlanList) {
             BudgetPlanResponse budgetPlanResponse = new BudgetPlanResponse(
                     budgetPlan.getCategory().getId(),
-                    budgetCategories[(int) (budgetPlan.getCategory().getId() - 1)].getCategory(),
+                    BudgetCategory.ofId(budgetPlan.getCategory().getId()).getCategory(),
                     budgetPlan.getAmount());
             budgetPlanResponseList.add(budgetPlanResponse);
         }
@@ -0,0 +1,19 @@
+package com.limvik.econome.web.budgetplan.task;
+
+import com.limvik.econome.domain.budgetplan.service.BudgetRatioService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+public class BudgetRatioTask {
+
+    private final BudgetRatioService budgetRatioService;
+
+    @Scheduled(fixedDelayString = "${budget-plan.recommendation.refresh-interval-ms:600000}")
+    public void refreshBudgetRatios() {
+        budgetRatioService.refresh();
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.limvik.econome.web.datasource.task;
+
+import com.limvik.econome.infrastructure.datasource.ReplicaLagMonitor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaLagCheckTask {
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    @Scheduled(initialDelayString = "${datasource.replica.lag-check-interval-ms:5000}",
+            fixedDelayString = "${datasource.replica.lag-check-interval-ms:5000}")
+    public void checkReplicaLag() {
+        replicaLagMonitor.check();
+    }
+
+}
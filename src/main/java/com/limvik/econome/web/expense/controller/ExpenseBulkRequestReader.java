@@ -0,0 +1,198 @@
+package com.limvik.econome.web.expense.controller;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.limvik.econome.domain.category.entity.Category;
+import com.limvik.econome.domain.category.enums.BudgetCategory;
+import com.limvik.econome.domain.expense.entity.Expense;
+import com.limvik.econome.domain.expense.service.dto.ExpenseBulkRow;
+import com.limvik.econome.domain.user.entity.User;
+import com.limvik.econome.global.exception.ErrorCode;
+import com.limvik.econome.global.exception.ErrorException;
+import com.limvik.econome.web.expense.dto.ExpenseRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지출 일괄 등록 요청 본문(JSON 배열)을 전체를 메모리에 올리지 않고 한 행씩 읽고 검증하는 클래스입니다.
+ * 행의 형식이나 값이 올바르지 않으면 해당 행만 거절하며, 배열 자체가 올바르지 않으면 요청 전체를 거절합니다.
+ * 읽은 행은 필드 이름 순으로 정렬하고 공백을 없앤 정규 형식으로 SHA-256 해시에 누적하여, 멱등성 키를 요청 본문에 묶는 데 사용합니다.
+ */
+class ExpenseBulkRequestReader implements Iterator<ExpenseBulkRow>, AutoCloseable {
+
+    private final JsonParser parser;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter canonicalWriter;
+    private final MessageDigest bodyDigest;
+    private final Validator validator;
+    private final long userId;
+
+    private int index = 0;
+    private JsonToken nextToken;
+
+    ExpenseBulkRequestReader(InputStream body, ObjectMapper objectMapper, Validator validator, long userId) {
+        this.objectMapper = objectMapper;
+        this.canonicalWriter = objectMapper.writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+        this.bodyDigest = sha256();
+        this.validator = validator;
+        this.userId = userId;
+        try {
+            this.parser = objectMapper.getFactory().createParser(body);
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new ErrorException(ErrorCode.INVALID_BULK_EXPENSE);
+            }
+        } catch (IOException e) {
+            throw new ErrorException(ErrorCode.INVALID_BULK_EXPENSE);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextToken == null) {
+            try {
+                nextToken = parser.nextToken();
+            } catch (IOException e) {
+                throw new ErrorException(ErrorCode.INVALID_BULK_EXPENSE);
+            }
+            if (nextToken == null) {
+                throw new ErrorException(ErrorCode.INVALID_BULK_EXPENSE);
+            }
+        }
+        return nextToken != JsonToken.END_ARRAY;
+    }
+
+    @Override
+    public ExpenseBulkRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        int rowIndex = index++;
+        nextToken = null;
+
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(parser);
+        } catch (IOException e) {
+            throw new ErrorException(ErrorCode.INVALID_BULK_EXPENSE);
+        }
+        digest(node);
+        if (node == null || !node.isObject()) {
+            return ExpenseBulkRow.rejected(rowIndex, "지출 객체가 아닙니다.");
+        }
+
+        ExpenseRequest request;
+        try {
+            request = objectMapper.treeToValue(node, ExpenseRequest.class);
+        } catch (JsonProcessingException e) {
+            return ExpenseBulkRow.rejected(rowIndex, "지출 항목의 형식이 올바르지 않습니다.");
+        }
+
+        String rejectReason = validate(request);
+        if (rejectReason != null) {
+            return ExpenseBulkRow.rejected(rowIndex, rejectReason);
+        }
+        return ExpenseBulkRow.accepted(rowIndex, Expense.builder()
+                .user(User.builder().id(userId).build())
+                .category(Category.builder().id(request.categoryId()).build())
+                .amount(request.amount())
+                .memo(request.memo())
+                .datetime(request.datetime())
+                .excluded(request.excluded())
+                .build());
+    }
+
+    /**
+     * 남은 행을 모두 읽습니다. 저장 트랜잭션을 시작하기 전에 호출하여, 본문을 느리게 보내는 클라이언트가
+     * 커넥션과 멱등성 키 잠금을 점유하지 않도록 합니다.
+     * @param maxRows 최대 허용 건수
+     * @param readTimeoutMs 본문 전체를 읽을 수 있는 최대 시간(ms)
+     * @throws ErrorException 행의 수가 최대 허용 건수를 초과하거나, 제한 시간 안에 본문을 모두 읽지 못한 경우
+     */
+    List<ExpenseBulkRow> readAll(int maxRows, long readTimeoutMs) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(readTimeoutMs);
+        List<ExpenseBulkRow> rows = new ArrayList<>();
+        while (hasNext()) {
+            if (rows.size() == maxRows) {
+                throw new ErrorException(ErrorCode.TOO_MANY_BULK_EXPENSES);
+            }
+            if (System.nanoTime() - deadline > 0) {
+                throw new ErrorException(ErrorCode.BULK_EXPENSE_READ_TIMEOUT);
+            }
+            rows.add(next());
+        }
+        return rows;
+    }
+
+    /**
+     * 지금까지 읽은 행의 정규 형식에 대한 SHA-256 해시를 반환합니다. {@link #readAll(int, long)} 이후에 호출해야 요청 본문 전체의 해시가 됩니다.
+     * 필드 순서와 공백만 다른 본문은 같은 해시를 가집니다.
+     */
+    byte[] bodyHash() {
+        try {
+            return ((MessageDigest) bodyDigest.clone()).digest();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void digest(JsonNode node) {
+        try {
+            Object value = node == null ? null : objectMapper.treeToValue(node, Object.class);
+            bodyDigest.update(canonicalWriter.writeValueAsBytes(value));
+            bodyDigest.update((byte) '\n');
+        } catch (JsonProcessingException e) {
+            throw new ErrorException(ErrorCode.INVALID_BULK_EXPENSE);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 단건 지출 생성과 같은 제약 조건에 더해 일괄 등록에서는 지출 일시와 금액을 필수로 검증합니다.
+     * @return 거절 사유, 검증을 통과하면 null
+     */
+    private String validate(ExpenseRequest request) {
+        Set<ConstraintViolation<ExpenseRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<ExpenseRequest> violation = violations.iterator().next();
+            return violation.getPropertyPath() + ": " + violation.getMessage();
+        }
+        if (!BudgetCategory.isValidId(request.categoryId())) {
+            return "categoryId: 존재하지 않는 카테고리입니다.";
+        }
+        if (request.datetime() == null) {
+            return "datetime: 지출 일시는 필수입니다.";
+        }
+        if (request.amount() == null || request.amount() < 0) {
+            return "amount: 지출 금액은 0 이상이어야 합니다.";
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
@@ -1,34 +1,61 @@
 package com.limvik.econome.web.expense.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.limvik.econome.domain.category.entity.Category;
 import com.limvik.econome.domain.category.enums.BudgetCategory;
 import com.limvik.econome.domain.expense.entity.Expense;
+import com.limvik.econome.domain.expense.entity.ExpenseDetail;
+import com.limvik.econome.domain.expense.service.ExpenseBulkService;
 import com.limvik.econome.domain.expense.service.ExpenseService;
+import com.limvik.econome.domain.expense.service.TodayDashboardCache;
 import com.limvik.econome.domain.expense.service.dto.CalendarStatDto;
+import com.limvik.econome.domain.expense.service.dto.CategoryAmounts;
+import com.limvik.econome.domain.expense.service.dto.ExpenseBulkResult;
+import com.limvik.econome.domain.expense.service.dto.ExpenseCursor;
+import com.limvik.econome.domain.expense.service.dto.ExpenseListPage;
+import com.limvik.econome.domain.expense.service.dto.TodayDashboard;
+import com.limvik.econome.domain.expense.service.dto.ExpenseBulkRow;
 import com.limvik.econome.domain.user.entity.User;
+import com.limvik.econome.global.config.ExpenseBulkConfig;
+import com.limvik.econome.global.exception.ErrorCode;
+import com.limvik.econome.global.exception.ErrorException;
 import com.limvik.econome.global.security.authentication.JwtAuthenticationToken;
 import com.limvik.econome.web.expense.dto.*;
 import com.limvik.econome.web.util.UserUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
 
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/api/v1/expenses")
 public class ExpenseController {
 
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+
     private final ExpenseService expenseService;
+    private final ExpenseBulkService expenseBulkService;
+    private final TodayDashboardCache todayDashboardCache;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ExpenseBulkConfig expenseBulkConfig;
 
     @PostMapping
     public ResponseEntity<String> createExpense(@Valid @RequestBody ExpenseRequest expenseRequest,
@@ -38,6 +65,43 @@ public class ExpenseController {
         return ResponseEntity.created(URI.create("/api/v1/expenses/" + createdExpense.getId())).build();
     }
 
+    /**
+     * 지출 객체의 JSON 배열을 받아 여러 지출 기록을 한 번에 생성하고, 요청 순서대로 행별 처리 결과를 반환합니다.
+     * Idempotency-Key 헤더가 있으면 같은 키로 다시 요청했을 때 저장된 결과를 반환하며 지출 기록을 중복 생성하지 않습니다.
+     * 같은 키로 처음과 다른 본문을 보내면 저장된 결과를 반환하지 않고 422 응답을 반환합니다.
+     * 요청 본문은 저장 트랜잭션을 시작하기 전에 최대 허용 건수와 제한 시간 안에서 모두 읽고 검증합니다.
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ExpenseBulkResponse> createExpenses(
+            @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey,
+            HttpServletRequest request,
+            Authentication authentication) throws IOException {
+        long userId = UserUtil.getUserIdFromJwt((JwtAuthenticationToken) authentication);
+        if (idempotencyKey != null && (idempotencyKey.isBlank() || idempotencyKey.length() > 64)) {
+            throw new ErrorException(ErrorCode.INVALID_IDEMPOTENCY_KEY);
+        }
+        List<ExpenseBulkRow> rows;
+        byte[] requestHash;
+        try (var reader = new ExpenseBulkRequestReader(request.getInputStream(), objectMapper, validator, userId)) {
+            rows = reader.readAll(expenseBulkConfig.getMaxRows(), expenseBulkConfig.getReadTimeoutMs());
+            requestHash = reader.bodyHash();
+        }
+        ExpenseBulkResult result = expenseBulkService.createExpenses(userId, idempotencyKey, requestHash, rows);
+        return ResponseEntity.ok()
+                .header("Idempotent-Replayed", Boolean.toString(result.replayed()))
+                .body(mapBulkResultToResponse(result));
+    }
+
+    private ExpenseBulkResponse mapBulkResultToResponse(ExpenseBulkResult result) {
+        List<ExpenseBulkRowResponse> rows = result.rows().stream()
+                .map(row -> new ExpenseBulkRowResponse(row.index(), row.status().name(), row.expenseId(), row.reason()))
+                .toList();
+        int created = (int) result.rows().stream()
+                .filter(row -> row.status() == ExpenseBulkResult.Status.CREATED)
+                .count();
+        return new ExpenseBulkResponse(rows.size(), created, rows.size() - created, rows);
+    }
+
     @PatchMapping("/{id}")
     public ResponseEntity<Expense> updateExpense(@Valid @PathVariable(name = "id") @Min(1) Long expenseId,
                                                 @Valid @RequestBody ExpenseRequest expenseRequest,
@@ -63,14 +127,13 @@ public class ExpenseController {
     public ResponseEntity<ExpenseResponse> getExpense(@Valid @PathVariable(name = "id") @Min(1) long expenseId,
                                                       Authentication authentication) {
         long userId = UserUtil.getUserIdFromJwt((JwtAuthenticationToken) authentication);
-        Expense expense = expenseService.getExpense(userId, expenseId);
-        ExpenseResponse expenseResponse = mapEntityToResponse(expense);
+        ExpenseResponse expenseResponse = mapDetailToResponse(expenseService.getExpense(userId, expenseId));
         return ResponseEntity.ok(expenseResponse);
     }
 
     /**
-     * 지정된 기간, 카테고리, 지출금액 범위에 속한 사용자의 모든 지출 기록 리스트를 반환합니다.
-     * 반환되는 항목은 지정한 카테고리만 반환합니다.
+     * 지정된 기간, 카테고리, 지출금액 범위에 속한 사용자의 지출 기록을 지출 일시 순으로 최대 size 건 반환합니다.
+     * 다음 페이지가 있으면 nextCursor 를 함께 반환하며, 이를 cursor 로 전달하면 이어지는 지출 기록을 반환합니다.
      * 총액 합계에는 지정된 기간의 모든 지출 기록(카테고리 무관)의 지출 합계입니다.
      * 카테고리별 합계는 총액 합계에서 사용자가 지정한 카테고리의 지출 합계입니다.
      * @param startDate 시작 일자
@@ -78,6 +141,8 @@ public class ExpenseController {
      * @param categoryId 카테고리 식별자
      * @param minAmount 최소 금액
      * @param maxAmount 최대 금액
+     * @param cursor 이전 페이지의 nextCursor
+     * @param size 한 페이지의 최대 지출 기록 수
      * @param authentication 인증된 사용자 정보
      * @return 지정된 기간, 카테고리, 지출금액 범위에 속한 사용자의 지출 기록 반환
      */
@@ -87,65 +152,61 @@ public class ExpenseController {
                                                               @Valid @RequestParam Long categoryId,
                                                               @Valid @Min(0) @RequestParam(required = false, defaultValue = "0") Long minAmount,
                                                               @Valid @Min(0) @RequestParam(required = false, defaultValue = "0") Long maxAmount,
+                                                              @RequestParam(required = false) String cursor,
+                                                              @Valid @Min(1) @Max(1000) @RequestParam(required = false, defaultValue = "100") Integer size,
                                                               Authentication authentication) {
         long userId = UserUtil.getUserIdFromJwt((JwtAuthenticationToken) authentication);
-        List<Expense> expenses = expenseService.getExpenses(userId, startDate, endDate, minAmount, maxAmount);
+        ExpenseCursor expenseCursor = cursor != null ? ExpenseCursor.decode(cursor) : null;
+        ExpenseListPage page = expenseService.getExpenseList(
+                userId, startDate, endDate, categoryId, minAmount, maxAmount, expenseCursor, size);
 
         ExpenseListResponse expenseListResponse = new ExpenseListResponse(
-                mapEntityListToResponseList(expenses, categoryId),
-                getTotalAmount(expenses),
-                getTotalAmountForCategory(expenses, categoryId));
+                page.expenses().stream().map(this::mapDetailToResponse).toList(),
+                page.totalAmount(),
+                page.totalAmountForCategory(),
+                page.nextCursor() != null ? page.nextCursor().encode() : null);
         return ResponseEntity.ok(expenseListResponse);
     }
 
     /**
-     * 사용자가 지정한 기간, 금액의 범위에 포함된 지출 기록과 카테고리 식별자를 받아 지출 기록 반환용 DTO 리스트로 변환하여 반환합니다.
-     * @param expenses 지출 기록 도메인 객체 리스트
-     * @param categoryId 카테고리 식별자
-     * @return 지출 기록 반환용 DTO 리스트 반환
-     */
-    private List<ExpenseResponse> mapEntityListToResponseList(List<Expense> expenses, Long categoryId) {
-        return expenses.stream()
-                .filter(expense -> Objects.equals(expense.getCategory().getId(), categoryId))
-                .map(this::mapEntityToResponse)
-                .toList();
-    }
-
-    /**
-     * 사용자가 지정한 기간, 금액의 범위에 포함된 지출 기록을 받아 합계 제외 항목을 제외한 총액 합계를 반환합니다.
-     * @param expenses 지출 기록 도메인 객체 리스트
-     * @return 합계 제외 항목을 제외한 총액 합계 반환
+     * 지정된 기간, 카테고리, 지출금액 범위에 속한 사용자의 모든 지출 기록을 한 줄에 하나씩 JSON 으로 반환합니다(NDJSON).
+     * 조회된 지출 기록을 모으지 않고 바로 응답에 쓰므로, 기간이 길어도 서버의 메모리 사용량이 늘어나지 않습니다.
+     * 응답을 쓰는 동안 DB 연결을 점유하므로 조회 기간, 동시 스트리밍 수, 전송 시간이 expense.stream 설정으로 제한되며,
+     * 전송 시간을 넘으면 응답을 끝맺지 않고 연결을 끊어 클라이언트가 잘린 응답을 완료된 응답으로 오인하지 않게 합니다.
      */
-    private long getTotalAmount(List<Expense> expenses) {
-        return expenses.stream()
-                .filter(expense -> !expense.getExcluded())
-                .mapToLong(Expense::getAmount)
-                .sum();
-    }
-
-    /**
-     * 사용자가 지정한 기간, 금액의 범위에 포함된 지출 기록과 카테고리 식별자를 받아
-     * 합계 제외 항목을 제외한 카테고리별 총액 합계를 반환합니다.
-     * @param expenses 지출 기록 도메인 객체 리스트
-     * @param categoryId 카테고리 식별자
-     * @return 합계 제외항목을 제외한 카테고리별 총액 합계 반환
-     */
-    private long getTotalAmountForCategory(List<Expense> expenses, Long categoryId) {
-        return expenses.stream()
-                .filter(expense -> expense.getCategory().getId().equals(categoryId) && !expense.getExcluded())
-                .mapToLong(Expense::getAmount)
-                .sum();
+    @GetMapping(value = "/stream", produces = NDJSON_VALUE)
+    public void streamExpenseList(@Valid @RequestParam LocalDate startDate,
+                                  @Valid @RequestParam LocalDate endDate,
+                                  @Valid @RequestParam Long categoryId,
+                                  @Valid @Min(0) @RequestParam(required = false, defaultValue = "0") Long minAmount,
+                                  @Valid @Min(0) @RequestParam(required = false, defaultValue = "0") Long maxAmount,
+                                  Authentication authentication,
+                                  HttpServletResponse response) throws IOException {
+        long userId = UserUtil.getUserIdFromJwt((JwtAuthenticationToken) authentication);
+        response.setContentType(NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        OutputStream out = response.getOutputStream();
+        var writer = objectMapper.writerFor(ExpenseResponse.class);
+        expenseService.streamExpenseList(userId, startDate, endDate, categoryId, minAmount, maxAmount, expense -> {
+            try {
+                out.write(writer.writeValueAsBytes(mapDetailToResponse(expense)));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        out.flush();
     }
 
-    private ExpenseResponse mapEntityToResponse(Expense expense) {
+    private ExpenseResponse mapDetailToResponse(ExpenseDetail expense) {
         return new ExpenseResponse(
-                expense.getId(),
-                expense.getDatetime(),
-                expense.getCategory().getId(),
-                expense.getCategory().getName().getCategory(),
-                expense.getAmount(),
-                expense.getMemo(),
-                expense.getExcluded()
+                expense.id(),
+                expense.datetime(),
+                expense.categoryId(),
+                BudgetCategory.ofId(expense.categoryId()).getCategory(),
+                expense.amount(),
+                expense.memo(),
+                expense.excluded()
         );
     }
 
@@ -160,21 +221,21 @@ public class ExpenseController {
     @GetMapping("/recommendations")
     public ResponseEntity<RecommendationExpenseListResponse> getTodayRecommendationExpenses(Authentication authentication) {
         long userId = UserUtil.getUserIdFromJwt((JwtAuthenticationToken) authentication);
-        Map<Long, Long> recommendedTodayExpenseAmountPerCategory = expenseService.getTodayRecommendationExpenses(userId);
+        CategoryAmounts recommendedTodayExpenseAmountPerCategory = expenseService.getTodayRecommendationExpenses(userId);
         return ResponseEntity.ok(mapEntityListToRecommendationResponseList(recommendedTodayExpenseAmountPerCategory));
     }
 
     private RecommendationExpenseListResponse mapEntityListToRecommendationResponseList(
-            Map<Long, Long> recommendedTodayExpenseAmountPerCategory) {
+            CategoryAmounts recommendedTodayExpenseAmountPerCategory) {
 
-        String message = getRecommendExpenseMessage();
-        List<RecommendationExpenseResponse> recommendationExpenseResponse = new ArrayList<>();
+        String message = getRecommendExpenseMessage(expenseService.today());
+        List<RecommendationExpenseResponse> recommendationExpenseResponse =
+                new ArrayList<>(recommendedTodayExpenseAmountPerCategory.size());
         recommendedTodayExpenseAmountPerCategory.forEach((categoryId, amount) -> recommendationExpenseResponse.add(
                 new RecommendationExpenseResponse(categoryId,
-                        BudgetCategory.values()[categoryId.intValue() - 1].getCategory(),
+                        BudgetCategory.ofId(categoryId).getCategory(),
                         amount)));
-        long recommendedTodayTotalAmount = Math.round(recommendedTodayExpenseAmountPerCategory.values()
-                .stream().reduce(0L, Long::sum)) / 1000 * 1000;
+        long recommendedTodayTotalAmount = recommendedTodayExpenseAmountPerCategory.total() / 1000 * 1000;
         return new RecommendationExpenseListResponse(
                 recommendedTodayTotalAmount,
                 message,
@@ -182,8 +243,8 @@ public class ExpenseController {
         );
     }
 
-    private String getRecommendExpenseMessage() {
-        return LocalDate.now().getDayOfMonth() == 1 ?
+    private String getRecommendExpenseMessage(LocalDate today) {
+        return today.getDayOfMonth() == 1 ?
                 "1일 이네요! 이번달도 새로운 마음으로 체계적인 지출 도전!"
                 : "오늘도 합리적인 소비 생활 화이팅!";
     }
@@ -191,31 +252,29 @@ public class ExpenseController {
     @GetMapping("/today")
     public ResponseEntity<TodayExpenseListResponse> getTodayExpenses(Authentication authentication) {
         long userId = UserUtil.getUserIdFromJwt((JwtAuthenticationToken) authentication);
-        Map<Long, Long> todayExpenseAmountPerCategory = expenseService.getTodayExpenses(userId);
-        Map<Long, Long> recommendedTodayExpenseAmountPerCategory = expenseService.getTodayRecommendationExpenses(userId);
+        TodayDashboard todayDashboard = todayDashboardCache.get(userId, expenseService::getTodayDashboard);
         return ResponseEntity.ok(mapEntityToTodayExpenseResponseList(
-                todayExpenseAmountPerCategory,
-                recommendedTodayExpenseAmountPerCategory));
+                todayDashboard.todayExpenses(),
+                todayDashboard.recommendations()));
     }
 
     private TodayExpenseListResponse mapEntityToTodayExpenseResponseList(
-            Map<Long, Long> todayExpenseAmountPerCategory,
-            Map<Long, Long> recommendedTodayExpenseAmountPerCategory){
+            CategoryAmounts todayExpenseAmountPerCategory,
+            CategoryAmounts recommendedTodayExpenseAmountPerCategory){
 
-        List<TodayExpenseResponse> details = new ArrayList<>();
+        List<TodayExpenseResponse> details = new ArrayList<>(todayExpenseAmountPerCategory.size());
         todayExpenseAmountPerCategory.forEach((categoryId, spentAmount) -> {
-            long recommendedAmount = recommendedTodayExpenseAmountPerCategory.containsKey(categoryId) ?
-                    recommendedTodayExpenseAmountPerCategory.get(categoryId) : 0;
+            long recommendedAmount = recommendedTodayExpenseAmountPerCategory.get(categoryId);
             String risk = getRisk(recommendedAmount, spentAmount);
             details.add(new TodayExpenseResponse(
                         categoryId,
-                        BudgetCategory.values()[categoryId.intValue() - 1].getCategory(),
+                        BudgetCategory.ofId(categoryId).getCategory(),
                         recommendedAmount / 1000 * 1000,
                         spentAmount,
                         risk));
         });
         return new TodayExpenseListResponse(
-                todayExpenseAmountPerCategory.values().stream().reduce(0L, Long::sum),
+                todayExpenseAmountPerCategory.total(),
                 details);
     }
 
@@ -0,0 +1,11 @@
+package com.limvik.econome.web.expense.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+public record ExpenseBulkResponse(
+        int total,
+        int created,
+        int rejected,
+        List<ExpenseBulkRowResponse> results
+) implements Serializable { }
@@ -0,0 +1,10 @@
+package com.limvik.econome.web.expense.dto;
+
+import java.io.Serializable;
+
+public record ExpenseBulkRowResponse(
+        int index,
+        String status,
+        Long expenseId,
+        String reason
+) implements Serializable { }
@@ -1,11 +1,15 @@
 package com.limvik.econome.web.expense.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.io.Serializable;
 import java.util.List;
 
 public record ExpenseListResponse(
         List<ExpenseResponse> expenses,
         Long totalAmount,
-        long totalAmountForCategory
+        long totalAmountForCategory,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        String nextCursor
 
 ) implements Serializable { }
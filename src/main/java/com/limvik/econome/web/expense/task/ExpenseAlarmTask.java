@@ -1,37 +1,37 @@
 package com.limvik.econome.web.expense.task;
 
-import com.limvik.econome.domain.user.entity.User;
-import com.limvik.econome.infrastructure.user.UserRepository;
+import com.limvik.econome.domain.alarm.enums.AlarmType;
+import com.limvik.econome.domain.alarm.service.AlarmPipelineService;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
 
-import java.util.List;
+import java.time.LocalDate;
+import java.time.ZoneId;
 
 @RequiredArgsConstructor
-@Slf4j
 @Component
 public class ExpenseAlarmTask {
 
-    private final UserRepository userRepository;
-    private final RestTemplate restTemplate;
+    /**
+     * 알림을 예약한 시간대, 알림 기준 일자도 서버의 시간대가 아닌 이 시간대로 계산
+     */
+    private static final String ZONE = "Asia/Seoul";
 
-    @Scheduled(cron = "0 08 00 * * ?", zone = "Asia/Seoul")
+    private final AlarmPipelineService alarmPipelineService;
+
+    @Scheduled(cron = "0 08 00 * * ?", zone = ZONE)
     public void recommendExpenses() {
-        List<User> users = userRepository.findAllByAgreeAlarm(true);
-        users.forEach(user -> {
-            // TODO: 오늘 추천 지출 알림
-        });
+        alarmPipelineService.run(AlarmType.RECOMMENDATION, today());
     }
 
-    @Scheduled(cron = "0 20 00 * * ?", zone = "Asia/Seoul")
+    @Scheduled(cron = "0 20 00 * * ?", zone = ZONE)
     public void notifyTodayExpenses() {
-        List<User> users = userRepository.findAllByAgreeAlarm(true);
-        users.forEach(user -> {
-            // TODO: 오늘 지출 내역 알림
-        });
+        alarmPipelineService.run(AlarmType.TODAY_EXPENSE, today());
+    }
+
+    private LocalDate today() {
+        return LocalDate.now(ZoneId.of(ZONE));
     }
 
 }
@@ -0,0 +1,22 @@
+package com.limvik.econome.web.expense.task;
+
+import com.limvik.econome.domain.expense.service.ExpenseBulkService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Slf4j
+@Component
+public class ExpenseBulkRequestCleanupTask {
+
+    private final ExpenseBulkService expenseBulkService;
+
+    @Scheduled(fixedDelayString = "${expense.bulk.cleanup-interval-ms:3600000}")
+    public void deleteExpiredIdempotencyKeys() {
+        int deleted = expenseBulkService.deleteExpiredIdempotencyKeys();
+        log.info("보관 기간이 지난 지출 일괄 등록 멱등성 키 삭제: {}", deleted);
+    }
+
+}
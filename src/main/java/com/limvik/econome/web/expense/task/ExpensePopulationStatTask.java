@@ -0,0 +1,22 @@
+package com.limvik.econome.web.expense.task;
+
+import com.limvik.econome.domain.expense.service.ExpensePopulationStatService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Slf4j
+@Component
+public class ExpensePopulationStatTask {
+
+    private final ExpensePopulationStatService expensePopulationStatService;
+
+    @Scheduled(fixedDelayString = "${expense.population-stat.refresh-interval-ms:300000}")
+    public void refreshPopulationStat() {
+        expensePopulationStatService.refresh();
+        log.debug("전체 사용자 지출 스냅샷 갱신: {}", expensePopulationStatService.getSnapshot());
+    }
+
+}
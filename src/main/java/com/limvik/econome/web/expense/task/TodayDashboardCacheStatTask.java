@@ -0,0 +1,24 @@
+package com.limvik.econome.web.expense.task;
+
+import com.limvik.econome.domain.expense.service.TodayDashboardCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Slf4j
+@Component
+public class TodayDashboardCacheStatTask {
+
+    private final TodayDashboardCache todayDashboardCache;
+
+    @Scheduled(fixedDelayString = "${expense.today-dashboard.stats-log-interval-ms:60000}")
+    public void logCacheStats() {
+        var stats = todayDashboardCache.stats();
+        log.info("오늘 지출 현황 캐시: size={}, hit={}, miss={}, hitRate={}, eviction={}",
+                todayDashboardCache.estimatedSize(), stats.hitCount(), stats.missCount(),
+                String.format("%.3f", stats.hitRate()), stats.evictionCount());
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.limvik.econome.web.user.controller;
 
 import com.limvik.econome.domain.user.entity.User;
+import com.limvik.econome.domain.user.service.RefreshTokenService;
 import com.limvik.econome.domain.user.service.UserService;
 import com.limvik.econome.global.exception.ErrorCode;
 import com.limvik.econome.global.exception.ErrorException;
@@ -32,6 +33,7 @@ import java.util.Map;
 public class UserController {
 
     private final UserService userService;
+    private final RefreshTokenService refreshTokenService;
     private final PasswordEncoder passwordEncoder;
 
     @PostMapping("/signup")
@@ -56,24 +58,21 @@ public class UserController {
         Map<String, String> tokens = userService.getTokens(user);
         String accessToken = tokens.get("accessToken");
         String refreshToken = tokens.get("refreshToken");
-        updateRefreshToken(user, refreshToken);
+        refreshTokenService.save(user.getId(), refreshToken);
         return ResponseEntity.ok(new SigninResponse(accessToken, refreshToken));
     }
 
-    private void updateRefreshToken(User user, String refreshToken) {
-        user.setRefreshToken(refreshToken);
-        userService.updateUser(user);
-    }
-
     @PostMapping("/token")
     public ResponseEntity<TokenResponse> token(Authentication authentication) {
         JwtAuthenticationToken token = (JwtAuthenticationToken) authentication;
         long userId = UserUtil.getUserIdFromJwt(token);
         log.info("refresh token userId: {}", userId);
-        User user = User.builder().id(userId).refreshToken(token.getTokenString()).build();
-        if (userService.matchRefreshToken(user)) {
+        User user = User.builder().id(userId).build();
+        if (refreshTokenService.matches(userId, token.getTokenString())) {
             Map<String, String> tokens = userService.getTokens(user);
-            return ResponseEntity.ok(new TokenResponse(tokens.get("accessToken")));
+            String refreshToken = tokens.get("refreshToken");
+            boolean rotated = refreshTokenService.rotate(userId, token.getTokenString(), refreshToken);
+            return ResponseEntity.ok(new TokenResponse(tokens.get("accessToken"), rotated ? refreshToken : null));
         } else {
             log.info("유효한 토큰이지만 데이터베이스 refersh token과 다름");
             throw new ErrorException(ErrorCode.INVALID_TOKEN);
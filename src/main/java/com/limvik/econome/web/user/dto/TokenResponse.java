@@ -1,5 +1,9 @@
 package com.limvik.econome.web.user.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 public record TokenResponse(
-        String accessToken
+        String accessToken,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        String refreshToken
 ) { }
@@ -0,0 +1,22 @@
+package com.limvik.econome.web.user.task;
+
+import com.limvik.econome.global.security.crypto.BoundedPasswordEncoder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Slf4j
+@Component
+public class PasswordHashStatTask {
+
+    private final BoundedPasswordEncoder passwordEncoder;
+
+    @Scheduled(fixedDelayString = "${password.stats-log-interval-ms:60000}")
+    public void logPasswordHashStats() {
+        log.info("비밀번호 해시 스레드 풀: queue={}, active={}, rejected={}",
+                passwordEncoder.queueSize(), passwordEncoder.activeCount(), passwordEncoder.rejectedCount());
+    }
+
+}
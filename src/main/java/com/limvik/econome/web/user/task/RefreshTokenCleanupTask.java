@@ -0,0 +1,22 @@
+package com.limvik.econome.web.user.task;
+
+import com.limvik.econome.domain.user.service.RefreshTokenService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Slf4j
+@Component
+public class RefreshTokenCleanupTask {
+
+    private final RefreshTokenService refreshTokenService;
+
+    @Scheduled(fixedDelayString = "${jwt.refresh-token-store.cleanup-interval-ms:3600000}")
+    public void deleteExpiredRefreshTokens() {
+        int deleted = refreshTokenService.deleteExpired();
+        log.info("만료된 Refresh Token 삭제: {}", deleted);
+    }
+
+}
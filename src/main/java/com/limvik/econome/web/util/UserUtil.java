@@ -10,7 +10,7 @@ public class UserUtil {
 
     public static long getUserIdFromJwt(JwtAuthenticationToken token) {
         try {
-            return Long.parseLong(token.getClaims().getSubject());
+            return token.getUserId();
         } catch (Exception e) {
             log.info("Authentication 객체에 저장된 사용자 정보가 없습니다.");
             throw new ErrorException(ErrorCode.INVALID_TOKEN);
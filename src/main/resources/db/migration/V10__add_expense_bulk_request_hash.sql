@@ -0,0 +1,3 @@
+-- 멱등성 키를 요청 본문에 묶기 위한 요청 본문의 SHA-256 해시, 이 컬럼 이전에 저장된 키는 NULL
+ALTER TABLE `expense_bulk_requests`
+    ADD COLUMN `request_hash` BINARY(32) NULL AFTER `idempotency_key`;
@@ -0,0 +1,11 @@
+-- 사용자를 삭제하면 사용자의 Refresh Token 도 삭제되도록 V1, V3 의 다른 사용자 테이블과 같은 외래 키 추가
+-- 외래 키를 추가하기 전에 이미 삭제된 사용자의 Refresh Token 을 삭제
+DELETE FROM `refresh_tokens`
+WHERE NOT EXISTS (SELECT 1 FROM `users` WHERE `users`.`id` = `refresh_tokens`.`user_id`);
+
+ALTER TABLE `refresh_tokens`
+    ADD CONSTRAINT `user_id_refresh_tokens`
+    FOREIGN KEY (`user_id`)
+    REFERENCES `users` (`id`)
+    ON DELETE CASCADE
+    ON UPDATE CASCADE;
@@ -0,0 +1,6 @@
+-- 사용자별 기간 조회 및 카테고리별 집계를 테이블 접근 없이 인덱스만으로 처리하기 위한 covering index
+CREATE INDEX `user_id_datetime_idx`
+    ON `expenses` (`user_id` ASC, `datetime` ASC, `category_id` ASC, `amount` ASC, `exclude_in_total` ASC) VISIBLE;
+
+-- user_id 외래키는 user_id_datetime_idx 의 선두 컬럼으로 처리되므로 중복 인덱스 제거
+DROP INDEX `user_id_idx` ON `expenses`;
@@ -0,0 +1,34 @@
+-- 사용자별, 일자별, 카테고리별 지출 합계 테이블
+CREATE TABLE IF NOT EXISTS `daily_expense_rollups` (
+    `user_id` BIGINT NOT NULL,
+    `day` DATE NOT NULL,
+    `category_id` BIGINT NOT NULL,
+    `amount_sum` BIGINT NOT NULL DEFAULT 0,
+    `count` INT NOT NULL DEFAULT 0,
+    `excluded_sum` BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (`user_id`, `day`, `category_id`),
+    INDEX `category_id_idx` (`category_id` ASC) VISIBLE,
+    CONSTRAINT `user_id_daily_expense_rollups`
+    FOREIGN KEY (`user_id`)
+    REFERENCES `users` (`id`)
+    ON DELETE CASCADE
+    ON UPDATE CASCADE,
+    CONSTRAINT `category_id_daily_expense_rollups`
+    FOREIGN KEY (`category_id`)
+    REFERENCES `categories` (`id`)
+    ON DELETE CASCADE
+    ON UPDATE CASCADE)
+    ENGINE = InnoDB
+    DEFAULT CHARACTER SET = utf8mb4
+    COLLATE = utf8mb4_unicode_ci;
+
+-- 기존 지출 기록으로 합계 초기화
+INSERT INTO `daily_expense_rollups` (`user_id`, `day`, `category_id`, `amount_sum`, `count`, `excluded_sum`)
+SELECT `user_id`,
+       DATE(`datetime`),
+       `category_id`,
+       SUM(`amount`),
+       COUNT(*),
+       SUM(CASE WHEN `exclude_in_total` THEN `amount` ELSE 0 END)
+FROM `expenses`
+GROUP BY `user_id`, DATE(`datetime`), `category_id`;
@@ -0,0 +1,11 @@
+-- 지출 일괄 등록 요청의 멱등성 키와 처리 결과
+CREATE TABLE IF NOT EXISTS `expense_bulk_requests` (
+    `user_id` BIGINT NOT NULL,
+    `idempotency_key` VARCHAR(64) NOT NULL,
+    `response` MEDIUMTEXT NULL,
+    `create_time` DATETIME NOT NULL DEFAULT now(),
+    PRIMARY KEY (`user_id`, `idempotency_key`),
+    INDEX `create_time_idx` (`create_time` ASC) VISIBLE)
+    ENGINE = InnoDB
+    DEFAULT CHARACTER SET = utf8mb4
+    COLLATE = utf8mb4_unicode_ci;
@@ -0,0 +1,4 @@
+-- 카테고리별 지출 목록을 (datetime, id) 순서로 정렬 없이 커서 이후부터 읽기 위한 인덱스
+-- InnoDB 보조 인덱스는 기본 키(id)를 포함하므로 (user_id, category_id, datetime, id) 순서로 정렬됩니다.
+CREATE INDEX `user_id_category_id_datetime_idx`
+    ON `expenses` (`user_id` ASC, `category_id` ASC, `datetime` ASC) VISIBLE;
@@ -0,0 +1,16 @@
+-- 재시도 후에도 전송하지 못한 알림 묶음
+CREATE TABLE IF NOT EXISTS `alarm_dead_letters` (
+    `id` BIGINT NOT NULL AUTO_INCREMENT,
+    `type` VARCHAR(20) NOT NULL,
+    `day` DATE NOT NULL,
+    `first_user_id` BIGINT NOT NULL,
+    `last_user_id` BIGINT NOT NULL,
+    `attempts` INT NOT NULL,
+    `error` VARCHAR(1000) NULL,
+    `payload` MEDIUMTEXT NOT NULL,
+    `create_time` DATETIME NOT NULL DEFAULT now(),
+    PRIMARY KEY (`id`),
+    INDEX `type_day_idx` (`type` ASC, `day` ASC) VISIBLE)
+    ENGINE = InnoDB
+    DEFAULT CHARACTER SET = utf8mb4
+    COLLATE = utf8mb4_unicode_ci;
@@ -0,0 +1,13 @@
+-- 조회 후 저장 방식의 경쟁 조건으로 생긴 중복 예산은 가장 나중에 저장된(id 가 가장 큰) 예산의 금액만 남기고 삭제
+DELETE `older`
+FROM `budget_plans` `older`
+JOIN `budget_plans` `newer`
+    ON `newer`.`user_id` = `older`.`user_id`
+    AND `newer`.`date` = `older`.`date`
+    AND `newer`.`category_id` = `older`.`category_id`
+    AND `newer`.`id` > `older`.`id`;
+
+-- 한 사용자는 같은 달, 같은 카테고리에 하나의 예산만 가질 수 있으며, 중복 검사를 조회 후 저장 대신 데이터베이스가 수행
+-- (user_id, date) 로 시작하므로 사용자의 월별 예산 조회에도 사용됩니다.
+CREATE UNIQUE INDEX `user_id_date_category_id_UNIQUE`
+    ON `budget_plans` (`user_id` ASC, `date` ASC, `category_id` ASC) VISIBLE;
@@ -0,0 +1,12 @@
+-- 사용자의 기기별 Refresh Token, 원문 대신 SHA-256 해시를 키로 저장
+CREATE TABLE IF NOT EXISTS `refresh_tokens` (
+    `token_hash` BINARY(32) NOT NULL,
+    `user_id` BIGINT NOT NULL,
+    `expire_time` DATETIME NOT NULL,
+    `create_time` DATETIME NOT NULL DEFAULT now(),
+    PRIMARY KEY (`token_hash`),
+    INDEX `user_id_idx` (`user_id` ASC) VISIBLE,
+    INDEX `expire_time_idx` (`expire_time` ASC) VISIBLE)
+    ENGINE = InnoDB
+    DEFAULT CHARACTER SET = utf8mb4
+    COLLATE = utf8mb4_unicode_ci;
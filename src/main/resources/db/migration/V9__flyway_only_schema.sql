@@ -0,0 +1,172 @@
+-- 스키마를 Flyway 로만 관리하고 Hibernate 는 검증(validate)만 수행합니다.
+-- 이전에는 Hibernate 가 시작할 때마다 엔티티 테이블을 다시 생성했으므로, 그렇게 생성된 스키마와 데이터를 마이그레이션과 같은 형태로 옮깁니다.
+-- Hibernate 가 만든 테이블과 컬럼 이름은 다음과 같으며, 새로 만든 데이터베이스에는 없으므로 아무것도 하지 않습니다.
+--   Users(minimumDailyExpense, agreeAlarm, createTime) -> users(minimum_daily_expense, agree_alarm, create_time)
+--   categoriess -> categories
+--   Expenses -> expenses, BudgetPlans -> budget_plans (V7 과 같이 중복 예산은 id 가 가장 큰 예산만 유지)
+--   budget_plans, expenses, daily_expense_rollups 의 FK 로 시작하는 외래키(Users, categoriess 참조) -> V1, V3 의 외래키
+
+SET FOREIGN_KEY_CHECKS = 0;
+
+DELIMITER //
+
+CREATE PROCEDURE `v9_move_hibernate_schema`()
+BEGIN
+    DECLARE done BOOLEAN DEFAULT FALSE;
+    DECLARE fk_table VARCHAR(64);
+    DECLARE fk_name VARCHAR(64);
+    -- Hibernate 가 생성한 외래키, 마이그레이션의 외래키는 이름이 FK 로 시작하지 않음
+    DECLARE hibernate_fks CURSOR FOR
+        SELECT `TABLE_NAME`, `CONSTRAINT_NAME`
+        FROM `information_schema`.`TABLE_CONSTRAINTS`
+        WHERE `TABLE_SCHEMA` = DATABASE()
+          AND `CONSTRAINT_TYPE` = 'FOREIGN KEY'
+          AND `TABLE_NAME` IN ('budget_plans', 'expenses', 'daily_expense_rollups')
+          AND BINARY `CONSTRAINT_NAME` LIKE 'FK%';
+    DECLARE CONTINUE HANDLER FOR NOT FOUND SET done = TRUE;
+
+    OPEN hibernate_fks;
+    drop_fks: LOOP
+        FETCH hibernate_fks INTO fk_table, fk_name;
+        IF done THEN
+            LEAVE drop_fks;
+        END IF;
+        SET @ddl = CONCAT('ALTER TABLE `', fk_table, '` DROP FOREIGN KEY `', fk_name, '`');
+        PREPARE stmt FROM @ddl;
+        EXECUTE stmt;
+        DEALLOCATE PREPARE stmt;
+    END LOOP;
+    CLOSE hibernate_fks;
+
+    -- 테이블 이름의 대소문자를 구분하는 경우(lower_case_table_names=0) Users 는 users 와 별도의 테이블
+    IF EXISTS (SELECT 1 FROM `information_schema`.`TABLES`
+               WHERE `TABLE_SCHEMA` = DATABASE() AND BINARY `TABLE_NAME` = 'Users')
+        AND EXISTS (SELECT 1 FROM `information_schema`.`TABLES`
+                    WHERE `TABLE_SCHEMA` = DATABASE() AND BINARY `TABLE_NAME` = 'users') THEN
+        INSERT INTO `users` (`id`, `username`, `email`, `password`, `minimum_daily_expense`, `agree_alarm`, `create_time`)
+        SELECT `id`, `username`, `email`, `password`, `minimumDailyExpense`, `agreeAlarm`, `createTime`
+        FROM `Users`;
+        DROP TABLE `Users`;
+    -- 대소문자를 구분하지 않는 경우 Hibernate 가 users 를 다시 생성하였으므로 컬럼 이름만 변경
+    ELSEIF EXISTS (SELECT 1 FROM `information_schema`.`COLUMNS`
+                   WHERE `TABLE_SCHEMA` = DATABASE() AND LOWER(`TABLE_NAME`) = 'users'
+                     AND BINARY `COLUMN_NAME` = 'minimumDailyExpense') THEN
+        ALTER TABLE `users`
+            RENAME COLUMN `minimumDailyExpense` TO `minimum_daily_expense`,
+            RENAME COLUMN `agreeAlarm` TO `agree_alarm`,
+            RENAME COLUMN `createTime` TO `create_time`;
+    END IF;
+
+    IF EXISTS (SELECT 1 FROM `information_schema`.`TABLES`
+               WHERE `TABLE_SCHEMA` = DATABASE() AND `TABLE_NAME` = 'categoriess') THEN
+        INSERT INTO `categories` (`id`, `name`)
+        SELECT `id`, `name` FROM `categoriess`;
+        DROP TABLE `categoriess`;
+    END IF;
+
+    -- 대소문자를 구분하지 않는 경우 Expenses 는 expenses 와 같은 테이블이므로 옮기지 않고 아래에서 컬럼 정의만 맞춤
+    IF EXISTS (SELECT 1 FROM `information_schema`.`TABLES`
+               WHERE `TABLE_SCHEMA` = DATABASE() AND BINARY `TABLE_NAME` = 'Expenses')
+        AND EXISTS (SELECT 1 FROM `information_schema`.`TABLES`
+                    WHERE `TABLE_SCHEMA` = DATABASE() AND BINARY `TABLE_NAME` = 'expenses') THEN
+        INSERT INTO `expenses` (`id`, `user_id`, `category_id`, `datetime`, `amount`, `memo`, `exclude_in_total`)
+        SELECT `id`, `user_id`, `category_id`, `datetime`, COALESCE(`amount`, 0), `memo`, COALESCE(`exclude_in_total`, 0)
+        FROM `Expenses`;
+        DROP TABLE `Expenses`;
+    END IF;
+
+    -- BudgetPlans 는 대소문자 구분과 상관없이 budget_plans 와 별도의 테이블
+    IF EXISTS (SELECT 1 FROM `information_schema`.`TABLES`
+               WHERE `TABLE_SCHEMA` = DATABASE() AND LOWER(`TABLE_NAME`) = 'budgetplans') THEN
+        INSERT INTO `budget_plans` (`id`, `user_id`, `category_id`, `date`, `amount`)
+        SELECT `older`.`id`, `older`.`user_id`, `older`.`category_id`, `older`.`date`, `older`.`amount`
+        FROM `BudgetPlans` `older`
+        WHERE NOT EXISTS (SELECT 1 FROM `BudgetPlans` `newer`
+                          WHERE `newer`.`user_id` = `older`.`user_id`
+                            AND `newer`.`date` = `older`.`date`
+                            AND `newer`.`category_id` = `older`.`category_id`
+                            AND `newer`.`id` > `older`.`id`);
+        DROP TABLE `BudgetPlans`;
+    END IF;
+
+    IF NOT EXISTS (SELECT 1 FROM `information_schema`.`TABLE_CONSTRAINTS`
+                   WHERE `TABLE_SCHEMA` = DATABASE() AND `CONSTRAINT_NAME` = 'user_id_budget_plans') THEN
+        ALTER TABLE `budget_plans`
+            ADD CONSTRAINT `user_id_budget_plans` FOREIGN KEY (`user_id`)
+                REFERENCES `users` (`id`) ON DELETE CASCADE ON UPDATE CASCADE,
+            ADD CONSTRAINT `category_id_budget_plans` FOREIGN KEY (`category_id`)
+                REFERENCES `categories` (`id`) ON DELETE CASCADE ON UPDATE CASCADE;
+    END IF;
+
+    IF NOT EXISTS (SELECT 1 FROM `information_schema`.`TABLE_CONSTRAINTS`
+                   WHERE `TABLE_SCHEMA` = DATABASE() AND `CONSTRAINT_NAME` = 'user_id_expenses') THEN
+        ALTER TABLE `expenses`
+            ADD CONSTRAINT `user_id_expenses` FOREIGN KEY (`user_id`)
+                REFERENCES `users` (`id`) ON DELETE CASCADE ON UPDATE CASCADE,
+            ADD CONSTRAINT `category_id_expenses` FOREIGN KEY (`category_id`)
+                REFERENCES `categories` (`id`) ON DELETE CASCADE ON UPDATE CASCADE;
+    END IF;
+
+    IF NOT EXISTS (SELECT 1 FROM `information_schema`.`TABLE_CONSTRAINTS`
+                   WHERE `TABLE_SCHEMA` = DATABASE() AND `CONSTRAINT_NAME` = 'user_id_daily_expense_rollups') THEN
+        ALTER TABLE `daily_expense_rollups`
+            ADD CONSTRAINT `user_id_daily_expense_rollups` FOREIGN KEY (`user_id`)
+                REFERENCES `users` (`id`) ON DELETE CASCADE ON UPDATE CASCADE,
+            ADD CONSTRAINT `category_id_daily_expense_rollups` FOREIGN KEY (`category_id`)
+                REFERENCES `categories` (`id`) ON DELETE CASCADE ON UPDATE CASCADE;
+    END IF;
+END //
+
+DELIMITER ;
+
+CALL `v9_move_hibernate_schema`();
+DROP PROCEDURE `v9_move_hibernate_schema`;
+
+-- 사용자, 카테고리, 지출의 식별자는 AUTO_INCREMENT 로 생성, Hibernate 가 다시 생성한 users, expenses 는 SEQUENCE 식별자를 사용하였음
+ALTER TABLE `users` MODIFY `id` BIGINT NOT NULL AUTO_INCREMENT;
+ALTER TABLE `categories` MODIFY `id` BIGINT NOT NULL AUTO_INCREMENT;
+ALTER TABLE `expenses`
+    MODIFY `id` BIGINT NOT NULL AUTO_INCREMENT,
+    MODIFY `datetime` DATETIME NOT NULL,
+    MODIFY `amount` BIGINT NOT NULL,
+    MODIFY `exclude_in_total` BOOLEAN NULL DEFAULT 0;
+
+SET FOREIGN_KEY_CHECKS = 1;
+
+-- Hibernate 가 SEQUENCE 식별자를 위해 생성한 테이블
+DROP TABLE IF EXISTS `User_seq`;
+DROP TABLE IF EXISTS `users_seq`;
+DROP TABLE IF EXISTS `Category_seq`;
+DROP TABLE IF EXISTS `categories_seq`;
+DROP TABLE IF EXISTS `categoriess_seq`;
+DROP TABLE IF EXISTS `Expense_seq`;
+DROP TABLE IF EXISTS `Expenses_seq`;
+DROP TABLE IF EXISTS `BudgetPlan_seq`;
+DROP TABLE IF EXISTS `BudgetPlans_seq`;
+
+-- 애플리케이션 시작 시 저장하던 카테고리, 식별자는 BudgetCategory 선언 순서에 따라 1부터 시작
+INSERT IGNORE INTO `categories` (`id`, `name`) VALUES
+    (1, 'GROCERIES'),
+    (2, 'ALCOHOL_TOBACCO'),
+    (3, 'CLOTHING_FOOTWEAR'),
+    (4, 'HOUSING_UTILITIES'),
+    (5, 'HOUSEHOLD_GOODS_SERVICES'),
+    (6, 'HEALTHCARE'),
+    (7, 'TRANSPORTATION'),
+    (8, 'COMMUNICATION'),
+    (9, 'ENTERTAINMENT'),
+    (10, 'EDUCATION'),
+    (11, 'FOOD_ACCOMMODATION'),
+    (12, 'OTHERS');
+
+-- V3 의 합계 초기화는 Hibernate 가 만든 Expenses 로 옮기기 전의 expenses 로 수행되었으므로, 옮긴 지출 기록으로 다시 계산
+DELETE FROM `daily_expense_rollups`;
+INSERT INTO `daily_expense_rollups` (`user_id`, `day`, `category_id`, `amount_sum`, `count`, `excluded_sum`)
+SELECT `user_id`,
+       DATE(`datetime`),
+       `category_id`,
+       SUM(`amount`),
+       COUNT(*),
+       SUM(CASE WHEN `exclude_in_total` THEN `amount` ELSE 0 END)
+FROM `expenses`
+GROUP BY `user_id`, DATE(`datetime`), `category_id`;
@@ -7,6 +7,7 @@ import com.limvik.econome.domain.category.entity.Category;
 import com.limvik.econome.domain.category.enums.BudgetCategory;
 import com.limvik.econome.domain.expense.entity.Expense;
 import com.limvik.econome.domain.user.entity.User;
+import com.limvik.econome.domain.user.service.RefreshTokenService;
 import com.limvik.econome.global.config.JwtConfig;
 import com.limvik.econome.global.exception.ErrorCode;
 import com.limvik.econome.global.security.jwt.provider.JwtProvider;
@@ -49,6 +50,9 @@ class EconomeApplicationTests {
 	@Autowired
 	UserRepository userRepository;
 
+	@Autowired
+	RefreshTokenService refreshTokenService;
+
 	@Autowired
 	CategoryRepository categoryRepository;
 
@@ -80,8 +84,8 @@ class EconomeApplicationTests {
 				.build();
 		accessToken = jwtProvider.generateAccessToken(user);
 		refreshToken = jwtProvider.generateRefreshToken(user);
-		user.setRefreshToken(refreshToken);
 		userRepository.save(user);
+		refreshTokenService.save(user.getId(), refreshToken);
 
 		// 기본 사용자 설정 예산
 		List<BudgetPlan> budgetPlans = new ArrayList<>();
@@ -371,6 +375,41 @@ class EconomeApplicationTests {
 
 	}
 
+	@Test
+	@DisplayName("인증된 사용자의 일부만 존재하는 예산 데이터 수정 시 아무것도 수정하지 않음")
+	void shouldNotUpdateAnyBudgetPlanIfSomeBudgetPlanNotExist() {
+		var date = LocalDate.of(2024, 3, 1);
+		List<BudgetPlan> budgetPlans = new ArrayList<>();
+		for (long i = 1; i <= 3; i++) {
+			budgetPlans.add(BudgetPlan.builder()
+					.user(user)
+					.category(Category.builder().id(i).build())
+					.amount(i * 1000)
+					.date(date)
+					.build());
+		}
+		budgetPlanRepository.saveAll(budgetPlans);
+
+		var headers = new HttpHeaders();
+		headers.setContentType(MediaType.APPLICATION_JSON);
+		headers.set("Authorization", "Bearer " + accessToken);
+		var requests = new ArrayList<BudgetPlanRequest>();
+		for (long i = 1; i <= 4; i++) {
+			requests.add(new BudgetPlanRequest(i, 50000L));
+		}
+
+		String url = "/api/v1/budget-plans?year=%d&month=%d".formatted(date.getYear(), date.getMonthValue());
+		HttpEntity<BudgetPlanListRequest> request = new HttpEntity<>(new BudgetPlanListRequest(requests), headers);
+		ResponseEntity<String> response = restTemplate.exchange(
+				url, HttpMethod.PATCH, request, String.class);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+		var budgetList = budgetPlanRepository.findAllByUserAndDate(user, date);
+		assertThat(budgetList).hasSize(3);
+		budgetList.forEach(budgetPlan ->
+				assertThat(budgetPlan.getAmount()).isEqualTo(budgetPlan.getCategory().getId() * 1000));
+	}
+
 	@Test
 	@DisplayName("인증된 사용자의 예산 추천 요청")
 	void shouldReturnRecommendedBudgetPlansIfValidUser() {
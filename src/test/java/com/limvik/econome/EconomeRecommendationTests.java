@@ -7,6 +7,7 @@ import com.limvik.econome.domain.category.entity.Category;
 import com.limvik.econome.domain.category.enums.BudgetCategory;
 import com.limvik.econome.domain.expense.entity.Expense;
 import com.limvik.econome.domain.user.entity.User;
+import com.limvik.econome.domain.user.service.RefreshTokenService;
 import com.limvik.econome.global.config.JwtConfig;
 import com.limvik.econome.global.security.jwt.provider.JwtProvider;
 import com.limvik.econome.infrastructure.budgetplan.BudgetPlanRepository;
@@ -40,6 +41,9 @@ public class EconomeRecommendationTests {
     @Autowired
     UserRepository userRepository;
 
+    @Autowired
+    RefreshTokenService refreshTokenService;
+
     @Autowired
     CategoryRepository categoryRepository;
 
@@ -74,8 +78,8 @@ public class EconomeRecommendationTests {
                 .build();
         accessToken = jwtProvider.generateAccessToken(user);
         refreshToken = jwtProvider.generateRefreshToken(user);
-        user.setRefreshToken(refreshToken);
         userRepository.save(user);
+        refreshTokenService.save(user.getId(), refreshToken);
 
         // 예산 데이터 생성 - 예산이 없는 카테고리의 반환 여부 테스트를 위해 절반의 카테고리만 예산 설정
         monthlyBudgetPerCategory = 500000L;
@@ -258,7 +262,6 @@ public class EconomeRecommendationTests {
                 .minimumDailyExpense(10000)
                 .agreeAlarm(true)
                 .build();
-        user2.setRefreshToken(jwtProvider.generateRefreshToken(user2));
         userRepository.save(user2);
 
         // 상대적 지출 통계를 위한 다른 유저 이번달 예산 추가
@@ -2,6 +2,7 @@ package com.limvik.econome.docs;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.limvik.econome.domain.budgetplan.service.BudgetRatioService;
 import com.limvik.econome.domain.category.enums.BudgetCategory;
 import com.limvik.econome.domain.user.entity.User;
 import com.limvik.econome.global.config.JwtConfig;
@@ -68,6 +69,9 @@ public class BudgetPlanTest {
     @Autowired
     BudgetPlanRepository budgetPlanRepository;
 
+    @Autowired
+    BudgetRatioService budgetRatioService;
+
     @LocalServerPort
     int port;
 
@@ -336,6 +340,7 @@ public class BudgetPlanTest {
     @DisplayName("예산 추천 성공")
     void shouldRecommendBudgetPlansWith200IfValidToken() throws JsonProcessingException {
         shouldCreateBudgetPlansWithReturn201IfValidToken();
+        budgetRatioService.refresh();
         JsonPath body = RestAssured
                 .given(this.spec)
                     .accept(ContentType.JSON)
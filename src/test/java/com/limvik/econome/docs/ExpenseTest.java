@@ -6,11 +6,15 @@ import com.limvik.econome.domain.budgetplan.entity.BudgetPlan;
 import com.limvik.econome.domain.category.entity.Category;
 import com.limvik.econome.domain.category.enums.BudgetCategory;
 import com.limvik.econome.domain.expense.entity.Expense;
+import com.limvik.econome.domain.expense.service.ExpensePopulationStatService;
+import com.limvik.econome.domain.expense.service.ExpenseService;
+import com.limvik.econome.domain.expense.service.TodayDashboardCache;
 import com.limvik.econome.domain.user.entity.User;
 import com.limvik.econome.global.config.JwtConfig;
 import com.limvik.econome.global.exception.ErrorCode;
 import com.limvik.econome.global.security.jwt.provider.JwtProvider;
 import com.limvik.econome.infrastructure.budgetplan.BudgetPlanRepository;
+import com.limvik.econome.infrastructure.expense.DailyExpenseRollupRepository;
 import com.limvik.econome.infrastructure.expense.ExpenseRepository;
 import com.limvik.econome.infrastructure.user.UserRepository;
 import com.limvik.econome.web.expense.dto.*;
@@ -39,6 +43,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.UUID;
 
 import static org.hamcrest.Matchers.*;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
@@ -72,9 +77,21 @@ public class ExpenseTest {
     @Autowired
     ExpenseRepository expenseRepository;
 
+    @Autowired
+    DailyExpenseRollupRepository dailyExpenseRollupRepository;
+
     @Autowired
     BudgetPlanRepository budgetPlanRepository;
 
+    @Autowired
+    ExpenseService expenseService;
+
+    @Autowired
+    ExpensePopulationStatService expensePopulationStatService;
+
+    @Autowired
+    TodayDashboardCache todayDashboardCache;
+
     @LocalServerPort
     int port;
 
@@ -118,8 +135,12 @@ public class ExpenseTest {
     public void tearDown() {
         expenseRepository.deleteAllInBatch();
         expenseRepository.flush();
+        dailyExpenseRollupRepository.deleteAllInBatch();
+        dailyExpenseRollupRepository.flush();
         budgetPlanRepository.deleteAllInBatch();
         budgetPlanRepository.flush();
+        // 저장소를 직접 비우므로 캐시된 오늘 지출 현황도 함께 제거
+        todayDashboardCache.evictAll();
     }
 
     @AfterAll
@@ -166,6 +187,140 @@ public class ExpenseTest {
                     .body("errorReason", is(ErrorCode.INVALID_TOKEN.getMessage()));
     }
 
+    @Test
+    @DisplayName("지출 일괄 생성 성공 - 같은 Idempotency-Key로 재요청 시 저장된 결과 반환")
+    void shouldCreateExpensesInBulkWithReturn200IfValidToken() throws JsonProcessingException {
+        String idempotencyKey = UUID.randomUUID().toString();
+        String body = objectMapper.writeValueAsString(List.of(
+                getExpenseRequest(),
+                new ExpenseRequest(LocalDateTime.now(), 999L, 10000L, "memo", false)));
+
+        RestAssured
+                .given(this.spec)
+                    .accept(ContentType.JSON)
+                    .contentType(ContentType.JSON)
+                    .filter(document("expense-bulk-create", getBulkRequestHeadersSnippet(), getExpenseBulkResponseFields()))
+                    .header("Authorization", "Bearer " + accessToken)
+                    .header("Idempotency-Key", idempotencyKey)
+                    .body(body)
+                .when()
+                    .post(EXPENSES_URL + "/bulk")
+                .then()
+                    .statusCode(is(HttpStatus.OK.value()))
+                    .header("Idempotent-Replayed", "false")
+                    .body("total", is(2))
+                    .body("created", is(1))
+                    .body("rejected", is(1))
+                    .body("results[0].status", is("CREATED"))
+                    .body("results[1].status", is("REJECTED"));
+
+        RestAssured
+                .given(this.spec)
+                    .accept(ContentType.JSON)
+                    .contentType(ContentType.JSON)
+                    .header("Authorization", "Bearer " + accessToken)
+                    .header("Idempotency-Key", idempotencyKey)
+                    .body(body)
+                .when()
+                    .post(EXPENSES_URL + "/bulk")
+                .then()
+                    .statusCode(is(HttpStatus.OK.value()))
+                    .header("Idempotent-Replayed", "true")
+                    .body("created", is(1));
+
+        Assertions.assertEquals(1, expenseRepository.count());
+    }
+
+    @Test
+    @DisplayName("지출 일괄 생성 실패 - 같은 Idempotency-Key로 다른 본문 요청")
+    void shouldNotReplayExpensesInBulkWithReturn422IfBodyChanged() throws JsonProcessingException {
+        String idempotencyKey = UUID.randomUUID().toString();
+
+        RestAssured
+                .given(this.spec)
+                    .accept(ContentType.JSON)
+                    .contentType(ContentType.JSON)
+                    .header("Authorization", "Bearer " + accessToken)
+                    .header("Idempotency-Key", idempotencyKey)
+                    .body(objectMapper.writeValueAsString(List.of(getExpenseRequest())))
+                .when()
+                    .post(EXPENSES_URL + "/bulk")
+                .then()
+                    .statusCode(is(HttpStatus.OK.value()));
+
+        RestAssured
+                .given(this.spec)
+                    .accept(ContentType.JSON)
+                    .contentType(ContentType.JSON)
+                    .filter(document("expense-bulk-create-key-reused"))
+                    .header("Authorization", "Bearer " + accessToken)
+                    .header("Idempotency-Key", idempotencyKey)
+                    .body(objectMapper.writeValueAsString(List.of(getExpenseRequest(), getExpenseRequest())))
+                .when()
+                    .post(EXPENSES_URL + "/bulk")
+                .then()
+                    .statusCode(is(ErrorCode.IDEMPOTENCY_KEY_REUSED.getHttpStatus().value()))
+                    .body("errorCode", is(ErrorCode.IDEMPOTENCY_KEY_REUSED.name()))
+                    .body("errorReason", is(ErrorCode.IDEMPOTENCY_KEY_REUSED.getMessage()));
+
+        Assertions.assertEquals(1, expenseRepository.count());
+    }
+
+    @Test
+    @DisplayName("지출 일괄 생성 실패 - JSON 배열이 아닌 요청 본문")
+    void shouldNotCreateExpensesInBulkWithReturn400IfNotArray() throws JsonProcessingException {
+        RestAssured
+                .given(this.spec)
+                    .accept(ContentType.JSON)
+                    .contentType(ContentType.JSON)
+                    .filter(document("expense-bulk-create-invalid"))
+                    .header("Authorization", "Bearer " + accessToken)
+                    .body(objectMapper.writeValueAsString(getExpenseRequest()))
+                .when()
+                    .post(EXPENSES_URL + "/bulk")
+                .then()
+                    .statusCode(is(ErrorCode.INVALID_BULK_EXPENSE.getHttpStatus().value()))
+                    .body("errorCode", is(ErrorCode.INVALID_BULK_EXPENSE.name()))
+                    .body("errorReason", is(ErrorCode.INVALID_BULK_EXPENSE.getMessage()));
+    }
+
+    private RequestHeadersSnippet getBulkRequestHeadersSnippet() {
+        return requestHeaders(
+                headerWithName("Authorization")
+                        .description("Bearer JWT(Access Token)"),
+                headerWithName("Idempotency-Key")
+                        .description("멱등성 키. 같은 키로 같은 본문을 다시 요청하면 지출을 중복 생성하지 않고 처리 결과를 반환합니다.")
+                        .optional()
+                        .attributes(key("constraints").value("Nullable\n최대 64 글자")));
+    }
+
+    private ResponseFieldsSnippet getExpenseBulkResponseFields() {
+        return responseFields(
+                fieldWithPath("total")
+                        .type(JsonFieldType.NUMBER)
+                        .description("요청한 지출 건수"),
+                fieldWithPath("created")
+                        .type(JsonFieldType.NUMBER)
+                        .description("생성된 지출 건수"),
+                fieldWithPath("rejected")
+                        .type(JsonFieldType.NUMBER)
+                        .description("검증에 실패하여 생성되지 않은 지출 건수"),
+                fieldWithPath("results[].index")
+                        .type(JsonFieldType.NUMBER)
+                        .description("요청 배열에서의 순서(0부터 시작)"),
+                fieldWithPath("results[].status")
+                        .type(JsonFieldType.STRING)
+                        .description("처리 결과(CREATED, REJECTED)"),
+                fieldWithPath("results[].expenseId")
+                        .type(JsonFieldType.NUMBER)
+                        .description("생성된 지출 id")
+                        .optional(),
+                fieldWithPath("results[].reason")
+                        .type(JsonFieldType.STRING)
+                        .description("생성되지 않은 사유")
+                        .optional());
+    }
+
     private ExpenseRequest getExpenseRequest() {
         return new ExpenseRequest(
                 LocalDateTime.now(),
@@ -438,7 +593,13 @@ public class ExpenseTest {
                 parameterWithName("minAmount")
                         .description("조회 대상 지출 최소 금액"),
                 parameterWithName("maxAmount")
-                        .description("조회 대상 지출 최대 금액"));
+                        .description("조회 대상 지출 최대 금액"),
+                parameterWithName("cursor")
+                        .description("이전 페이지 응답의 nextCursor, 생략하면 첫 페이지를 조회")
+                        .optional(),
+                parameterWithName("size")
+                        .description("한 페이지의 최대 지출 기록 수(1~1000, 기본값 100)")
+                        .optional());
     }
 
     private ResponseFieldsSnippet getExpenseListResponseFields() {
@@ -469,7 +630,11 @@ public class ExpenseTest {
                         .description("기간 내 지출 총액"),
                 fieldWithPath("totalAmountForCategory")
                         .type(JsonFieldType.NUMBER)
-                        .description("조회한 카테고리의 지출 총액"));
+                        .description("조회한 카테고리의 지출 총액"),
+                fieldWithPath("nextCursor")
+                        .type(JsonFieldType.STRING)
+                        .description("다음 페이지 조회에 사용할 커서, 마지막 페이지라면 생략")
+                        .optional());
     }
 
     private ExpenseListResponse getExpenseListResponse() {
@@ -477,10 +642,96 @@ public class ExpenseTest {
         return new ExpenseListResponse(
                 List.of(expenseResponse),
                 expenseResponse.amount(),
-                expenseResponse.amount()
+                expenseResponse.amount(),
+                null
         );
     }
 
+    @Test
+    @DisplayName("지출 목록 조회 성공 - 다음 페이지")
+    void shouldGetNextExpenseListPageWithReturn200IfValidCursor() throws JsonProcessingException {
+        shouldCreateExpenseWithReturn201IfValidToken();
+        long firstExpenseId = createdExpenseId;
+        shouldCreateExpenseWithReturn201IfValidToken();
+        String listUrl = EXPENSES_URL + EXPENSES_LIST_QUERY_PARAMS.formatted(LocalDate.now().toString(),
+                LocalDate.now().toString(), getExpenseRequest().categoryId(), 0, 99999) + "&size=1";
+
+        String nextCursor = RestAssured
+                .given(this.spec)
+                    .accept(ContentType.JSON)
+                    .header("Authorization", "Bearer " + accessToken)
+                .when()
+                    .get(listUrl)
+                .then()
+                    .statusCode(is(HttpStatus.OK.value()))
+                    .body("expenses", hasSize(1))
+                    .body("expenses[0].id", is((int) firstExpenseId))
+                    .body("totalAmount", is((int) (getExpenseRequest().amount() * 2)))
+                    .body("nextCursor", notNullValue())
+                .extract().path("nextCursor");
+
+        RestAssured
+                .given(this.spec)
+                    .accept(ContentType.JSON)
+                    .filter(document("expense-list-next-page", getAccessTokenRequestHeaderSnippet(), getExpenseListQueryParametersSnippet(), getExpenseListResponseFields()))
+                    .header("Authorization", "Bearer " + accessToken)
+                .when()
+                    .get(listUrl + "&cursor=" + nextCursor)
+                .then()
+                    .statusCode(is(HttpStatus.OK.value()))
+                    .body("expenses", hasSize(1))
+                    .body("expenses[0].id", is((int) createdExpenseId))
+                    .body("totalAmount", is((int) (getExpenseRequest().amount() * 2)))
+                    .body("$", not(hasKey("nextCursor")));
+    }
+
+    @Test
+    @DisplayName("지출 목록 조회 실패 - 유효하지 않은 커서")
+    void shouldNotGetExpenseListWithReturn400IfInvalidCursor() {
+        RestAssured
+                .given(this.spec)
+                    .accept(ContentType.JSON)
+                    .filter(document("expense-list-invalid-cursor"))
+                    .header("Authorization", "Bearer " + accessToken)
+                .when()
+                    .get(EXPENSES_URL + EXPENSES_LIST_QUERY_PARAMS.formatted(LocalDate.now().toString(), LocalDate.now().toString(), getExpenseRequest().categoryId(), 0, 99999) + "&cursor=invalid")
+                .then()
+                    .statusCode(is(ErrorCode.INVALID_CURSOR.getHttpStatus().value()))
+                    .body("errorCode", is(ErrorCode.INVALID_CURSOR.name()))
+                    .body("errorReason", is(ErrorCode.INVALID_CURSOR.getMessage()));
+    }
+
+    @Test
+    @DisplayName("지출 목록 스트리밍 조회 성공")
+    void shouldStreamExpenseListWithReturn200IfValidToken() throws JsonProcessingException {
+        shouldCreateExpenseWithReturn201IfValidToken();
+        RestAssured
+                .given(this.spec)
+                    .accept("application/x-ndjson")
+                    .filter(document("expense-list-stream", getAccessTokenRequestHeaderSnippet(), getExpenseStreamQueryParametersSnippet()))
+                    .header("Authorization", "Bearer " + accessToken)
+                .when()
+                    .get(EXPENSES_URL + "/stream" + EXPENSES_LIST_QUERY_PARAMS.formatted(LocalDate.now().toString(), LocalDate.now().toString(), getExpenseRequest().categoryId(), 0, 99999))
+                .then()
+                    .statusCode(is(HttpStatus.OK.value()))
+                    .contentType(startsWith("application/x-ndjson"))
+                    .body(is(objectMapper.writeValueAsString(getExpenseResponse()) + "\n"));
+    }
+
+    private QueryParametersSnippet getExpenseStreamQueryParametersSnippet() {
+        return queryParameters(
+                parameterWithName("startDate")
+                        .description("조회 범위 시작 연월일"),
+                parameterWithName("endDate")
+                        .description("조회 범위 마지막 연월일"),
+                parameterWithName("categoryId")
+                        .description("조회 대상 카테고리 id"),
+                parameterWithName("minAmount")
+                        .description("조회 대상 지출 최소 금액"),
+                parameterWithName("maxAmount")
+                        .description("조회 대상 지출 최대 금액"));
+    }
+
     @Test
     @DisplayName("지출 목록 조회 실패 - 유효하지 않은 토큰")
     void shouldNotGetExpenseListWithReturn401IfInvalidToken() {
@@ -654,6 +905,7 @@ public class ExpenseTest {
     void shouldGetExpenseStatisticsWithReturn200IfValidToken() throws JsonProcessingException {
         createData(user, 2);
         createData(createNewUser(), 2);
+        expensePopulationStatService.refresh();
         RestAssured
                 .given(this.spec)
                     .accept(ContentType.JSON)
@@ -702,6 +954,7 @@ public class ExpenseTest {
     @DisplayName("지출 통계 조회 성공 - 사용자가 오늘 지출했지만, 지난 소비 데이터와 다른 사용자 소비 데이터가 없는 경우")
     void shouldGetExpenseStatisticsWithReturn200IfValidTokenButNoLastAndOtherUserData() throws JsonProcessingException {
         createData(user, 0);
+        expensePopulationStatService.refresh();
         RestAssured
                 .given(this.spec)
                 .accept(ContentType.JSON)
@@ -767,7 +1020,6 @@ public class ExpenseTest {
     }
 
     private void createExpenses(User user, int until) {
-        List<Expense> expenses = new ArrayList<>();
         LocalDateTime[] localDateTimes = {
                 LocalDateTime.now(),
                 LocalDateTime.now().minusWeeks(1),
@@ -775,7 +1027,8 @@ public class ExpenseTest {
 
         for (int i = 0; i <= until; i++) {
             for (long categoryId = 1; categoryId <= COUNT_CATEGORY; categoryId++) {
-                expenses.add(Expense.builder()
+                // 일자별 카테고리별 지출 합계도 함께 갱신되도록 서비스를 통해 저장
+                expenseService.createExpense(Expense.builder()
                         .user(user)
                         .datetime(localDateTimes[i])
                         .category(Category.builder().id(categoryId).build())
@@ -784,7 +1037,6 @@ public class ExpenseTest {
                         .build());
             }
         }
-        expenseRepository.saveAllAndFlush(expenses);
     }
 
     @Test
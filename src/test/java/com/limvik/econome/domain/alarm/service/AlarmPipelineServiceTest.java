@@ -0,0 +1,226 @@
+package com.limvik.econome.domain.alarm.service;
+
+import com.limvik.econome.domain.alarm.enums.AlarmType;
+import com.limvik.econome.domain.alarm.service.dto.AlarmBatch;
+import com.limvik.econome.domain.alarm.service.dto.AlarmMessage;
+import com.limvik.econome.domain.budgetplan.entity.BudgetPlan;
+import com.limvik.econome.domain.category.entity.Category;
+import com.limvik.econome.domain.expense.entity.Expense;
+import com.limvik.econome.domain.expense.service.ExpenseService;
+import com.limvik.econome.domain.user.entity.User;
+import com.limvik.econome.global.config.AlarmConfig;
+import com.limvik.econome.infrastructure.alarm.AlarmDeadLetterRepository;
+import com.limvik.econome.infrastructure.budgetplan.BudgetPlanRepository;
+import com.limvik.econome.infrastructure.expense.DailyExpenseRollupRepository;
+import com.limvik.econome.infrastructure.expense.ExpenseRepository;
+import com.limvik.econome.infrastructure.user.UserRepository;
+import com.limvik.econome.web.mock.controller.AlarmWebhookStubController;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("integration")
+public class AlarmPipelineServiceTest {
+
+    @Autowired
+    AlarmPipelineService alarmPipelineService;
+
+    @Autowired
+    AlarmWebhookStubController alarmWebhookStub;
+
+    @Autowired
+    AlarmDeadLetterRepository alarmDeadLetterRepository;
+
+    @Autowired
+    AlarmConfig alarmConfig;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    BudgetPlanRepository budgetPlanRepository;
+
+    @Autowired
+    ExpenseRepository expenseRepository;
+
+    @Autowired
+    DailyExpenseRollupRepository dailyExpenseRollupRepository;
+
+    @Autowired
+    ExpenseService expenseService;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @LocalServerPort
+    int port;
+
+    List<User> agreedUsers;
+
+    User disagreedUser;
+
+    @BeforeEach
+    void setUp() {
+        alarmConfig.setWebhookUrl("http://localhost:" + port + AlarmWebhookStubController.PATH);
+        alarmConfig.setPageSize(2);
+        alarmConfig.setMaxAttempts(3);
+        alarmConfig.setRetryBackoffMs(0L);
+        alarmWebhookStub.reset();
+
+        agreedUsers = List.of(createUser("alarmtest1", true), createUser("alarmtest2", true), createUser("alarmtest3", true));
+        disagreedUser = createUser("alarmtest4", false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        expenseRepository.deleteAllInBatch();
+        dailyExpenseRollupRepository.deleteAllInBatch();
+        budgetPlanRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    private User createUser(String username, boolean agreeAlarm) {
+        return userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@alarmtest.com")
+                .password("alarmtest")
+                .minimumDailyExpense(1000L)
+                .agreeAlarm(agreeAlarm)
+                .build());
+    }
+
+    @Test
+    @DisplayName("알림 수신에 동의한 사용자에게만 페이지 단위로 오늘 지출 알림 전송")
+    void shouldSendTodayExpenseAlarmsOnlyToAgreedUsers() {
+        User spender = agreedUsers.get(0);
+        expenseService.createExpense(Expense.builder()
+                .user(spender)
+                .category(Category.builder().id(1L).build())
+                .datetime(LocalDateTime.now())
+                .amount(5000L)
+                .memo("alarm")
+                .excluded(false)
+                .build());
+
+        var result = alarmPipelineService.run(AlarmType.TODAY_EXPENSE, LocalDate.now());
+
+        List<AlarmMessage> messages = receivedMessages();
+        assertThat(messages).extracting(AlarmMessage::userId)
+                .containsAll(agreedUsers.stream().map(User::getId).toList())
+                .doesNotContain(disagreedUser.getId());
+        assertThat(messages).filteredOn(message -> message.userId() == spender.getId())
+                .singleElement()
+                .satisfies(message -> {
+                    assertThat(message.totalAmount()).isEqualTo(5000L);
+                    assertThat(message.amountPerCategory()).containsEntry(1L, 5000L);
+                });
+        assertThat(result.batchCount()).isEqualTo(alarmWebhookStub.getReceived().size());
+        assertThat(result.deadLetterBatchCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("서버의 날짜가 아닌 전달받은 기준 일자의 지출로 알림 전송")
+    void shouldSendTodayExpenseAlarmsForGivenDay() {
+        User spender = agreedUsers.get(0);
+        expenseService.createExpense(Expense.builder()
+                .user(spender)
+                .category(Category.builder().id(1L).build())
+                .datetime(LocalDateTime.now())
+                .amount(5000L)
+                .memo("alarm")
+                .excluded(false)
+                .build());
+
+        alarmPipelineService.run(AlarmType.TODAY_EXPENSE, LocalDate.now().minusDays(1));
+
+        assertThat(receivedMessages()).filteredOn(message -> message.userId() == spender.getId())
+                .singleElement()
+                .satisfies(message -> assertThat(message.totalAmount()).isZero());
+    }
+
+    @Test
+    @DisplayName("예산을 설정한 사용자에게만 오늘 추천 지출 알림 전송")
+    void shouldSendRecommendationAlarmsOnlyToUsersWithBudget() {
+        User planner = agreedUsers.get(1);
+        LocalDate today = LocalDate.now();
+        long budget = 31_000_000L;
+        budgetPlanRepository.save(BudgetPlan.builder()
+                .user(planner)
+                .category(Category.builder().id(1L).build())
+                .date(today.withDayOfMonth(1))
+                .amount(budget)
+                .build());
+
+        alarmPipelineService.run(AlarmType.RECOMMENDATION, today);
+
+        long restDays = today.lengthOfMonth() - today.getDayOfMonth() + 1;
+        assertThat(receivedMessages())
+                .singleElement()
+                .satisfies(message -> {
+                    assertThat(message.userId()).isEqualTo(planner.getId());
+                    assertThat(message.amountPerCategory()).isEqualTo(Map.of(1L, budget / restDays));
+                    assertThat(message.totalAmount()).isEqualTo(budget / restDays / 1000 * 1000);
+                });
+    }
+
+    @Test
+    @DisplayName("일시적인 전송 실패는 재시도하여 전송")
+    void shouldRetryFailedBatch() {
+        alarmWebhookStub.failNext(2);
+
+        var result = alarmPipelineService.run(AlarmType.TODAY_EXPENSE, LocalDate.now());
+
+        assertThat(result.deadLetterBatchCount()).isZero();
+        assertThat(result.sentBatchCount()).isEqualTo(result.batchCount());
+        assertThat(alarmWebhookStub.getRequestCount()).isEqualTo(result.batchCount() + 2);
+    }
+
+    @Test
+    @DisplayName("재시도 후에도 실패한 알림 묶음은 dead letter 로 기록")
+    void shouldRecordDeadLetterIfRetriesExhausted() {
+        alarmWebhookStub.failNext(Integer.MAX_VALUE);
+        long before = alarmDeadLetterRepository.countByTypeAndDay(AlarmType.TODAY_EXPENSE, LocalDate.now());
+        double deadLetterBefore = deadLetterBatchCount();
+        long runsBefore = meterRegistry.get("alarm.run").tag("type", AlarmType.TODAY_EXPENSE.name()).timer().count();
+
+        var result = alarmPipelineService.run(AlarmType.TODAY_EXPENSE, LocalDate.now());
+
+        assertThat(result.sentBatchCount()).isZero();
+        assertThat(result.deadLetterBatchCount()).isEqualTo(result.batchCount());
+        assertThat(alarmDeadLetterRepository.countByTypeAndDay(AlarmType.TODAY_EXPENSE, LocalDate.now()))
+                .isEqualTo(before + result.batchCount());
+        assertThat(alarmWebhookStub.getRequestCount()).isEqualTo(result.batchCount() * alarmConfig.getMaxAttempts());
+        assertThat(deadLetterBatchCount()).isEqualTo(deadLetterBefore + result.batchCount());
+        assertThat(meterRegistry.get("alarm.run").tag("type", AlarmType.TODAY_EXPENSE.name()).timer().count())
+                .isEqualTo(runsBefore + 1);
+    }
+
+    private double deadLetterBatchCount() {
+        return meterRegistry.get("alarm.batches")
+                .tag("type", AlarmType.TODAY_EXPENSE.name())
+                .tag("result", "dead_letter")
+                .counter().count();
+    }
+
+    private List<AlarmMessage> receivedMessages() {
+        return alarmWebhookStub.getReceived().stream()
+                .map(AlarmBatch::messages)
+                .flatMap(List::stream)
+                .toList();
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.limvik.econome.domain.expense.service;
+
+import com.limvik.econome.domain.expense.entity.ExpenseProjection;
+import com.limvik.econome.global.config.TodayDashboardConfig;
+import com.limvik.econome.infrastructure.expense.DailyExpenseRollupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ExpensePopulationStatServiceTest {
+
+    @Mock
+    DailyExpenseRollupRepository dailyExpenseRollupRepository;
+
+    ExpensePopulationStatService expensePopulationStatService;
+
+    @BeforeEach
+    void setUp() {
+        when(dailyExpenseRollupRepository.findUserSumsBetween(any(), any()))
+                .thenReturn(List.of(new UserSum(1L, 10000L), new UserSum(2L, 20000L), new UserSum(3L, 40000L)));
+        expensePopulationStatService = new ExpensePopulationStatService(dailyExpenseRollupRepository, new TodayDashboardConfig());
+        expensePopulationStatService.refresh();
+    }
+
+    @Test
+    @DisplayName("스냅샷 이후 지출이 늘어도 스냅샷 시점의 본인 지출만 제외하고 다른 사용자 평균과 비교")
+    void shouldExcludeSnapshotAmountOfUser() {
+        assertThat(expensePopulationStatService.getRateCompareOtherUser(1L, 30000L)).isEqualTo(100.0);
+        assertThat(expensePopulationStatService.getSnapshot().userCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("스냅샷 이후 처음 지출한 사용자는 스냅샷의 전체 사용자 평균과 비교")
+    void shouldCompareWithAllUsersIfUserIsNotInSnapshot() {
+        assertThat(expensePopulationStatService.getSnapshot().amountOf(4L)).isEmpty();
+        assertThat(expensePopulationStatService.getRateCompareOtherUser(4L, 35000L)).isCloseTo(150.0, offset(1e-9));
+    }
+
+    @Test
+    @DisplayName("지출이 없으면 비교하지 않음")
+    void shouldReturnNullIfUserHasNoExpense() {
+        assertThat(expensePopulationStatService.getRateCompareOtherUser(1L, 0L)).isNull();
+    }
+
+    private record UserSum(Long getUserId, Long getAmount) implements ExpenseProjection.UserSum {}
+
+}
@@ -0,0 +1,69 @@
+package com.limvik.econome.domain.expense.service;
+
+import com.limvik.econome.global.config.ExpenseStreamConfig;
+import com.limvik.econome.global.exception.ErrorCode;
+import com.limvik.econome.global.exception.ErrorException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ExpenseStreamLimiterTest {
+
+    LocalDate today = LocalDate.of(2023, 11, 1);
+
+    @Test
+    @DisplayName("최대 기간을 넘는 조회는 허가를 얻기 전에 거절")
+    void shouldRejectTooLongRange() {
+        var limiter = new ExpenseStreamLimiter(config(1, 30000L));
+
+        assertThatThrownBy(() -> limiter.stream(today, today.plusDays(366), row -> {}, limited -> {}))
+                .isInstanceOf(ErrorException.class)
+                .extracting(e -> ((ErrorException) e).getErrorCode()).isEqualTo(ErrorCode.EXPENSE_STREAM_RANGE_TOO_LONG);
+        limiter.stream(today, today.plusDays(365), row -> {}, limited -> {});
+        assertThat(limiter.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시 실행 수를 넘으면 기다리지 않고 거절하며, 조회가 끝나면 허가를 반환")
+    void shouldRejectWhenAllPermitsAreTaken() {
+        var limiter = new ExpenseStreamLimiter(config(1, 30000L));
+
+        limiter.stream(today, today, row -> {}, limited ->
+                assertThatThrownBy(() -> limiter.stream(today, today, row -> {}, inner -> {}))
+                        .isInstanceOf(ErrorException.class)
+                        .extracting(e -> ((ErrorException) e).getErrorCode()).isEqualTo(ErrorCode.BUSY_EXPENSE_STREAM));
+
+        assertThat(limiter.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("제한 시간이 지난 후 전달되는 행은 받지 않고 조회를 중단")
+    void shouldStopStreamAfterDeadline() {
+        var limiter = new ExpenseStreamLimiter(config(1, 0L));
+        List<Integer> received = new ArrayList<>();
+
+        assertThatThrownBy(() -> limiter.stream(today, today, received::add, (Consumer<Consumer<Integer>>) limited -> {
+            limited.accept(1);
+            limited.accept(2);
+        }))
+                .isInstanceOf(ErrorException.class)
+                .extracting(e -> ((ErrorException) e).getErrorCode()).isEqualTo(ErrorCode.EXPENSE_STREAM_TIMEOUT);
+        assertThat(received).isEmpty();
+        assertThat(limiter.availablePermits()).isEqualTo(1);
+    }
+
+    private ExpenseStreamConfig config(int maxConcurrentStreams, long timeoutMs) {
+        var config = new ExpenseStreamConfig();
+        config.setMaxConcurrentStreams(maxConcurrentStreams);
+        config.setTimeoutMs(timeoutMs);
+        return config;
+    }
+
+}
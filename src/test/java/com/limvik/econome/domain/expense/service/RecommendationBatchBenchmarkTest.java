@@ -0,0 +1,163 @@
+package com.limvik.econome.domain.expense.service;
+
+import com.limvik.econome.domain.expense.service.dto.CategoryAmounts;
+import com.limvik.econome.domain.expense.service.dto.UserRecommendation;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용자 10,000명의 오늘 추천 지출 금액을 사용자별 조회(사용자당 3회 쿼리)와 범위 단위 일괄 계산(범위당 3회 쿼리)으로
+ * 각각 계산하여 소요 시간을 비교하고, 두 결과가 같은지 확인합니다.
+ * 일반 테스트에서는 제외되며 {@code ./gradlew benchmark} 로 실행합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:tc:mysql:8.0.35:///econome?rewriteBatchedStatements=true",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false"})
+@ActiveProfiles("integration")
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class RecommendationBatchBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(RecommendationBatchBenchmarkTest.class);
+
+    private static final int USER_COUNT = 10_000;
+    private static final long FIRST_USER_ID = 1_000_001L;
+    private static final long LAST_USER_ID = FIRST_USER_ID + USER_COUNT - 1;
+    private static final int BUDGET_CATEGORY_COUNT = 6;
+    private static final int CATEGORY_COUNT = 12;
+    private static final int RANGE_SIZE = 1_000;
+    private static final int INSERT_BATCH_SIZE = 10_000;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    ExpenseService expenseService;
+
+    @Autowired
+    RecommendationBatchService recommendationBatchService;
+
+    final LocalDate today = LocalDate.now();
+
+    @BeforeAll
+    void seed() {
+        batchInsert("INSERT INTO users (id, username, email, password, minimum_daily_expense, agree_alarm) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", USER_COUNT, (ps, i) -> {
+            long userId = FIRST_USER_ID + i;
+            ps.setLong(1, userId);
+            ps.setString(2, "bench" + userId);
+            ps.setString(3, "bench" + userId + "@bench.com");
+            ps.setString(4, "benchmark");
+            ps.setLong(5, 1000L * (i % 5));
+            ps.setBoolean(6, true);
+        });
+
+        // 사용자마다 카테고리 1~6 에만 예산을 설정하고, 이번달 1일부터 어제까지 12개 카테고리 모두에 지출 합계 생성
+        Date monthStart = Date.valueOf(today.withDayOfMonth(1));
+        batchInsert("INSERT INTO budget_plans (id, user_id, category_id, date, amount) VALUES (?, ?, ?, ?, ?)",
+                USER_COUNT * BUDGET_CATEGORY_COUNT, (ps, i) -> {
+            ps.setLong(1, FIRST_USER_ID + i);
+            ps.setLong(2, FIRST_USER_ID + i / BUDGET_CATEGORY_COUNT);
+            ps.setLong(3, i % BUDGET_CATEGORY_COUNT + 1);
+            ps.setDate(4, monthStart);
+            ps.setLong(5, 300_000L + i % 7 * 10_000L);
+        });
+        int daysBeforeToday = today.getDayOfMonth() - 1;
+        if (daysBeforeToday > 0) {
+            batchInsert("INSERT INTO daily_expense_rollups (user_id, day, category_id, amount_sum, count, excluded_sum) " +
+                    "VALUES (?, ?, ?, ?, 1, 0)", USER_COUNT * CATEGORY_COUNT, (ps, i) -> {
+                ps.setLong(1, FIRST_USER_ID + i / CATEGORY_COUNT);
+                ps.setDate(2, Date.valueOf(today.withDayOfMonth(1 + i % daysBeforeToday)));
+                ps.setLong(3, i % CATEGORY_COUNT + 1);
+                ps.setLong(4, 5_000L + i % 11 * 1_000L);
+            });
+        }
+        jdbcTemplate.execute("ANALYZE TABLE users, budget_plans, daily_expense_rollups");
+    }
+
+    @AfterAll
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM daily_expense_rollups WHERE user_id BETWEEN ? AND ?", FIRST_USER_ID, LAST_USER_ID);
+        jdbcTemplate.update("DELETE FROM budget_plans WHERE user_id BETWEEN ? AND ?", FIRST_USER_ID, LAST_USER_ID);
+        jdbcTemplate.update("DELETE FROM users WHERE id BETWEEN ? AND ?", FIRST_USER_ID, LAST_USER_ID);
+    }
+
+    @Test
+    @DisplayName("사용자 10,000명의 오늘 추천 지출 금액 계산 - 사용자별 조회와 범위 단위 일괄 계산 비교")
+    void compareBatchWithPerUserRecommendations() {
+        // JIT 와 커넥션 풀 준비
+        for (long userId = FIRST_USER_ID; userId < FIRST_USER_ID + 200; userId++) {
+            expenseService.getTodayRecommendationExpenses(userId);
+        }
+        recommendBatch(new HashMap<>());
+
+        Map<Long, CategoryAmounts> perUser = new HashMap<>(USER_COUNT * 2);
+        long perUserStart = System.nanoTime();
+        for (long userId = FIRST_USER_ID; userId <= LAST_USER_ID; userId++) {
+            perUser.put(userId, expenseService.getTodayRecommendationExpenses(userId));
+        }
+        long perUserNanos = System.nanoTime() - perUserStart;
+
+        Map<Long, CategoryAmounts> batch = new HashMap<>(USER_COUNT * 2);
+        long batchStart = System.nanoTime();
+        recommendBatch(batch);
+        long batchNanos = System.nanoTime() - batchStart;
+
+        log.info("[benchmark] recommendations users={} per-user={}ms batch(range={})={}ms speedup={}x",
+                USER_COUNT, perUserNanos / 1_000_000, RANGE_SIZE, batchNanos / 1_000_000,
+                String.format("%.1f", (double) perUserNanos / batchNanos));
+        assertThat(batch).isEqualTo(perUser);
+    }
+
+    private void recommendBatch(Map<Long, CategoryAmounts> results) {
+        for (long from = FIRST_USER_ID; from <= LAST_USER_ID; from += RANGE_SIZE) {
+            recommendationBatchService.recommendBetween(from, Math.min(from + RANGE_SIZE - 1, LAST_USER_ID), today,
+                    (UserRecommendation recommendation) -> results.put(recommendation.userId(), recommendation.amounts()));
+        }
+    }
+
+    private void batchInsert(String sql, int rows, RowSetter rowSetter) {
+        for (int offset = 0; offset < rows; offset += INSERT_BATCH_SIZE) {
+            int from = offset;
+            int size = Math.min(INSERT_BATCH_SIZE, rows - offset);
+            jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    rowSetter.set(ps, from + i);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return size;
+                }
+            });
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowSetter {
+        void set(PreparedStatement ps, int row) throws SQLException;
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.limvik.econome.domain.expense.service;
+
+import com.limvik.econome.domain.expense.service.dto.CategoryAmounts;
+import com.limvik.econome.domain.expense.service.dto.TodayDashboard;
+import com.limvik.econome.global.config.TodayDashboardConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TodayDashboardCacheTest {
+
+    private TodayDashboardCache createCache(ZoneId zone) {
+        var config = new TodayDashboardConfig();
+        config.setZone(zone);
+        return new TodayDashboardCache(config);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Pacific/Kiritimati", "Etc/GMT+12"})
+    @DisplayName("설정한 시간대의 오늘 지출 현황은 시스템 시간대와 관계없이 그 시간대의 자정까지 캐시")
+    void shouldCacheDashboardOfConfiguredZone(String zoneId) {
+        ZoneId zone = ZoneId.of(zoneId);
+        TodayDashboardCache cache = createCache(zone);
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            cache.get(1L, userId -> {
+                loads.incrementAndGet();
+                return new TodayDashboard(LocalDate.now(zone), new CategoryAmounts(), new CategoryAmounts());
+            });
+        }
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Pacific/Kiritimati", "Etc/GMT+12"})
+    @DisplayName("설정한 시간대에서 이미 지난 일자의 오늘 지출 현황은 캐시하지 않음")
+    void shouldNotCacheDashboardOfPastDay(String zoneId) {
+        ZoneId zone = ZoneId.of(zoneId);
+        TodayDashboardCache cache = createCache(zone);
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            cache.get(1L, userId -> {
+                loads.incrementAndGet();
+                return new TodayDashboard(LocalDate.now(zone).minusDays(1), new CategoryAmounts(), new CategoryAmounts());
+            });
+        }
+
+        assertThat(loads).hasValue(3);
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.limvik.econome.domain.expense.service.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CategoryAmountsTest {
+
+    @Test
+    @DisplayName("금액이 0 인 카테고리와 금액이 없는 카테고리를 구분하고 카테고리 식별자 오름차순으로 순회")
+    void shouldDistinguishZeroFromMissingAndIterateInOrder() {
+        CategoryAmounts amounts = CategoryAmounts.of(List.of(new long[]{12L, 300L}, new long[]{3L, 0L}, new long[]{1L, 100L}),
+                row -> row[0], row -> row[1]);
+
+        assertThat(amounts.size()).isEqualTo(3);
+        assertThat(amounts.has(3L)).isTrue();
+        assertThat(amounts.has(2L)).isFalse();
+        assertThat(amounts.get(2L)).isZero();
+        assertThat(amounts.total()).isEqualTo(400L);
+
+        List<Long> categoryIds = new ArrayList<>();
+        amounts.forEach((categoryId, amount) -> categoryIds.add(categoryId));
+        assertThat(categoryIds).containsExactly(1L, 3L, 12L);
+        assertThat(amounts.toMap()).isEqualTo(Map.of(1L, 100L, 3L, 0L, 12L, 300L));
+    }
+
+    @Test
+    @DisplayName("다른 CategoryAmounts 에 없는 카테고리의 금액만 합산")
+    void shouldSumAmountsNotInOther() {
+        var expenses = new CategoryAmounts();
+        expenses.put(1L, 100L);
+        expenses.put(2L, 200L);
+        expenses.put(5L, 500L);
+        var budgets = new CategoryAmounts();
+        budgets.put(1L, 1000L);
+        budgets.put(5L, 0L);
+
+        assertThat(expenses.totalNotIn(budgets)).isEqualTo(200L);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 카테고리 식별자는 거절")
+    void shouldRejectUnknownCategoryId() {
+        var amounts = new CategoryAmounts();
+
+        assertThatThrownBy(() -> amounts.put(0L, 1L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> amounts.get(CategoryAmounts.SIZE + 1L)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("readOnly 사본은 원본과 같은 값이며 변경할 수 없고, 원본을 변경해도 영향을 받지 않음")
+    void shouldFreezeReadOnlyCopy() {
+        var amounts = new CategoryAmounts();
+        amounts.put(4L, 400L);
+
+        CategoryAmounts readOnly = amounts.readOnly();
+        amounts.put(4L, 1L);
+
+        assertThat(readOnly.get(4L)).isEqualTo(400L);
+        assertThat(readOnly.readOnly()).isSameAs(readOnly);
+        assertThatThrownBy(() -> readOnly.put(4L, 0L)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("오늘 지출 현황은 변경할 수 없는 카테고리별 금액을 보관")
+    void shouldKeepReadOnlyAmountsInTodayDashboard() {
+        var todayExpenses = new CategoryAmounts();
+        todayExpenses.put(1L, 100L);
+
+        var dashboard = new TodayDashboard(LocalDate.now(), todayExpenses, new CategoryAmounts());
+
+        assertThat(dashboard.todayExpenses()).isEqualTo(todayExpenses);
+        assertThatThrownBy(() -> dashboard.todayExpenses().put(1L, 0L))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> dashboard.recommendations().put(1L, 0L))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.limvik.econome.domain.user.service;
+
+import com.limvik.econome.domain.user.entity.User;
+import com.limvik.econome.global.config.JwtConfig;
+import com.limvik.econome.global.exception.ErrorCode;
+import com.limvik.econome.global.exception.ErrorException;
+import com.limvik.econome.global.security.jwt.provider.JwtProvider;
+import com.limvik.econome.infrastructure.user.RefreshTokenRepository;
+import com.limvik.econome.infrastructure.user.RefreshTokenRepository.StoredRefreshToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RefreshTokenServiceTest {
+
+    @Mock
+    RefreshTokenRepository refreshTokenRepository;
+
+    JwtConfig jwtConfig;
+    JwtProvider jwtProvider;
+    User user = User.builder().id(1L).build();
+
+    @BeforeEach
+    void setup() {
+        jwtConfig = new JwtConfig();
+        jwtConfig.setIssuer("econome");
+        jwtConfig.setAccessKey("access-key-for-refresh-token-service-test");
+        jwtConfig.setRefreshKey("refresh-key-for-refresh-token-service-test");
+        jwtConfig.setAccessTokenExpirationMinutes(10L);
+        jwtConfig.setRefreshTokenExpirationDays(30L);
+        jwtProvider = new JwtProvider(jwtConfig);
+    }
+
+    @Test
+    @DisplayName("저장한 Refresh Token 은 데이터베이스 조회 없이 검증")
+    void shouldMatchSavedRefreshTokenWithoutQuery() {
+        var refreshTokenService = new RefreshTokenService(refreshTokenRepository, jwtProvider, jwtConfig);
+        String refreshToken = jwtProvider.generateRefreshToken(user);
+
+        refreshTokenService.save(user.getId(), refreshToken);
+
+        assertThat(refreshTokenService.matches(user.getId(), refreshToken)).isTrue();
+        assertThat(refreshTokenService.matches(2L, refreshToken)).isFalse();
+        verify(refreshTokenRepository).save(eq(user.getId()), any(byte[].class), any(Instant.class));
+        verify(refreshTokenRepository, never()).findByTokenHash(any());
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 Refresh Token 은 한 번만 조회하여 캐시")
+    void shouldQueryOnceIfNotCached() {
+        var refreshTokenService = new RefreshTokenService(refreshTokenRepository, jwtProvider, jwtConfig);
+        String refreshToken = jwtProvider.generateRefreshToken(user);
+        String otherRefreshToken = jwtProvider.generateRefreshToken(user);
+        when(refreshTokenRepository.findByTokenHash(any())).thenReturn(
+                Optional.of(new StoredRefreshToken(user.getId(), Instant.now().plus(Duration.ofDays(1)))));
+
+        assertThat(refreshTokenService.matches(user.getId(), refreshToken)).isTrue();
+        assertThat(refreshTokenService.matches(user.getId(), refreshToken)).isTrue();
+        verify(refreshTokenRepository, times(1)).findByTokenHash(any());
+
+        when(refreshTokenRepository.findByTokenHash(any())).thenReturn(Optional.empty());
+        assertThat(refreshTokenService.matches(user.getId(), otherRefreshToken)).isFalse();
+    }
+
+    @Test
+    @DisplayName("rotation 사용 시 이미 교체된 Refresh Token 으로는 다시 교체할 수 없음")
+    void shouldNotRotateTwice() {
+        jwtConfig.getRefreshTokenStore().setRotation(true);
+        var refreshTokenService = new RefreshTokenService(refreshTokenRepository, jwtProvider, jwtConfig);
+        String refreshToken = jwtProvider.generateRefreshToken(user);
+        refreshTokenService.save(user.getId(), refreshToken);
+        when(refreshTokenRepository.delete(eq(user.getId()), any())).thenReturn(true, false);
+
+        assertThat(refreshTokenService.rotate(user.getId(), refreshToken, jwtProvider.generateRefreshToken(user)))
+                .isTrue();
+        when(refreshTokenRepository.findByTokenHash(any())).thenReturn(Optional.empty());
+        assertThat(refreshTokenService.matches(user.getId(), refreshToken)).isFalse();
+        assertThatThrownBy(() -> refreshTokenService.rotate(
+                user.getId(), refreshToken, jwtProvider.generateRefreshToken(user)))
+                .isInstanceOf(ErrorException.class)
+                .extracting(e -> ((ErrorException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_TOKEN);
+    }
+
+    @Test
+    @DisplayName("만료된 Refresh Token 을 정해진 개수씩 나누어 삭제")
+    void shouldDeleteExpiredInBatches() {
+        jwtConfig.getRefreshTokenStore().setCleanupBatchSize(2);
+        var refreshTokenService = new RefreshTokenService(refreshTokenRepository, jwtProvider, jwtConfig);
+        when(refreshTokenRepository.deleteExpired(any(Instant.class), eq(2))).thenReturn(2, 2, 1);
+
+        assertThat(refreshTokenService.deleteExpired()).isEqualTo(5);
+        verify(refreshTokenRepository, times(3)).deleteExpired(any(Instant.class), eq(2));
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.limvik.econome.global.aot;
+
+import com.limvik.econome.domain.expense.entity.ExpenseProjection;
+import com.limvik.econome.infrastructure.PluralNamingStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.SpringProxy;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.core.DecoratingProxy;
+import org.springframework.data.projection.TargetAware;
+
+import java.sql.Connection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EconomeRuntimeHintsTest {
+
+    RuntimeHints hints = new RuntimeHints();
+
+    EconomeRuntimeHintsTest() {
+        new EconomeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("Hibernate 가 클래스 이름으로 생성하는 naming strategy 와 jjwt-impl 구현체를 리플렉션 대상으로 등록")
+    void shouldRegisterReflectionHints() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(PluralNamingStrategy.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(TypeReference.of("io.jsonwebtoken.impl.security.KeysBridge"))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(TypeReference.of("io.jsonwebtoken.jackson.io.JacksonDeserializer"))).accepts(hints);
+    }
+
+    @Test
+    @DisplayName("interface projection 과 JDBC 커넥션의 JDK 프록시, Flyway 마이그레이션 SQL 을 등록")
+    void shouldRegisterProxyAndResourceHints() {
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(
+                ExpenseProjection.SumCategory.class, TargetAware.class, SpringProxy.class, DecoratingProxy.class))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(Connection.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("db/migration/V1__init_schema.sql")).accepts(hints);
+    }
+
+}
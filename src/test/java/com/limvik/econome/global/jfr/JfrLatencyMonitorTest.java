@@ -0,0 +1,54 @@
+package com.limvik.econome.global.jfr;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JfrLatencyMonitorTest {
+
+    @Test
+    @DisplayName("커밋된 JFR 이벤트를 스트리밍으로 읽어 태그별 Timer 에 기록")
+    void shouldRecordCommittedEventsAsTimers() throws InterruptedException {
+        var registry = new SimpleMeterRegistry();
+        var monitor = new JfrLatencyMonitor(registry, Duration.ofMinutes(1), Duration.ofMinutes(1));
+        monitor.start();
+        try {
+            AggregateQueryEvent.list("DailyExpenseRollupRepository.findExpensesPerCategoryBetween", 1L,
+                    () -> List.of(1, 2, 3));
+            var event = new JwtParseEvent();
+            event.tokenType = "access";
+            event.userId = 1L;
+            event.commit();
+
+            Timer queryTimer = awaitTimer(registry, "jfr.aggregate.query", "query",
+                    "DailyExpenseRollupRepository.findExpensesPerCategoryBetween");
+            Timer jwtTimer = awaitTimer(registry, "jfr.jwt.parse", "type", "access");
+
+            assertThat(queryTimer.count()).isEqualTo(1);
+            assertThat(jwtTimer.count()).isEqualTo(1);
+        } finally {
+            monitor.stop();
+        }
+        assertThat(monitor.isRunning()).isFalse();
+    }
+
+    /**
+     * JFR 스트림은 약 1초 간격으로 이벤트를 읽으므로 Timer 가 등록될 때까지 최대 10초 기다립니다.
+     */
+    private Timer awaitTimer(SimpleMeterRegistry registry, String name, String tagKey, String tagValue)
+            throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            Timer timer = registry.find(name).tag(tagKey, tagValue).timer();
+            if (timer != null) return timer;
+            Thread.sleep(100L);
+        }
+        throw new AssertionError(name + " timer was not recorded");
+    }
+
+}
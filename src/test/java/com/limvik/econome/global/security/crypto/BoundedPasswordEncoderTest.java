@@ -0,0 +1,82 @@
+package com.limvik.econome.global.security.crypto;
+
+import com.limvik.econome.global.config.UserManagementConfig;
+import com.limvik.econome.global.exception.ErrorCode;
+import com.limvik.econome.global.exception.ErrorException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BoundedPasswordEncoderTest {
+
+    @Test
+    @DisplayName("해시 스레드와 대기열이 모두 사용 중이면 기다리지 않고 거절")
+    void shouldRejectIfQueueIsFull() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var passwordEncoder = new BoundedPasswordEncoder(new BlockingPasswordEncoder(started, release), 1, 1, 10_000L);
+
+        var running = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("password"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        var queued = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("password"));
+        while (passwordEncoder.queueSize() == 0) Thread.onSpinWait();
+
+        assertThatThrownBy(() -> passwordEncoder.encode("password"))
+                .isInstanceOf(ErrorException.class)
+                .extracting(e -> ((ErrorException) e).getErrorCode())
+                .isEqualTo(ErrorCode.BUSY_PASSWORD_HASHING);
+        assertThat(passwordEncoder.rejectedCount()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("encoded");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("encoded");
+        passwordEncoder.shutdown();
+    }
+
+    @Test
+    @DisplayName("접두어 없는 기존 BCrypt 해시를 검증하고, 다시 해시할 대상으로 판단")
+    void shouldMatchLegacyBcryptHashAndRequireUpgrade() {
+        var config = new UserManagementConfig();
+        config.setBcryptStrength(4);
+        var passwordEncoder = config.passwordEncoder();
+        var legacyHash = new BCryptPasswordEncoder(4).encode("password");
+
+        assertThat(passwordEncoder.matches("password", legacyHash)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(legacyHash)).isTrue();
+
+        var newHash = passwordEncoder.encode("password");
+        assertThat(newHash).startsWith("{bcrypt}");
+        assertThat(passwordEncoder.matches("password", newHash)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(newHash)).isFalse();
+        passwordEncoder.shutdown();
+    }
+
+    private record BlockingPasswordEncoder(CountDownLatch started, CountDownLatch release) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "encoded";
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return false;
+        }
+
+    }
+
+}
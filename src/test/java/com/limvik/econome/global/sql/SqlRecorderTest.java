@@ -0,0 +1,96 @@
+package com.limvik.econome.global.sql;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SqlRecorderTest {
+
+    @Test
+    @DisplayName("리터럴, IN 목록, 주석, 공백이 달라도 같은 fingerprint")
+    void shouldNormalizeLiteralsAndInList() {
+        String first = SqlFingerprint.normalize(
+                "/* load User */ select u1_0.id from users u1_0\n where u1_0.id in (?, ?, ?) and u1_0.username = 'a''b'");
+        String second = SqlFingerprint.normalize(
+                "SELECT u1_0.id FROM users u1_0 WHERE u1_0.id IN (?) AND u1_0.username = 'c' ");
+
+        assertThat(first).isEqualTo("select u1_0.id from users u1_0 where u1_0.id in (?) and u1_0.username = ?");
+        assertThat(second).isEqualTo(first);
+        assertThat(SqlFingerprint.normalize("select * from expenses e1_0 limit 20 offset 40"))
+                .isEqualTo("select * from expenses e1_0 limit ? offset ?");
+    }
+
+    @Test
+    @DisplayName("행 수만 다른 다중 행 INSERT 와 CASE WHEN 목록은 같은 fingerprint")
+    void shouldCollapseValuesTuplesAndWhenThenRuns() {
+        String single = SqlFingerprint.normalize(
+                "INSERT INTO budget_plans (user_id, category_id, date, amount) VALUES (?, ?, ?, ?)");
+        String multiple = SqlFingerprint.normalize(
+                "INSERT INTO budget_plans (user_id, category_id, date, amount) VALUES (?, ?, ?, ?), (?, ?, ?, ?),(1, 2, '2023-11-01', 3)");
+
+        assertThat(multiple).isEqualTo(single)
+                .isEqualTo("insert into budget_plans (user_id, category_id, date, amount) values (?, ?, ?, ?)");
+        assertThat(SqlFingerprint.normalize("UPDATE budget_plans SET amount = CASE category_id WHEN ? THEN ? WHEN ? THEN ? "
+                + "WHEN 3 THEN 1000 END WHERE user_id = ? AND date = ? AND category_id IN (?, ?, ?)"))
+                .isEqualTo(SqlFingerprint.normalize("UPDATE budget_plans SET amount = CASE category_id WHEN ? THEN ? END "
+                        + "WHERE user_id = ? AND date = ? AND category_id IN (?)"))
+                .isEqualTo("update budget_plans set amount = case category_id when ? then ? end "
+                        + "where user_id = ? and date = ? and category_id in (?)");
+    }
+
+    @Test
+    @DisplayName("같은 fingerprint 가 두 번 이상 실행되면 N+1 후보로 반환")
+    void shouldReportRepeatedFingerprints() {
+        SqlRecording recording = SqlRecorder.record(() -> {
+            SqlRecorder.statementPrepared("select * from expenses e1_0 where e1_0.user_id = ?");
+            SqlRecorder.statementPrepared("select * from categories c1_0 where c1_0.id = 1");
+            SqlRecorder.statementPrepared("select * from categories c1_0 where c1_0.id = 2");
+        });
+
+        assertThat(recording.statementCount()).isEqualTo(3);
+        assertThat(recording.repeated()).isEqualTo(Map.of("select * from categories c1_0 where c1_0.id = ?", 2));
+    }
+
+    @Test
+    @DisplayName("안쪽 기록이 끝나면 바깥 기록을 이어서 사용하며, 기록 중이 아닐 때는 기록하지 않음")
+    void shouldRestoreOuterRecording() {
+        SqlRecorder.statementPrepared("select 1");
+
+        SqlRecording outer = SqlRecorder.start();
+        SqlRecorder.statementPrepared("select * from users");
+        SqlRecording inner = SqlRecorder.record(() -> SqlRecorder.statementPrepared("select * from expenses"));
+        SqlRecorder.statementPrepared("select * from budget_plans");
+        SqlRecorder.stop();
+
+        assertThat(inner.counts()).containsOnlyKeys("select * from expenses");
+        assertThat(outer.counts()).containsOnlyKeys("select * from users", "select * from budget_plans");
+        assertThatThrownBy(SqlRecorder::stop).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("실행 시간을 실행한 SQL 문에 기록하고 fingerprint 별로 누적")
+    void shouldAccumulateExecutionTime() {
+        SqlRecording recording = SqlRecorder.record(() -> {
+            SqlRecorder.statementPrepared("select * from expenses where id = 1");
+            SqlRecorder.statementPrepared("select * from users where id = 1");
+            SqlRecorder.statementExecuted("select * from expenses where id = 1", Duration.ofMillis(5).toNanos());
+            SqlRecorder.statementExecuted("select * from categories", Duration.ofMillis(5).toNanos());
+        });
+        var stats = new SqlFingerprintStats(1);
+        stats.add(recording);
+        stats.add(SqlRecorder.record(() -> SqlRecorder.statementPrepared("select * from users")));
+
+        assertThat(recording.slowerThan(Duration.ofMillis(1)))
+                .containsExactly(Map.entry("select * from expenses where id = ?", Duration.ofMillis(5)));
+        assertThat(recording.totalTime()).isEqualTo(Duration.ofMillis(5));
+        assertThat(stats.top(10)).singleElement()
+                .satisfies(summary -> assertThat(summary.count()).isEqualTo(1));
+        assertThat(stats.droppedCount()).isEqualTo(2);
+    }
+
+}
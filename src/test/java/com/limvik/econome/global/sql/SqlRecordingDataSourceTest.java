@@ -0,0 +1,114 @@
+package com.limvik.econome.global.sql;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class SqlRecordingDataSourceTest {
+
+    @Mock
+    DataSource dataSource;
+
+    @Mock
+    Connection connection;
+
+    @Test
+    @DisplayName("JdbcTemplate 으로 실행한 SQL 문도 기록")
+    void shouldRecordJdbcTemplateStatements() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenAnswer(invocation -> mock(PreparedStatement.class));
+        var jdbcTemplate = new JdbcTemplate(new SqlRecordingDataSource(dataSource));
+
+        SqlRecording recording = SqlRecorder.record(() -> {
+            jdbcTemplate.update("DELETE FROM refresh_tokens WHERE user_id = ?", 1L);
+            jdbcTemplate.update("DELETE FROM refresh_tokens WHERE user_id = ?", 2L);
+        });
+
+        assertThat(recording.statementCount()).isEqualTo(2);
+        assertThat(recording.repeated()).isEqualTo(Map.of("delete from refresh_tokens where user_id = ?", 2));
+    }
+
+    @Test
+    @DisplayName("Statement 는 실행할 때, 배치는 한 번으로 기록하며 기록 중이 아닐 때는 기록하지 않음")
+    void shouldRecordStatementOnExecute() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenAnswer(invocation -> mock(Statement.class));
+        var recordingDataSource = new SqlRecordingDataSource(dataSource);
+        recordingDataSource.getConnection().createStatement().execute("select 1");
+
+        SqlRecording recording = SqlRecorder.record(() -> {
+            try (Connection recorded = recordingDataSource.getConnection();
+                 Statement statement = recorded.createStatement()) {
+                statement.executeQuery("select * from users where id = 1");
+                statement.addBatch("insert into categories (name) values ('A')");
+                statement.addBatch("insert into categories (name) values ('B')");
+                statement.executeBatch();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertThat(recording.counts()).containsExactly(
+                Map.entry("select * from users where id = ?", 1),
+                Map.entry("insert into categories (name) values (?)", 1));
+    }
+
+    @Test
+    @DisplayName("여러 PreparedStatement 를 번갈아 실행하면 실행 시간은 실행한 SQL 문에 기록")
+    void shouldChargeExecutionTimeToExecutedStatement() throws SQLException {
+        PreparedStatement slow = mock(PreparedStatement.class);
+        when(slow.executeUpdate()).thenAnswer(invocation -> {
+            Thread.sleep(5);
+            return 1;
+        });
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("update expenses set amount = ? where id = ?")).thenReturn(slow);
+        when(connection.prepareStatement("select * from users where id = ?")).thenReturn(mock(PreparedStatement.class));
+        var recordingDataSource = new SqlRecordingDataSource(dataSource);
+
+        SqlRecording recording = SqlRecorder.record(() -> {
+            try (Connection recorded = recordingDataSource.getConnection()) {
+                PreparedStatement update = recorded.prepareStatement("update expenses set amount = ? where id = ?");
+                PreparedStatement select = recorded.prepareStatement("select * from users where id = ?");
+                update.executeUpdate();
+                select.executeQuery();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertThat(recording.slowerThan(Duration.ofMillis(5)))
+                .containsOnlyKeys("update expenses set amount = ? where id = ?");
+    }
+
+    @Test
+    @DisplayName("감싼 커넥션은 자기 자신으로 unwrap 하고 나머지는 대상 커넥션에 위임")
+    void shouldDelegateToTargetConnection() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(true);
+
+        Connection recorded = new SqlRecordingDataSource(dataSource).getConnection();
+
+        assertThat(recorded.getAutoCommit()).isTrue();
+        assertThat(recorded.unwrap(Connection.class)).isSameAs(recorded);
+        assertThat(recorded).isEqualTo(recorded).isNotEqualTo(connection);
+    }
+
+}
@@ -0,0 +1,137 @@
+package com.limvik.econome.infrastructure.category;
+
+import com.limvik.econome.domain.budgetplan.entity.BudgetPlan;
+import com.limvik.econome.domain.category.entity.Category;
+import com.limvik.econome.domain.category.enums.BudgetCategory;
+import com.limvik.econome.domain.expense.entity.Expense;
+import com.limvik.econome.domain.user.entity.User;
+import com.limvik.econome.global.config.JpaAuditConfig;
+import com.limvik.econome.infrastructure.budgetplan.BudgetPlanRepository;
+import com.limvik.econome.infrastructure.expense.ExpenseRepository;
+import com.limvik.econome.infrastructure.user.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 변경되지 않는 카테고리는 2차 캐시에서 읽고, 예산과 지출 조회는 카테고리 테이블을 조회하지 않는지 Hibernate 통계로 확인합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaAuditConfig.class)
+@ActiveProfiles("integration")
+public class CategoryCacheTest {
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    CategoryRepository categoryRepository;
+
+    @Autowired
+    BudgetPlanRepository budgetPlanRepository;
+
+    @Autowired
+    ExpenseRepository expenseRepository;
+
+    User user;
+
+    Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        if (categoryRepository.count() == 0) {
+            categoryRepository.saveAll(Arrays.stream(BudgetCategory.values())
+                    .map(category -> Category.builder().name(category).build())
+                    .toList());
+            // 커밋되지 않은 카테고리는 2차 캐시에 보관되지 않으므로 애플리케이션 시작 시처럼 먼저 커밋
+            TestTransaction.flagForCommit();
+            TestTransaction.end();
+            TestTransaction.start();
+        }
+        user = userRepository.save(User.builder()
+                .username("categorycachetest")
+                .email("categorycachetest@categorycachetest.com")
+                .password("categorycachetest")
+                .minimumDailyExpense(10000L)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("카테고리는 처음 한 번만 SQL 문으로 조회하고 이후에는 2차 캐시에서 읽음")
+    void shouldReadCategoriesFromSecondLevelCache() {
+        for (BudgetCategory budgetCategory : BudgetCategory.values()) {
+            entityManager.find(Category.class, budgetCategory.getId());
+        }
+        entityManager.clear();
+        statistics.clear();
+
+        for (BudgetCategory budgetCategory : BudgetCategory.values()) {
+            Category category = entityManager.find(Category.class, budgetCategory.getId());
+            assertThat(category.getName()).isEqualTo(budgetCategory);
+        }
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(BudgetCategory.values().length);
+    }
+
+    @Test
+    @DisplayName("예산과 지출 조회는 카테고리 식별자만 사용하고 카테고리를 조회하지 않음")
+    void shouldNotLoadCategoryWhenReadingBudgetPlansAndExpenses() {
+        LocalDate date = LocalDate.now().withDayOfMonth(1);
+        for (long categoryId = 1; categoryId <= 3; categoryId++) {
+            budgetPlanRepository.save(BudgetPlan.builder()
+                    .user(user)
+                    .category(Category.builder().id(categoryId).build())
+                    .date(date)
+                    .amount(100_000L * categoryId)
+                    .build());
+        }
+        Expense saved = expenseRepository.save(Expense.builder()
+                .user(user)
+                .category(Category.builder().id(2L).build())
+                .datetime(date.atTime(12, 0))
+                .amount(5_000L)
+                .memo("memo")
+                .excluded(false)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<BudgetPlan> budgetPlans = budgetPlanRepository.findAllByUserAndDate(user, date);
+        List<Long> categoryIds = budgetPlans.stream().map(budgetPlan -> budgetPlan.getCategory().getId()).toList();
+        Expense expense = expenseRepository.findByUserAndId(user, saved.getId()).orElseThrow();
+        long expenseCategoryId = expense.getCategory().getId();
+
+        assertThat(categoryIds).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(expenseCategoryId).isEqualTo(2L);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityStatistics(Category.class.getName()).getLoadCount()).isZero();
+        assertThat(statistics.getEntityStatistics(Category.class.getName()).getFetchCount()).isZero();
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.limvik.econome.infrastructure.datasource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class PermitDataSourceTest {
+
+    @Mock
+    DataSource dataSource;
+
+    @Test
+    @DisplayName("허가 수만큼 커넥션을 빌려간 후에는 커넥션을 닫을 때까지 기다리다 시간이 지나면 실패")
+    void shouldWaitForPermitUntilConnectionClosed() throws SQLException {
+        when(dataSource.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        var permitDataSource = new PermitDataSource(dataSource, 2, 10L);
+
+        Connection first = permitDataSource.getConnection();
+        permitDataSource.getConnection();
+
+        assertThat(permitDataSource.availablePermits()).isZero();
+        assertThatThrownBy(permitDataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+
+        first.close();
+        first.close();
+
+        assertThat(permitDataSource.availablePermits()).isEqualTo(1);
+        assertThat(permitDataSource.getConnection()).isNotNull();
+        verify(dataSource, times(3)).getConnection();
+    }
+
+    @Test
+    @DisplayName("커넥션 풀에서 커넥션을 얻지 못하면 허가를 반환")
+    void shouldReleasePermitIfTargetFails() throws SQLException {
+        when(dataSource.getConnection()).thenThrow(new SQLTransientConnectionException("timeout"));
+        var permitDataSource = new PermitDataSource(dataSource, 1, 10L);
+
+        assertThatThrownBy(permitDataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+
+        assertThat(permitDataSource.availablePermits()).isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.limvik.econome.infrastructure.datasource;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.limvik.econome.web.mock.controller.ReadThenWriteStubController;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "datasource.replica.enabled=true",
+        "datasource.replica.url=jdbc:tc:mysql:8.0.35:///replica",
+        "datasource.replica.username=test",
+        "datasource.replica.password=test",
+        "datasource.replica.max-lag-seconds=5",
+        "datasource.replica.lag-check-interval-ms=3600000"})
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("integration")
+public class ReadWriteRoutingDataSourceTest {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본, 그 외 트랜잭션은 원본 사용")
+    void shouldRouteReadOnlyTransactionToReplica() {
+        replicaLagMonitor.update(0L);
+
+        assertThat(currentDatabase(true)).isEqualTo("replica");
+        assertThat(currentDatabase(false)).isNotEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용 범위를 넘거나 확인할 수 없으면 읽기 전용 트랜잭션도 원본 사용")
+    void shouldRouteReadOnlyTransactionToPrimaryIfReplicaLags() {
+        replicaLagMonitor.update(10L);
+        assertThat(currentDatabase(true)).isNotEqualTo("replica");
+
+        replicaLagMonitor.update(null);
+        assertThat(currentDatabase(true)).isNotEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("복제 상태가 없는 복제본은 사용할 수 없는 것으로 판단")
+    void shouldMarkReplicaUnavailableIfNotReplicating() {
+        replicaLagMonitor.update(0L);
+
+        replicaLagMonitor.check();
+
+        assertThat(replicaLagMonitor.isReplicaAvailable()).isFalse();
+        assertThat(currentDatabase(true)).isNotEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("한 요청에서 읽기 전용 트랜잭션 다음의 쓰기 트랜잭션은 복제본 커넥션을 재사용하지 않고 원본 사용")
+    void shouldRouteWriteToPrimaryAfterReadOnlyInSameRequest() throws Exception {
+        replicaLagMonitor.update(0L);
+
+        String body = mockMvc.perform(get(ReadThenWriteStubController.PATH))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        List<String> databases = objectMapper.readValue(body, new TypeReference<>() {});
+
+        assertThat(databases.get(0)).isEqualTo("replica");
+        assertThat(databases.get(1)).isNotEqualTo("replica");
+    }
+
+    private String currentDatabase(boolean readOnly) {
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status ->
+                jdbcTemplate.queryForObject("SELECT DATABASE()", String.class));
+    }
+
+}
@@ -0,0 +1,153 @@
+package com.limvik.econome.infrastructure.expense;
+
+import com.limvik.econome.domain.expense.service.ExpenseService;
+import com.limvik.econome.domain.user.entity.User;
+import com.limvik.econome.infrastructure.user.UserRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * 사용자별 지출 기록 수(10k, 100k, 1M)에 따른 지출 집계 조회의 지연시간(p50, p99)을 측정합니다.
+ * 일반 테스트에서는 제외되며 {@code ./gradlew benchmark} 로 실행합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:tc:mysql:8.0.35:///econome?rewriteBatchedStatements=true",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false"})
+@ActiveProfiles("integration")
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class ExpenseAggregateBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ExpenseAggregateBenchmarkTest.class);
+
+    private static final int INSERT_BATCH_SIZE = 10_000;
+    private static final int WARMUP_ITERATIONS = 50;
+    private static final int MEASURE_ITERATIONS = 500;
+    private static final long HISTORY_SECONDS = 3L * 365 * 24 * 60 * 60;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    ExpenseRepository expenseRepository;
+
+    @Autowired
+    DailyExpenseRollupRepository dailyExpenseRollupRepository;
+
+    @Autowired
+    ExpenseService expenseService;
+
+    long nextExpenseId = 1;
+
+    @AfterAll
+    void tearDown() {
+        expenseRepository.deleteAllInBatch();
+        dailyExpenseRollupRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @ParameterizedTest(name = "사용자당 지출 {0}건")
+    @ValueSource(ints = {10_000, 100_000, 1_000_000})
+    @DisplayName("사용자당 지출 기록 수에 따른 집계 조회 지연시간 측정")
+    void measureAggregateLatency(int rowsPerUser) {
+        User user = userRepository.save(User.builder()
+                .username("bench" + rowsPerUser)
+                .email("bench%d@bench.com".formatted(rowsPerUser))
+                .password("benchmark")
+                .minimumDailyExpense(10000L)
+                .build());
+        insertExpenses(user.getId(), rowsPerUser);
+
+        measure("today", rowsPerUser, expenseService::getTodayExpenses, user.getId());
+        measure("monthly-stat", rowsPerUser, expenseService::getExpenseMonthlyStat, user.getId());
+        measure("weekly-stat", rowsPerUser, expenseService::getExpenseWeeklyStat, user.getId());
+    }
+
+    /**
+     * 최근 3년 동안 균등하게 분포된 지출 기록을 JDBC batch 로 저장하고, 일자별 카테고리별 지출 합계를 생성합니다.
+     */
+    private void insertExpenses(long userId, int rows) {
+        LocalDateTime now = LocalDateTime.now();
+        long step = Math.max(1, HISTORY_SECONDS / rows);
+        for (int offset = 0; offset < rows; offset += INSERT_BATCH_SIZE) {
+            int from = offset;
+            int size = Math.min(INSERT_BATCH_SIZE, rows - offset);
+            long firstId = nextExpenseId;
+            nextExpenseId += size;
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO expenses (id, user_id, category_id, datetime, amount, memo, exclude_in_total) " +
+                            "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            int row = from + i;
+                            ps.setLong(1, firstId + i);
+                            ps.setLong(2, userId);
+                            ps.setLong(3, row % 12 + 1);
+                            ps.setTimestamp(4, Timestamp.valueOf(now.minusSeconds(row * step)));
+                            ps.setLong(5, 1000L + row % 50 * 100L);
+                            ps.setString(6, null);
+                            ps.setBoolean(7, row % 20 == 0);
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return size;
+                        }
+                    });
+        }
+        jdbcTemplate.update(
+                "INSERT INTO daily_expense_rollups (user_id, day, category_id, amount_sum, count, excluded_sum) " +
+                        "SELECT user_id, DATE(datetime), category_id, SUM(amount), COUNT(*), " +
+                        "SUM(CASE WHEN exclude_in_total THEN amount ELSE 0 END) " +
+                        "FROM expenses WHERE user_id = ? " +
+                        "GROUP BY user_id, DATE(datetime), category_id", userId);
+        jdbcTemplate.execute("ANALYZE TABLE expenses, daily_expense_rollups");
+    }
+
+    private void measure(String name, int rowsPerUser, LongConsumer query, long userId) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            query.accept(userId);
+        }
+        long[] elapsed = new long[MEASURE_ITERATIONS];
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            query.accept(userId);
+            elapsed[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(elapsed);
+        log.info("[benchmark] {} rows/user={} p50={}us p99={}us max={}us",
+                name, rowsPerUser,
+                percentile(elapsed, 0.50) / 1000,
+                percentile(elapsed, 0.99) / 1000,
+                elapsed[elapsed.length - 1] / 1000);
+    }
+
+    private long percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+}
@@ -0,0 +1,137 @@
+package com.limvik.econome.infrastructure.expense;
+
+import com.limvik.econome.domain.category.entity.Category;
+import com.limvik.econome.domain.category.enums.BudgetCategory;
+import com.limvik.econome.domain.expense.entity.Expense;
+import com.limvik.econome.domain.expense.entity.ExpenseDetail;
+import com.limvik.econome.domain.user.entity.User;
+import com.limvik.econome.global.config.JpaAuditConfig;
+import com.limvik.econome.global.sql.SqlRecorder;
+import com.limvik.econome.global.sql.SqlRecording;
+import com.limvik.econome.global.sql.SqlRecordingDataSourcePostProcessor;
+import com.limvik.econome.infrastructure.category.CategoryRepository;
+import com.limvik.econome.infrastructure.user.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 지출 기록 조회가 엔티티를 만들지 않고 조회 건수와 상관없이 하나의 SQL 문으로 처리되는지 Hibernate 통계와 SQL 기록으로 확인합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaAuditConfig.class, SqlRecordingDataSourcePostProcessor.class})
+@ActiveProfiles("integration")
+public class ExpenseReadQueryTest {
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    CategoryRepository categoryRepository;
+
+    @Autowired
+    ExpenseRepository expenseRepository;
+
+    User user;
+
+    Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        if (categoryRepository.count() == 0) {
+            categoryRepository.saveAll(Arrays.stream(BudgetCategory.values())
+                    .map(category -> Category.builder().name(category).build())
+                    .toList());
+        }
+        user = userRepository.save(User.builder()
+                .username("readquerytest")
+                .email("readquerytest@readquerytest.com")
+                .password("readquerytest")
+                .minimumDailyExpense(10000L)
+                .build());
+        List<Category> categories = categoryRepository.findAll();
+        LocalDateTime now = LocalDate.now().atTime(12, 0);
+        for (int i = 0; i < 10; i++) {
+            expenseRepository.save(Expense.builder()
+                    .user(user)
+                    .category(categories.get(i % 2))
+                    .datetime(now.plusMinutes(i))
+                    .amount(1000L * (i + 1))
+                    .memo("memo" + i)
+                    .excluded(false)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("지출 목록 조회는 하나의 SQL 문으로 처리되며 엔티티를 만들지 않음")
+    void shouldReadExpenseListWithSingleStatement() {
+        Long categoryId = categoryRepository.findAll().get(0).getId();
+        statistics.clear();
+        LocalDate today = LocalDate.now();
+
+        List<ExpenseDetail> expenses = expenseRepository.findExpenseListAfter(
+                user.getId(), categoryId, today.atStartOfDay(), today.plusDays(1).atStartOfDay(),
+                0, Long.MAX_VALUE, today.atStartOfDay(), 0, PageRequest.of(0, 100));
+
+        assertThat(expenses).hasSize(5);
+        assertThat(expenses).allMatch(expense -> expense.categoryId().equals(categoryId));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("지출 조회는 하나의 SQL 문으로 처리되며 사용자와 카테고리를 조회하지 않음")
+    void shouldReadExpenseDetailWithSingleStatement() {
+        long expenseId = expenseRepository.findAll().get(0).getId();
+        entityManager.clear();
+        statistics.clear();
+
+        var expense = expenseRepository.findDetailByUserIdAndId(user.getId(), expenseId);
+
+        assertThat(expense).isPresent();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("지출 목록 조회 중 조회한 행마다 반복되는 SQL 문이 없음")
+    void shouldNotRepeatStatementsPerRow() {
+        Long categoryId = categoryRepository.findAll().get(1).getId();
+        LocalDate today = LocalDate.now();
+
+        SqlRecording recording = SqlRecorder.record(() -> expenseRepository.findExpenseListAfter(
+                user.getId(), categoryId, today.atStartOfDay(), today.plusDays(1).atStartOfDay(),
+                0, Long.MAX_VALUE, today.atStartOfDay(), 0, PageRequest.of(0, 100)));
+
+        assertThat(recording.statementCount()).isEqualTo(1);
+        assertThat(recording.repeated()).isEmpty();
+    }
+
+}
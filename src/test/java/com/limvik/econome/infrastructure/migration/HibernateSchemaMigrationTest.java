@@ -0,0 +1,102 @@
+package com.limvik.econome.infrastructure.migration;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hibernate 가 hbm2ddl=create 로 만든 테이블에 데이터가 있는 데이터베이스를 V9 가 Flyway 스키마로 옮기는지 확인합니다.
+ * 테이블 이름의 대소문자를 구분하는(lower_case_table_names=0) MySQL 에서는 Hibernate 의 테이블이 Flyway 의 테이블과 별도로 존재합니다.
+ */
+@Testcontainers
+public class HibernateSchemaMigrationTest {
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>(DockerImageName.parse("mysql:8.0.35"))
+            .withCommand("--lower_case_table_names=0");
+
+    @Test
+    @DisplayName("Hibernate 가 만든 사용자, 카테고리, 지출, 예산을 식별자를 유지하며 옮기고 지출 합계를 다시 계산")
+    void shouldMoveHibernateTablesIntoFlywaySchema() {
+        DataSource dataSource = new DriverManagerDataSource(mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword());
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        Flyway.configure().dataSource(dataSource).target("1").load().migrate();
+        createHibernateSchema(jdbcTemplate);
+
+        Flyway.configure().dataSource(dataSource).load().migrate();
+
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT `username` FROM `users` WHERE `minimum_daily_expense` = 20000 ORDER BY `id`", String.class))
+                .containsExactly("alice", "bob");
+        assertThat(jdbcTemplate.queryForList("SELECT `id` FROM `expenses` ORDER BY `id`", Long.class))
+                .containsExactly(10L, 11L, 12L);
+        assertThat(jdbcTemplate.queryForList("SELECT `id`, `amount` FROM `budget_plans` ORDER BY `id`"))
+                .containsExactly(Map.of("id", 21L, "amount", 200000L), Map.of("id", 22L, "amount", 50000L));
+        assertThat(jdbcTemplate.queryForMap("SELECT `amount_sum`, `count`, `excluded_sum` FROM `daily_expense_rollups` "
+                + "WHERE `user_id` = 1 AND `day` = '2023-11-01' AND `category_id` = 1"))
+                .containsEntry("amount_sum", 8000L)
+                .containsEntry("count", 2)
+                .containsEntry("excluded_sum", 3000L);
+        assertThat(jdbcTemplate.queryForList("SELECT `TABLE_NAME` FROM `information_schema`.`TABLES` "
+                + "WHERE `TABLE_SCHEMA` = DATABASE() AND (BINARY `TABLE_NAME` IN ('Users', 'Expenses', 'BudgetPlans', "
+                + "'categoriess') OR `TABLE_NAME` LIKE '%\\_seq')", String.class))
+                .isEmpty();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT `DELETE_RULE` FROM `information_schema`.`REFERENTIAL_CONSTRAINTS` "
+                + "WHERE `CONSTRAINT_SCHEMA` = DATABASE() AND `CONSTRAINT_NAME` = 'user_id_refresh_tokens'", String.class))
+                .isEqualTo("CASCADE");
+
+        jdbcTemplate.update("INSERT INTO `expenses` (`user_id`, `category_id`, `datetime`, `amount`) "
+                + "VALUES (2, 2, '2023-11-02 09:00:00', 1000)");
+        assertThat(jdbcTemplate.queryForObject("SELECT MAX(`id`) FROM `expenses`", Long.class)).isGreaterThan(12L);
+    }
+
+    private void createHibernateSchema(JdbcTemplate jdbcTemplate) {
+        List.of(
+                "CREATE TABLE `Users` (`agreeAlarm` BIT NOT NULL, `minimumDailyExpense` BIGINT NOT NULL, "
+                        + "`createTime` DATETIME(6), `id` BIGINT NOT NULL, `password` VARCHAR(64) NOT NULL, "
+                        + "`username` VARCHAR(20) UNIQUE, `email` VARCHAR(255) UNIQUE, `refreshToken` VARCHAR(255), "
+                        + "PRIMARY KEY (`id`)) ENGINE=InnoDB",
+                "CREATE TABLE `categoriess` (`id` BIGINT NOT NULL, `name` VARCHAR(255) NOT NULL, PRIMARY KEY (`id`)) "
+                        + "ENGINE=InnoDB",
+                "CREATE TABLE `Expenses` (`amount` BIGINT, `exclude_in_total` BIT, `category_id` BIGINT NOT NULL, "
+                        + "`datetime` DATETIME(6), `id` BIGINT NOT NULL, `user_id` BIGINT NOT NULL, `memo` VARCHAR(60), "
+                        + "PRIMARY KEY (`id`), "
+                        + "CONSTRAINT `FK1expensecategory` FOREIGN KEY (`category_id`) REFERENCES `categoriess` (`id`), "
+                        + "CONSTRAINT `FK1expenseuser` FOREIGN KEY (`user_id`) REFERENCES `Users` (`id`)) ENGINE=InnoDB",
+                "CREATE TABLE `BudgetPlans` (`amount` BIGINT NOT NULL, `date` DATE NOT NULL, "
+                        + "`category_id` BIGINT NOT NULL, `id` BIGINT NOT NULL, `user_id` BIGINT NOT NULL, "
+                        + "PRIMARY KEY (`id`), "
+                        + "CONSTRAINT `FK1plancategory` FOREIGN KEY (`category_id`) REFERENCES `categoriess` (`id`), "
+                        + "CONSTRAINT `FK1planuser` FOREIGN KEY (`user_id`) REFERENCES `Users` (`id`)) ENGINE=InnoDB",
+                "CREATE TABLE `User_seq` (`next_val` BIGINT) ENGINE=InnoDB",
+                "CREATE TABLE `Category_seq` (`next_val` BIGINT) ENGINE=InnoDB",
+                "CREATE TABLE `Expense_seq` (`next_val` BIGINT) ENGINE=InnoDB",
+                "CREATE TABLE `BudgetPlan_seq` (`next_val` BIGINT) ENGINE=InnoDB",
+                "INSERT INTO `Users` (`id`, `username`, `email`, `password`, `minimumDailyExpense`, `agreeAlarm`, `createTime`) "
+                        + "VALUES (1, 'alice', 'alice@example.com', 'hash', 20000, 1, '2023-11-01 00:00:00'), "
+                        + "(2, 'bob', 'bob@example.com', 'hash', 20000, 0, '2023-11-01 00:00:00')",
+                "INSERT INTO `categoriess` (`id`, `name`) VALUES (1, 'GROCERIES'), (2, 'ALCOHOL_TOBACCO')",
+                "INSERT INTO `Expenses` (`id`, `user_id`, `category_id`, `datetime`, `amount`, `memo`, `exclude_in_total`) "
+                        + "VALUES (10, 1, 1, '2023-11-01 10:00:00', 5000, NULL, 0), "
+                        + "(11, 1, 1, '2023-11-01 12:00:00', 3000, 'gift', 1), "
+                        + "(12, 2, 2, '2023-11-01 20:00:00', 7000, NULL, 0)",
+                "INSERT INTO `BudgetPlans` (`id`, `user_id`, `category_id`, `date`, `amount`) "
+                        + "VALUES (20, 1, 1, '2023-11-01', 100000), (21, 1, 1, '2023-11-01', 200000), "
+                        + "(22, 2, 2, '2023-11-01', 50000)"
+        ).forEach(jdbcTemplate::execute);
+    }
+
+}
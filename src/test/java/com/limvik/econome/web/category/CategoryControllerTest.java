@@ -1,6 +1,5 @@
 package com.limvik.econome.web.category;
 
-import com.limvik.econome.domain.category.service.CategoryService;
 import com.limvik.econome.global.config.WebAuthorizationConfig;
 import com.limvik.econome.global.exception.ErrorCode;
 import com.limvik.econome.global.security.jwt.provider.JwtProvider;
@@ -27,9 +26,6 @@ public class CategoryControllerTest {
     @Autowired
     MockMvc mockMvc;
 
-    @MockBean
-    CategoryService categoryService;
-
     @MockBean
     PasswordEncoder passwordEncoder;
 
@@ -0,0 +1,57 @@
+package com.limvik.econome.web.mock.controller;
+
+import com.limvik.econome.domain.alarm.service.dto.AlarmBatch;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 알림 webhook 을 대신하는 테스트용 수신 서버입니다.
+ * 받은 알림 묶음을 기록하며, 지정한 횟수만큼 503 으로 응답하여 전송 실패를 흉내냅니다.
+ */
+@RestController
+@RequestMapping(AlarmWebhookStubController.PATH)
+public class AlarmWebhookStubController {
+
+    public static final String PATH = "/mock/alarm-webhook";
+
+    private final List<AlarmBatch> received = new CopyOnWriteArrayList<>();
+    private final AtomicInteger failuresRemaining = new AtomicInteger();
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    @PostMapping
+    public ResponseEntity<Void> receive(@RequestBody AlarmBatch batch) {
+        requestCount.incrementAndGet();
+        if (failuresRemaining.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        received.add(batch);
+        return ResponseEntity.ok().build();
+    }
+
+    public List<AlarmBatch> getReceived() {
+        return received;
+    }
+
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    public void failNext(int failures) {
+        failuresRemaining.set(failures);
+    }
+
+    public void reset() {
+        received.clear();
+        failuresRemaining.set(0);
+        requestCount.set(0);
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.limvik.econome.web.mock.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 한 요청 안에서 읽기 전용 트랜잭션 다음에 쓰기 트랜잭션을 실행하고, 각 트랜잭션이 사용한 데이터베이스 이름을 반환합니다.
+ * 요청이 끝날 때까지 EntityManager 가 커넥션을 유지하면 두 번째 트랜잭션도 첫 번째 트랜잭션의 커넥션을 사용합니다.
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping(ReadThenWriteStubController.PATH)
+public class ReadThenWriteStubController {
+
+    public static final String PATH = "/mock/read-then-write";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @GetMapping
+    public List<String> readThenWrite() {
+        return List.of(currentDatabase(true), currentDatabase(false));
+    }
+
+    private String currentDatabase(boolean readOnly) {
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status ->
+                jdbcTemplate.queryForObject("SELECT DATABASE()", String.class));
+    }
+
+}
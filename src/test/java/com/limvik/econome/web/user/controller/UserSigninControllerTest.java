@@ -2,9 +2,12 @@ package com.limvik.econome.web.user.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.limvik.econome.domain.user.entity.User;
+import com.limvik.econome.domain.user.entity.UserProjection;
+import com.limvik.econome.domain.user.service.RefreshTokenService;
 import com.limvik.econome.domain.user.service.UserService;
 import com.limvik.econome.global.config.WebAuthorizationConfig;
 import com.limvik.econome.global.exception.ErrorCode;
+import com.limvik.econome.global.exception.ErrorException;
 import com.limvik.econome.global.security.jwt.provider.JwtProvider;
 import com.limvik.econome.infrastructure.user.UserRepository;
 import com.limvik.econome.web.user.dto.SigninRequest;
@@ -39,6 +42,9 @@ public class UserSigninControllerTest {
     @MockBean
     UserService userService;
 
+    @MockBean
+    RefreshTokenService refreshTokenService;
+
     @MockBean
     PasswordEncoder passwordEncoder;
 
@@ -70,8 +76,8 @@ public class UserSigninControllerTest {
         given(userService.getTokens(any(User.class))).willReturn(tokens);
         given(passwordEncoder.encode(password)).willReturn(anyString());
         given(passwordEncoder.matches(password, anyString())).willReturn(true);
-        var user = User.builder().username(username).password(password).build();
-        given(userRepository.findByUsername(username)).willReturn(Optional.of(user));
+        given(userRepository.findCredentialByUsername(username))
+                .willReturn(Optional.of(credential(1L, username, password)));
 
         var signinResponse = new SigninResponse(tokens.get("accessToken"), tokens.get("refreshToken"));
 
@@ -93,7 +99,7 @@ public class UserSigninControllerTest {
         given(userService.getTokens(any(User.class))).willReturn(anyMap());
         given(passwordEncoder.encode(password)).willReturn(anyString());
         given(passwordEncoder.matches(password, anyString())).willReturn(false);
-        given(userRepository.findByUsername(username)).willReturn(Optional.ofNullable(null));
+        given(userRepository.findCredentialByUsername(username)).willReturn(Optional.empty());
 
         mockMvc.perform(post("/api/v1/users/signin")
                         .contentType("application/json")
@@ -119,4 +125,53 @@ public class UserSigninControllerTest {
                 .andExpect(jsonPath("$.['errorReason']").value(ErrorCode.UNPROCESSABLE_USERINFO.getMessage()));
     }
 
+    @Test
+    @DisplayName("JSON 형식이 아닌 로그인 요청")
+    void shouldReturn422IfNotJsonBody() throws Exception {
+
+        mockMvc.perform(post("/api/v1/users/signin")
+                        .contentType("application/json")
+                        .content("username=test&password=password"))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.['errorCode']").value(ErrorCode.UNPROCESSABLE_USERINFO.name()));
+    }
+
+    @Test
+    @DisplayName("비밀번호 해시 대기열이 가득 찬 경우의 로그인 요청")
+    void shouldReturn503IfPasswordHashingIsBusy() throws Exception {
+
+        var username = "test";
+        var password = "password";
+        var signinRequest = new SigninRequest(username, password);
+        given(userRepository.findCredentialByUsername(username))
+                .willReturn(Optional.of(credential(1L, username, password)));
+        given(passwordEncoder.matches(eq(password), anyString()))
+                .willThrow(new ErrorException(ErrorCode.BUSY_PASSWORD_HASHING));
+
+        mockMvc.perform(post("/api/v1/users/signin")
+                        .contentType("application/json")
+                        .content(requestJson.write(signinRequest).getJson()))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.['errorCode']").value(ErrorCode.BUSY_PASSWORD_HASHING.name()));
+    }
+
+    private UserProjection.Credential credential(Long id, String username, String password) {
+        return new UserProjection.Credential() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getUsername() {
+                return username;
+            }
+
+            @Override
+            public String getPassword() {
+                return password;
+            }
+        };
+    }
+
 }
@@ -2,6 +2,7 @@ package com.limvik.econome.web.user.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.limvik.econome.domain.user.entity.User;
+import com.limvik.econome.domain.user.service.RefreshTokenService;
 import com.limvik.econome.domain.user.service.UserService;
 import com.limvik.econome.global.config.WebAuthorizationConfig;
 import com.limvik.econome.global.exception.ErrorCode;
@@ -36,6 +37,9 @@ public class UserSignupControllerTest {
     @MockBean
     UserService userService;
 
+    @MockBean
+    RefreshTokenService refreshTokenService;
+
     @MockBean
     PasswordEncoder passwordEncoder;
 